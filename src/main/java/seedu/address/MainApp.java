@@ -3,6 +3,11 @@ package seedu.address;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -12,6 +17,7 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
@@ -25,12 +31,12 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AttractionListStorage;
+import seedu.address.storage.DataFormatConverter;
 import seedu.address.storage.ItineraryListStorage;
-import seedu.address.storage.JsonAttractionListStorage;
-import seedu.address.storage.JsonItineraryListStorage;
+import seedu.address.storage.JournalingStorageManager;
+import seedu.address.storage.JsonJournalStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
-import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
@@ -42,6 +48,9 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(0, 6, 0, true);
 
+    private static final String JOURNAL_FILE_NAME = "journal.jsonl";
+    private static final int DATA_LOADER_THREADS = 2;
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -55,72 +64,196 @@ public class MainApp extends Application {
         logger.info("=============================[ Initializing TrackPad ]===========================");
         super.init();
 
+        long startTime = System.nanoTime();
         AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
+        config = timed("config", () -> initConfig(appParameters.getConfigPath()));
+        FileUtil.setDurability(config.getDurability(), config.getSyncIntervalMillis());
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AttractionListStorage attractionListStorage =
-                new JsonAttractionListStorage(userPrefs.getAttractionListFilePath());
-        ItineraryListStorage itineraryListStorage =
-                new JsonItineraryListStorage(userPrefs.getItineraryListFilePath());
-        storage = new StorageManager(attractionListStorage, itineraryListStorage, userPrefsStorage);
+        UserPrefs userPrefs = timed("user prefs", () -> initPrefs(userPrefsStorage));
+        long conversionStartTime = System.nanoTime();
+        initDataFormat(userPrefs);
+        logPhaseTime("data format conversion", conversionStartTime);
+        AttractionListStorage attractionListStorage = DataFormatConverter.createAttractionListStorage(
+                userPrefs.getDataFormat(), userPrefs.getAttractionListFilePath());
+        ItineraryListStorage itineraryListStorage = DataFormatConverter.createItineraryListStorage(
+                userPrefs.getDataFormat(), userPrefs.getItineraryListFilePath());
+        JsonJournalStorage journalStorage =
+                new JsonJournalStorage(userPrefs.getAttractionListFilePath().resolveSibling(JOURNAL_FILE_NAME));
+        JournalingStorageManager journalingStorage = new JournalingStorageManager(attractionListStorage,
+                itineraryListStorage, userPrefsStorage, journalStorage);
+        storage = journalingStorage;
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        model = initModelManager(journalingStorage, userPrefs);
 
         logic = new LogicManager(model, storage);
 
         ui = new UiManager(logic);
+        logger.info("Initialized TrackPad in " + getMillisSince(startTime) + " ms");
+    }
+
+    /**
+     * Converts the data files to the data format of {@code userPrefs}, if they are still in another format.
+     * The data files are left as they are if they cannot be converted.
+     */
+    private void initDataFormat(ReadOnlyUserPrefs userPrefs) {
+        try {
+            DataFormatConverter.convertDataFiles(userPrefs);
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will not be converted to "
+                    + userPrefs.getDataFormat());
+        } catch (IOException e) {
+            logger.warning("Problem while converting data files to " + userPrefs.getDataFormat() + ": " + e);
+        }
     }
 
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s trackpad and {@code userPrefs}. <br>
      * The data from the sample trackpad will be used instead if {@code storage}'s trackpad is not found,
      * or an empty trackpad will be used instead if errors occur when reading {@code storage}'s trackpad.
+     * The modifications recorded in {@code storage}'s journal are then applied, and the modifications made to the
+     * returned model are recorded in it.
+     * The attraction and itinerary list files are read in parallel. The itinerary list only waits for the
+     * attraction list when it resolves its first reference to an attraction.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        Optional<ReadOnlyAttractionList> attractionListOptional;
+    private Model initModelManager(JournalingStorageManager storage, ReadOnlyUserPrefs userPrefs) {
         ReadOnlyAttractionList initialAttractionList;
-        Optional<ReadOnlyItineraryList> itineraryListOptional;
         ReadOnlyItineraryList initialItineraryList;
 
-        // attraction list
+        ExecutorService dataLoader = Executors.newFixedThreadPool(DATA_LOADER_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "data-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
         try {
-            attractionListOptional = storage.readAttractionList();
+            // The attraction list is submitted first, so the itinerary list never waits for a task yet to start.
+            Future<Optional<ReadOnlyAttractionList>> attractionListRead =
+                    dataLoader.submit(() -> timed("attraction list", storage::readAttractionList));
+            Future<Optional<ReadOnlyItineraryList>> itineraryListRead = dataLoader.submit(() ->
+                    timed("itinerary list", () -> storage.readItineraryList(() -> getReadResult(attractionListRead))));
+
+            initialAttractionList = initAttractionList(attractionListRead);
+            initialItineraryList = initItineraryList(itineraryListRead);
+        } finally {
+            dataLoader.shutdown();
+        }
+
+        // journal
+        AttractionList attractionList = new AttractionList(initialAttractionList);
+        ItineraryList itineraryList = new ItineraryList(initialItineraryList);
+        long journalStartTime = System.nanoTime();
+        try {
+            storage.replayJournal(attractionList, itineraryList);
+        } catch (DataConversionException e) {
+            logger.warning("Journal file not in the correct format. Will be starting without the changes in it");
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the journal file. Will be starting without the changes in it");
+        }
+        logPhaseTime("journal", journalStartTime);
+
+        ModelManager modelManager = new ModelManager(attractionList, itineraryList, userPrefs);
+        storage.startJournaling(modelManager.getAttractionList(), modelManager.getItineraryList());
+        modelManager.addChangeListener(storage);
+        return modelManager;
+    }
+
+    /**
+     * Returns the attraction list read by {@code attractionListRead}, or the sample attraction list if the file is
+     * not found, or an empty attraction list if errors occur when reading the file.
+     */
+    private ReadOnlyAttractionList initAttractionList(Future<Optional<ReadOnlyAttractionList>> attractionListRead) {
+        try {
+            Optional<ReadOnlyAttractionList> attractionListOptional = getResult(attractionListRead);
             if (attractionListOptional.isEmpty()) {
                 logger.info("Attraction data file not found. Will be starting with a sample AttractionList");
             }
-            initialAttractionList = attractionListOptional.orElseGet(SampleDataUtil::getSampleAttractionsList);
+            return attractionListOptional.orElseGet(SampleDataUtil::getSampleAttractionsList);
         } catch (DataConversionException e) {
             logger.warning("Attraction data file not in the correct format. Will be starting with an empty"
                     + " AttractionList");
-            initialAttractionList = new AttractionList();
+            return new AttractionList();
         } catch (IOException e) {
             logger.warning("Problem while reading from the attraction data file. Will be starting with an"
                     + " empty AttractionList");
-            initialAttractionList = new AttractionList();
+            return new AttractionList();
         }
+    }
 
-        // itinerary list
+    /**
+     * Returns the itinerary list read by {@code itineraryListRead}, or the sample itinerary list if the file is
+     * not found, or an empty itinerary list if errors occur when reading the file.
+     */
+    private ReadOnlyItineraryList initItineraryList(Future<Optional<ReadOnlyItineraryList>> itineraryListRead) {
         try {
-            itineraryListOptional = storage.readItineraryList();
+            Optional<ReadOnlyItineraryList> itineraryListOptional = getResult(itineraryListRead);
             if (itineraryListOptional.isEmpty()) {
                 logger.info("Itinerary data file not found. Will be starting with a sample ItineraryList");
             }
-            initialItineraryList = itineraryListOptional.orElseGet(SampleDataUtil::getSampleItineraryList);
+            return itineraryListOptional.orElseGet(SampleDataUtil::getSampleItineraryList);
         } catch (DataConversionException e) {
             logger.warning("Itinerary data file not in the correct format. Will be starting with an empty"
                     + " ItineraryList");
-            initialItineraryList = new ItineraryList();
+            return new ItineraryList();
         } catch (IOException e) {
             logger.warning("Problem while reading from the itinerary data file. Will be starting with an"
                     + " empty ItineraryList");
-            initialItineraryList = new ItineraryList();
+            return new ItineraryList();
+        }
+    }
+
+    /**
+     * Waits for {@code read} to complete and returns its result, rethrowing the exception it failed with.
+     */
+    private static <T> T getResult(Future<T> read) throws DataConversionException, IOException {
+        try {
+            return read.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading data", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof DataConversionException) {
+                throw (DataConversionException) cause;
+            } else if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Returns the attraction list read by {@code attractionListRead}, or an empty {@code Optional} if it could not
+     * be read, in which case there are no attractions to refer to.
+     */
+    private static Optional<ReadOnlyAttractionList> getReadResult(
+            Future<Optional<ReadOnlyAttractionList>> attractionListRead) {
+        try {
+            return getResult(attractionListRead);
+        } catch (DataConversionException | IOException e) {
+            return Optional.empty();
         }
+    }
+
+    /**
+     * Runs {@code phase} of the initialization and logs how long it took.
+     */
+    private static <T> T timed(String phaseName, Callable<T> phase) throws Exception {
+        long startTime = System.nanoTime();
+        T result = phase.call();
+        logPhaseTime(phaseName, startTime);
+        return result;
+    }
+
+    private static void logPhaseTime(String phaseName, long startNanoTime) {
+        logger.info("Loaded " + phaseName + " in " + getMillisSince(startNanoTime) + " ms");
+    }
 
-        return new ModelManager(initialAttractionList, initialItineraryList, userPrefs);
+    private static long getMillisSince(long startNanoTime) {
+        return (System.nanoTime() - startNanoTime) / 1_000_000;
     }
 
     private void initLogging(Config config) {
@@ -205,10 +338,12 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping TrackPad ] =============================");
+        storage.flush();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        FileUtil.syncPendingFiles();
     }
 }
@@ -0,0 +1,37 @@
+package seedu.address.commons.core;
+
+import java.nio.file.Path;
+
+/**
+ * Represents the format in which the attraction and itinerary lists are stored on the hard disk.
+ */
+public enum DataFormat {
+    JSON(".json"),
+    BINARY(".bin"),
+    /** The binary format, with the attraction list memory-mapped and its attractions decoded on demand. */
+    MAPPED(".bin");
+
+    private final String fileExtension;
+
+    DataFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Returns {@code filePath} with its data format extension, if any, replaced by the extension of this format.
+     */
+    public Path toFilePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        for (DataFormat dataFormat : values()) {
+            if (fileName.endsWith(dataFormat.fileExtension)) {
+                fileName = fileName.substring(0, fileName.length() - dataFormat.fileExtension.length());
+                break;
+            }
+        }
+        return filePath.resolveSibling(fileName + fileExtension);
+    }
+}
@@ -0,0 +1,17 @@
+package seedu.address.commons.core;
+
+/**
+ * Represents how soon data written to a file is forced from the operating system's cache to the hard disk.
+ * Files are always replaced atomically, so the application stopping mid-write never leaves a partially written file.
+ * The durability level determines what can be lost if the computer itself stops: with {@code PER_SAVE}, nothing that
+ * has been written; otherwise, the data written since it was last forced to the hard disk, and on some file systems
+ * a file replaced in that time may be left empty.
+ */
+public enum Durability {
+    /** Leaves it to the operating system to decide when to write replacements and appended data to the hard disk. */
+    NONE,
+    /** Forces the new content of a file to the hard disk before it replaces the old content or the write completes. */
+    PER_SAVE,
+    /** Forces all recently written files to the hard disk at a fixed interval, instead of on every write. */
+    BATCHED
+}
@@ -1,17 +1,88 @@
 package seedu.address.commons.util;
 
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.Durability;
+import seedu.address.commons.core.LogsCenter;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    private static final Logger logger = LogsCenter.getLogger(FileUtil.class);
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private static volatile Durability durability = Durability.PER_SAVE;
+    private static final Set<Path> unsyncedFiles = ConcurrentHashMap.newKeySet();
+    private static ScheduledExecutorService syncer;
+
+    /**
+     * Sets how soon the data written by {@link #writeToFile} and {@link #appendToFile} is forced to the hard disk.
+     * With {@code Durability.BATCHED}, the files written are forced to the hard disk every
+     * {@code syncIntervalMillis} milliseconds, or every {@code Config.DEFAULT_SYNC_INTERVAL_MILLIS} milliseconds if
+     * {@code syncIntervalMillis} is not positive.
+     */
+    public static synchronized void setDurability(Durability newDurability, long syncIntervalMillis) {
+        requireNonNull(newDurability);
+        if (newDurability == Durability.BATCHED && syncIntervalMillis <= 0) {
+            logger.warning("Sync interval of " + syncIntervalMillis + " ms is not positive. Using the default of "
+                    + Config.DEFAULT_SYNC_INTERVAL_MILLIS + " ms instead");
+            syncIntervalMillis = Config.DEFAULT_SYNC_INTERVAL_MILLIS;
+        }
+
+        if (syncer != null) {
+            syncer.shutdown();
+            syncer = null;
+        }
+        syncPendingFiles();
+        durability = newDurability;
+
+        if (newDurability == Durability.BATCHED) {
+            syncer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "file-syncer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            syncer.scheduleWithFixedDelay(FileUtil::syncPendingFiles, syncIntervalMillis, syncIntervalMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Forces the files written since the last batched sync to the hard disk.
+     */
+    public static void syncPendingFiles() {
+        for (Path file : unsyncedFiles) {
+            unsyncedFiles.remove(file);
+            try {
+                forceToDisk(file);
+                forceToDisk(file.toAbsolutePath().getParent());
+            } catch (IOException ioe) {
+                logger.warning("Failed to sync file " + file + ": " + ioe);
+            }
+        }
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -75,9 +146,89 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The content is first written to a temporary file in the same directory, which then replaces {@code file}, so
+     * that {@code file} is never left partially written if the application stops.
+     * With {@code Durability.PER_SAVE}, the temporary file is forced to the hard disk before it replaces {@code file}.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFile(file, out -> out.write(content.getBytes(CHARSET)));
+    }
+
+    /**
+     * Writes the content produced by {@code contentWriter} to a file through a buffered stream.
+     * Will create the file if it does not exist yet.
+     * As with {@link #writeToFile(Path, String)}, {@code file} is never left partially written.
+     */
+    public static void writeToFile(Path file, ContentWriter contentWriter) throws IOException {
+        Durability currentDurability = durability;
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+                contentWriter.writeTo(out);
+            }
+            if (currentDurability == Durability.PER_SAVE) {
+                forceToDisk(tempFile);
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ioe) {
+            Files.deleteIfExists(tempFile);
+            throw ioe;
+        }
+
+        if (currentDurability == Durability.PER_SAVE) {
+            forceToDisk(file.toAbsolutePath().getParent());
+        } else if (currentDurability == Durability.BATCHED) {
+            unsyncedFiles.add(file);
+        }
+    }
+
+    /**
+     * Appends given string to the end of a file.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        Durability currentDurability = durability;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(CHARSET));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (currentDurability == Durability.PER_SAVE) {
+                channel.force(true);
+            }
+        }
+
+        if (currentDurability == Durability.BATCHED) {
+            unsyncedFiles.add(file);
+        }
+    }
+
+    /**
+     * Forces the content and metadata of {@code path}, which can be a file or a directory, to the hard disk.
+     * Directories are skipped on platforms that do not support forcing them.
+     */
+    private static void forceToDisk(Path path) throws IOException {
+        if (Files.isDirectory(path)) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                channel.force(true);
+            } catch (IOException ioe) {
+                logger.fine("Unable to force directory " + path + " to disk: " + ioe);
+            }
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Represents an operation that writes the content of a file to an output stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
     }
 
 }
@@ -0,0 +1,32 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Keeps one canonical instance of each distinct immutable value, so that equal values can share a single object.
+ * Canonical instances are only weakly held, and are dropped once nothing else refers to them.
+ *
+ * @param <T> Type of the values, which must implement {@code equals} and {@code hashCode} by value.
+ */
+public class Interner<T> {
+
+    private final Map<T, WeakReference<T>> canonicalValues = new WeakHashMap<>();
+
+    /**
+     * Returns the canonical instance equal to {@code value}, which becomes the canonical instance if there is none.
+     */
+    public synchronized T intern(T value) {
+        requireNonNull(value);
+        WeakReference<T> canonicalReference = canonicalValues.get(value);
+        T canonicalValue = canonicalReference == null ? null : canonicalReference.get();
+        if (canonicalValue == null) {
+            canonicalValues.put(value, new WeakReference<>(value));
+            return value;
+        }
+        return canonicalValue;
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.commons.util;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index from keywords to the items that have them, so that the items with a given keyword are found
+ * without going through every item.
+ * Keywords are compared exactly, so any normalisation of them, such as case folding, is left to the caller.
+ *
+ * @param <T> Type of the items, which must implement {@code equals} and {@code hashCode}.
+ */
+public class KeywordIndex<T> {
+
+    private final Map<String, Set<T>> itemsByKeyword = new HashMap<>();
+
+    /**
+     * Adds {@code item} to the index under each of {@code keywords}.
+     */
+    public void add(T item, Collection<String> keywords) {
+        requireAllNonNull(item, keywords);
+        for (String keyword : keywords) {
+            itemsByKeyword.computeIfAbsent(keyword, unused -> new HashSet<>()).add(item);
+        }
+    }
+
+    /**
+     * Removes {@code item} from the index under each of {@code keywords}, which should be the keywords it was added
+     * under.
+     */
+    public void remove(T item, Collection<String> keywords) {
+        requireAllNonNull(item, keywords);
+        for (String keyword : keywords) {
+            Set<T> items = itemsByKeyword.get(keyword);
+            if (items != null && items.remove(item) && items.isEmpty()) {
+                itemsByKeyword.remove(keyword);
+            }
+        }
+    }
+
+    /**
+     * Returns an unmodifiable view of the items that have {@code keyword}.
+     */
+    public Set<T> get(String keyword) {
+        Set<T> items = itemsByKeyword.get(keyword);
+        return items == null ? Collections.emptySet() : Collections.unmodifiableSet(items);
+    }
+
+    /**
+     * Removes every item from the index.
+     */
+    public void clear() {
+        itemsByKeyword.clear();
+    }
+}
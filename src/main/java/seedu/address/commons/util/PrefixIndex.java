@@ -0,0 +1,79 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A sorted index of terms, which finds the terms starting with a given prefix ignoring case in time logarithmic in
+ * the number of terms, rather than going through every term.
+ * A term added several times is kept until it has been removed as many times, and is found in the spelling it was
+ * first added in.
+ */
+public class PrefixIndex {
+
+    // Terms by their case-folded forms, which are sorted so that the terms starting with a prefix are adjacent.
+    private final TreeMap<String, Term> terms = new TreeMap<>();
+
+    /**
+     * Adds an occurrence of {@code term}.
+     */
+    public void add(String term) {
+        requireNonNull(term);
+        terms.computeIfAbsent(StringUtil.foldCase(term), unused -> new Term(term)).occurrences++;
+    }
+
+    /**
+     * Removes an occurrence of {@code term}, which should have been added before.
+     */
+    public void remove(String term) {
+        requireNonNull(term);
+        String key = StringUtil.foldCase(term);
+        Term indexedTerm = terms.get(key);
+        if (indexedTerm != null && --indexedTerm.occurrences == 0) {
+            terms.remove(key);
+        }
+    }
+
+    /**
+     * Removes every term.
+     */
+    public void clear() {
+        terms.clear();
+    }
+
+    /**
+     * Returns at most {@code limit} of the terms that start with {@code prefix} ignoring case, in alphabetical order
+     * ignoring case.
+     */
+    public List<String> find(String prefix, int limit) {
+        requireNonNull(prefix);
+        checkArgument(limit > 0, "The number of terms found should be positive.");
+        String foldedPrefix = StringUtil.foldCase(prefix);
+
+        List<String> matches = new ArrayList<>();
+        for (Map.Entry<String, Term> entry : terms.tailMap(foldedPrefix).entrySet()) {
+            if (matches.size() == limit || !entry.getKey().startsWith(foldedPrefix)) {
+                break;
+            }
+            matches.add(entry.getValue().spelling);
+        }
+        return matches;
+    }
+
+    /**
+     * A term with the number of times it has been added and not removed.
+     */
+    private static class Term {
+        private final String spelling;
+        private int occurrences;
+
+        Term(String spelling) {
+            this.spelling = spelling;
+        }
+    }
+}
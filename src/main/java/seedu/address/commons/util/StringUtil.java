@@ -5,7 +5,9 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * Helper functions for handling strings.
@@ -38,6 +40,34 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns {@code word} in a case-folded form, so that two words are equal ignoring case, as compared by
+     * {@link String#equalsIgnoreCase(String)}, if and only if their case-folded forms are equal.
+     */
+    public static String foldCase(String word) {
+        requireNonNull(word);
+        char[] folded = new char[word.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = Character.toLowerCase(Character.toUpperCase(word.charAt(i)));
+        }
+        return new String(folded);
+    }
+
+    /**
+     * Returns the case-folded form of each word in {@code sentence}, in which words are separated by whitespace as
+     * in {@link #containsWordIgnoreCase(String, String)}.
+     */
+    public static List<String> getCaseFoldedWords(String sentence) {
+        requireNonNull(sentence);
+        List<String> words = new ArrayList<>();
+        for (String word : sentence.split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(foldCase(word));
+            }
+        }
+        return words;
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -27,6 +29,18 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler to be given the error message when saving data after a command fails in the background.
+     */
+    void setSaveErrorHandler(Consumer<String> saveErrorHandler);
+
+    /**
+     * Returns at most {@code limit} of the names, locations and tag names of attractions and the names of
+     * itineraries that start with {@code prefix} ignoring case, in alphabetical order.
+     * Unlike the other methods, this may be called from any thread.
+     */
+    List<String> getSuggestions(String prefix, int limit);
+
     //=========== Attraction List ================================================================================
 
     /**
@@ -1,7 +1,11 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -31,6 +35,7 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final TrackPadParser trackPadParser;
+    private final SuggestionIndex suggestionIndex;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -39,6 +44,8 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         trackPadParser = new TrackPadParser();
+        suggestionIndex = new SuggestionIndex(model.getAttractionList(), model.getItineraryList());
+        model.addChangeListener(suggestionIndex);
     }
 
     @Override
@@ -59,6 +66,17 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    @Override
+    public void setSaveErrorHandler(Consumer<String> saveErrorHandler) {
+        requireNonNull(saveErrorHandler);
+        storage.setSaveErrorHandler(ioe -> saveErrorHandler.accept(FILE_OPS_ERROR_MESSAGE + ioe));
+    }
+
+    @Override
+    public List<String> getSuggestions(String prefix, int limit) {
+        return suggestionIndex.getSuggestions(prefix, limit);
+    }
+
     //=========== Attraction List ================================================================================
 
     @Override
@@ -0,0 +1,202 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import seedu.address.commons.util.PrefixIndex;
+import seedu.address.model.AttractionList;
+import seedu.address.model.ItineraryList;
+import seedu.address.model.ModelChangeListener;
+import seedu.address.model.ReadOnlyAttractionList;
+import seedu.address.model.ReadOnlyItineraryList;
+import seedu.address.model.attraction.Attraction;
+import seedu.address.model.itinerary.Day;
+import seedu.address.model.itinerary.Itinerary;
+
+/**
+ * An index of the names, locations and tag names of attractions and the names of itineraries, from which the command
+ * box suggests how to complete what the user is typing.
+ * Suggestions are found on a background thread while the model is modified on the JavaFX application thread, so
+ * every access to the index is synchronized. The index is only built the first time suggestions are needed, from
+ * snapshots of the lists taken when either of them was last reset. It is built outside the lock so that modifications
+ * to the model are not held up, and the modifications made in the meantime are applied to it once it is built.
+ */
+class SuggestionIndex implements ModelChangeListener {
+
+    // Beyond this many modifications saved to be applied once the index is built, it is built from the lists as they
+    // are instead, which reflects the modifications.
+    static final int MAX_PENDING_UPDATES = 1000;
+
+    private final ReadOnlyAttractionList attractionList;
+    private final ReadOnlyItineraryList itineraryList;
+
+    // Guarded by this. Null until the index is built.
+    private PrefixIndex terms;
+    private ReadOnlyAttractionList attractionsToBuild;
+    private ReadOnlyItineraryList itinerariesToBuild;
+    private final List<Consumer<PrefixIndex>> pendingUpdates = new ArrayList<>();
+
+    /**
+     * Constructs an index of {@code attractionList} and {@code itineraryList}, which is not built until suggestions
+     * are first needed, and must be kept up to date by registering it as a {@code ModelChangeListener}.
+     */
+    SuggestionIndex(ReadOnlyAttractionList attractionList, ReadOnlyItineraryList itineraryList) {
+        requireAllNonNull(attractionList, itineraryList);
+        this.attractionList = attractionList;
+        this.itineraryList = itineraryList;
+        reset();
+    }
+
+    /**
+     * Returns at most {@code limit} of the names, locations, tag names and itinerary names that start with
+     * {@code prefix} ignoring case, in alphabetical order.
+     * May be called from any thread.
+     */
+    List<String> getSuggestions(String prefix, int limit) {
+        requireNonNull(prefix);
+        build();
+        synchronized (this) {
+            return terms.find(prefix, limit);
+        }
+    }
+
+    /**
+     * Builds the index if it has not been built since the lists were last reset.
+     */
+    private void build() {
+        while (true) {
+            ReadOnlyAttractionList attractions;
+            ReadOnlyItineraryList itineraries;
+            synchronized (this) {
+                if (terms != null) {
+                    return;
+                }
+                attractions = attractionsToBuild;
+                itineraries = itinerariesToBuild;
+            }
+
+            PrefixIndex builtTerms = new PrefixIndex();
+            attractions.getAttractionList().forEach(attraction -> addTerms(builtTerms, attraction));
+            itineraries.getItineraryList().forEach(itinerary -> addTerms(builtTerms, itinerary));
+
+            synchronized (this) {
+                // the lists may have been reset while building, in which case the index is built again
+                if (attractions == attractionsToBuild && itineraries == itinerariesToBuild) {
+                    pendingUpdates.forEach(update -> update.accept(builtTerms));
+                    pendingUpdates.clear();
+                    terms = builtTerms;
+                    attractionsToBuild = null;
+                    itinerariesToBuild = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies {@code update} to the index, or saves it to be applied once the index is built.
+     * If too many updates have been saved, the index is reset instead, as the lists have already been modified.
+     */
+    private synchronized void update(Consumer<PrefixIndex> update) {
+        if (terms != null) {
+            update.accept(terms);
+        } else if (pendingUpdates.size() < MAX_PENDING_UPDATES) {
+            pendingUpdates.add(update);
+        } else {
+            reset();
+        }
+    }
+
+    /**
+     * Drops the index so that it is built again from snapshots of the lists when suggestions are next needed.
+     * The snapshots of an {@code AttractionList} and an {@code ItineraryList} take constant time, and are only copied
+     * on the thread that builds the index, unless the list is modified first. Their copies are shared with the other
+     * snapshots taken since the last modification, such as those that are saved.
+     */
+    private synchronized void reset() {
+        terms = null;
+        pendingUpdates.clear();
+        attractionsToBuild = attractionList instanceof AttractionList
+                ? ((AttractionList) attractionList).snapshot()
+                : new AttractionList(attractionList);
+        itinerariesToBuild = itineraryList instanceof ItineraryList
+                ? ((ItineraryList) itineraryList).snapshot()
+                : new ItineraryList(itineraryList);
+    }
+
+    private static void addTerms(PrefixIndex terms, Attraction attraction) {
+        terms.add(attraction.getName().fullName);
+        terms.add(attraction.getLocation().value);
+        attraction.getTags().forEach(tag -> terms.add(tag.tagName));
+    }
+
+    private static void addTerms(PrefixIndex terms, Itinerary itinerary) {
+        terms.add(itinerary.getName().fullName);
+    }
+
+    private static void removeTerms(PrefixIndex terms, Attraction attraction) {
+        terms.remove(attraction.getName().fullName);
+        terms.remove(attraction.getLocation().value);
+        attraction.getTags().forEach(tag -> terms.remove(tag.tagName));
+    }
+
+    private static void removeTerms(PrefixIndex terms, Itinerary itinerary) {
+        terms.remove(itinerary.getName().fullName);
+    }
+
+    // ================ ModelChangeListener methods ==============================
+
+    @Override
+    public void attractionListReset(ReadOnlyAttractionList attractionList) {
+        reset();
+    }
+
+    @Override
+    public void attractionAdded(Attraction attraction) {
+        update(terms -> addTerms(terms, attraction));
+    }
+
+    @Override
+    public void attractionSet(Attraction target, Attraction editedAttraction) {
+        update(terms -> {
+            removeTerms(terms, target);
+            addTerms(terms, editedAttraction);
+        });
+    }
+
+    @Override
+    public void attractionDeleted(Attraction target) {
+        update(terms -> removeTerms(terms, target));
+    }
+
+    @Override
+    public void itineraryListReset(ReadOnlyItineraryList itineraryList) {
+        reset();
+    }
+
+    @Override
+    public void itineraryAdded(Itinerary itinerary) {
+        update(terms -> addTerms(terms, itinerary));
+    }
+
+    @Override
+    public void itinerarySet(Itinerary target, Itinerary editedItinerary) {
+        update(terms -> {
+            removeTerms(terms, target);
+            addTerms(terms, editedItinerary);
+        });
+    }
+
+    @Override
+    public void itineraryDeleted(Itinerary target) {
+        update(terms -> removeTerms(terms, target));
+    }
+
+    @Override
+    public void itineraryDayChanged(Itinerary itinerary, Day day) {
+        // the name of an itinerary does not change with its days
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.core.DataFormat;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Changes the format in which the attraction and itinerary lists are stored.
+ * The existing data files are converted to the new format when TrackPad is next started.
+ */
+public class ConvertDataCommand extends Command {
+
+    public static final String COMMAND_WORD = "convert-data";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Converts the attraction and itinerary data files "
+            + "to the given format when TrackPad is next started.\n"
+            + "Parameters: FORMAT (json, binary, or mapped to read attractions from the binary file on demand)\n"
+            + "Example: " + COMMAND_WORD + " binary";
+
+    public static final String MESSAGE_SUCCESS = "Data will be converted to %1$s format when TrackPad is next started.";
+    public static final String MESSAGE_SAME_FORMAT = "Data is already stored in %1$s format.";
+
+    private final DataFormat dataFormat;
+
+    /**
+     * Creates a ConvertDataCommand to store the data in the specified {@code dataFormat}.
+     */
+    public ConvertDataCommand(DataFormat dataFormat) {
+        requireNonNull(dataFormat);
+        this.dataFormat = dataFormat;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        String formatName = dataFormat.toString().toLowerCase();
+
+        if (model.getUserPrefs().getDataFormat() == dataFormat) {
+            throw new CommandException(String.format(MESSAGE_SAME_FORMAT, formatName));
+        }
+
+        UserPrefs userPrefs = new UserPrefs(model.getUserPrefs());
+        userPrefs.setDataFormat(dataFormat);
+        userPrefs.setAttractionListFilePath(dataFormat.toFilePath(userPrefs.getAttractionListFilePath()));
+        userPrefs.setItineraryListFilePath(dataFormat.toFilePath(userPrefs.getItineraryListFilePath()));
+        model.setUserPrefs(userPrefs);
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, formatName));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ConvertDataCommand // instanceof handles nulls
+                && dataFormat.equals(((ConvertDataCommand) other).dataFormat));
+    }
+
+    @Override
+    public int hashCode() {
+        return dataFormat.hashCode();
+    }
+}
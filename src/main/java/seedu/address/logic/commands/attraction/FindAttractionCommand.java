@@ -1,6 +1,10 @@
 package seedu.address.logic.commands.attraction;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FUZZY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TOP;
+
+import java.util.OptionalInt;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.Command;
@@ -10,7 +14,11 @@ import seedu.address.model.attraction.AttractionContainsKeywordsPredicate;
 
 /**
  * Finds and lists all attractions in the attractions list in TrackPad whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Keyword matching is case insensitive, and matching attractions are found through a keyword index of the attraction
+ * list instead of testing every attraction.
+ * If a number of attractions is given, only that many of the most relevant attractions are listed, most relevant first.
+ * In fuzzy mode, attractions with a word in their name or location a few typing mistakes away from a keyword are also
+ * listed.
  */
 public class FindAttractionCommand extends Command {
 
@@ -19,19 +27,56 @@ public class FindAttractionCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all attractions whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " Zoo Orchard Gardens.";
+            + "If " + PREFIX_TOP + "COUNT is given, displays only the COUNT most relevant of them, most relevant "
+            + "first.\n"
+            + "If " + PREFIX_FUZZY + " is given instead, also displays attractions whose names or locations have a "
+            + "word within a few typing mistakes of a keyword.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]... [" + PREFIX_TOP + "COUNT | " + PREFIX_FUZZY + "]\n"
+            + "Example: " + COMMAND_WORD + " Zoo Orchard Gardens " + PREFIX_TOP + "5";
 
     private final AttractionContainsKeywordsPredicate predicate;
+    private final OptionalInt limit;
+    private final boolean isFuzzy;
 
+    /**
+     * Creates a FindAttractionCommand to list all the attractions matching {@code predicate}.
+     */
     public FindAttractionCommand(AttractionContainsKeywordsPredicate predicate) {
+        this(predicate, OptionalInt.empty(), false);
+    }
+
+    /**
+     * Creates a FindAttractionCommand to list the {@code limit} most relevant attractions matching
+     * {@code predicate}.
+     */
+    public FindAttractionCommand(AttractionContainsKeywordsPredicate predicate, int limit) {
+        this(predicate, OptionalInt.of(limit), false);
+    }
+
+    /**
+     * Creates a FindAttractionCommand to list all the attractions matching {@code predicate}, and if
+     * {@code isFuzzy}, those with a word in their name or location a few typing mistakes away from its keywords.
+     */
+    public FindAttractionCommand(AttractionContainsKeywordsPredicate predicate, boolean isFuzzy) {
+        this(predicate, OptionalInt.empty(), isFuzzy);
+    }
+
+    private FindAttractionCommand(AttractionContainsKeywordsPredicate predicate, OptionalInt limit, boolean isFuzzy) {
         this.predicate = predicate;
+        this.limit = limit;
+        this.isFuzzy = isFuzzy;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredAttractionList(predicate);
+        if (limit.isPresent()) {
+            model.rankFilteredAttractionList(predicate.getKeywords(), limit.getAsInt());
+        } else if (isFuzzy) {
+            model.updateFilteredAttractionList(model.getAttractionFuzzyKeywordMatcher(predicate.getKeywords()));
+        } else {
+            model.updateFilteredAttractionList(model.getAttractionKeywordMatcher(predicate.getKeywords()));
+        }
         if (model.getFilteredAttractionList().size() == 1) {
             return new CommandResult(String.format(Messages.MESSAGE_ATTRACTION_LISTED_OVERVIEW,
                     model.getFilteredAttractionList().size()));
@@ -45,6 +90,8 @@ public class FindAttractionCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindAttractionCommand // instanceof handles nulls
-                && predicate.equals(((FindAttractionCommand) other).predicate)); // state check
+                && predicate.equals(((FindAttractionCommand) other).predicate)
+                && limit.equals(((FindAttractionCommand) other).limit)
+                && isFuzzy == ((FindAttractionCommand) other).isFuzzy); // state check
     }
 }
@@ -63,7 +63,7 @@ public class MarkVisitedAttractionCommand extends Command {
 
         Attraction attractionToMarkVisited = lastShownList.get(index.getZeroBased());
 
-        if (attractionToMarkVisited.getVisited().equals(new Visited("True"))) {
+        if (attractionToMarkVisited.getVisited().equals(Visited.of("TRUE"))) {
             throw new CommandException(MESSAGE_ATTRACTION_ALREADY_MARKVISITED);
         }
         Attraction markedVisitedAttraction = createMarkVisitedAttraction(attractionToMarkVisited);
@@ -89,7 +89,7 @@ public class MarkVisitedAttractionCommand extends Command {
         OpeningHours unchangedOpeningHours = attractionToMarkVisited.getOpeningHours();
         PriceRange unchangedPriceRange = attractionToMarkVisited.getPriceRange();
         Rating unchangedRating = attractionToMarkVisited.getRating();
-        Visited updatedVisited = new Visited("TRUE");
+        Visited updatedVisited = Visited.of("TRUE");
         Set<Tag> unchangedTags = attractionToMarkVisited.getTags();
 
         return new Attraction(unchangedName, unchangedPhone, unchangedEmail, unchangedAddress,
@@ -10,7 +10,8 @@ import seedu.address.model.itinerary.ItineraryContainsKeywordsPredicate;
 
 /**
  * Finds and lists all itineraries in the itineraries list in TrackPad whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Keyword matching is case insensitive, and matching itineraries are found through a keyword index of the itinerary
+ * list instead of going through the itinerary attractions of every itinerary.
  */
 public class FindItineraryCommand extends Command {
 
@@ -31,7 +32,7 @@ public class FindItineraryCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredItineraryList(predicate);
+        model.updateFilteredItineraryList(model.getItineraryKeywordMatcher(predicate.getKeywords()));
         model.setCurrentItinerary(null);
         if (model.getFilteredItineraryList().size() == 1) {
             return new CommandResult(
@@ -95,7 +95,7 @@ public class AddItineraryAttractionCommand extends Command {
             throw new CommandException(MESSAGE_TIMING_CLASH);
         }
 
-        itinerary.addItineraryAttraction(ia, dayVisiting);
+        model.addItineraryAttraction(ia, dayVisiting);
         return new CommandResult(String.format(MESSAGE_ADD_ATTRACTION_SUCCESS, ia),
                 CommandResult.ToSwitchItineraryPanels.YES);
     }
@@ -69,7 +69,7 @@ public class DeleteItineraryAttractionCommand extends Command {
 
         itineraryAttractionToDelete = itineraryAttractions.get(index.getZeroBased());
 
-        itinerary.deleteItineraryAttraction(index, dayVisiting);
+        model.deleteItineraryAttraction(index, dayVisiting);
 
         return new CommandResult(String.format(MESSAGE_DELETE_ATTRACTION_SUCCESS, itineraryAttractionToDelete),
                 CommandResult.ToSwitchItineraryPanels.YES);
@@ -123,7 +123,7 @@ public class EditItineraryAttractionCommand extends Command {
             throw new CommandException(MESSAGE_TIMING_CLASH);
         }
 
-        itinerary.editItineraryAttraction(itineraryAttractionToEdit, editedItineraryAttraction, dayVisiting);
+        model.setItineraryAttraction(itineraryAttractionToEdit, editedItineraryAttraction, dayVisiting);
 
         return new CommandResult(String.format(MESSAGE_EDIT_ATTRACTION_SUCCESS, editedItineraryAttraction),
                 CommandResult.ToSwitchItineraryPanels.YES);
@@ -136,27 +136,34 @@ public class EditItineraryAttractionCommand extends Command {
     private ItineraryAttraction createEditedItineraryAttraction(ItineraryAttraction itineraryAttractionToEdit,
                                                                 EditItineraryAttractionDescriptor editItiAttrDesc) {
         assert itineraryAttractionToEdit != null;
-        Name updatedName = editItiAttrDesc.getName().orElse(itineraryAttractionToEdit.getName());
-        Phone updatedPhone = editItiAttrDesc.getPhone().orElse(itineraryAttractionToEdit.getPhone());
-        Email updatedEmail = editItiAttrDesc.getEmail().orElse(itineraryAttractionToEdit.getEmail());
-        Address updatedAddress = editItiAttrDesc.getAddress().orElse(itineraryAttractionToEdit.getAddress());
+        Attraction attractionToEdit = itineraryAttractionToEdit.getAttraction();
+        Name updatedName = editItiAttrDesc.getName().orElse(attractionToEdit.getName());
+        Phone updatedPhone = editItiAttrDesc.getPhone().orElse(attractionToEdit.getPhone());
+        Email updatedEmail = editItiAttrDesc.getEmail().orElse(attractionToEdit.getEmail());
+        Address updatedAddress = editItiAttrDesc.getAddress().orElse(attractionToEdit.getAddress());
         Description updatedDescription = editItiAttrDesc
-                .getDescription().orElse(itineraryAttractionToEdit.getDescription());
-        Location updatedLocation = editItiAttrDesc.getLocation().orElse(itineraryAttractionToEdit.getLocation());
+                .getDescription().orElse(attractionToEdit.getDescription());
+        Location updatedLocation = editItiAttrDesc.getLocation().orElse(attractionToEdit.getLocation());
         OpeningHours updatedOpeningHours = editItiAttrDesc
-                .getOpeningHours().orElse(itineraryAttractionToEdit.getOpeningHours());
+                .getOpeningHours().orElse(attractionToEdit.getOpeningHours());
         PriceRange updatedPriceRange = editItiAttrDesc
-                .getPriceRange().orElse(itineraryAttractionToEdit.getPriceRange());
-        Rating updatedRating = editItiAttrDesc.getRating().orElse(itineraryAttractionToEdit.getRating());
-        Visited updatedVisited = editItiAttrDesc.getVisited().orElse(itineraryAttractionToEdit.getVisited());
-        Set<Tag> updatedTags = editItiAttrDesc.getTags().orElse(itineraryAttractionToEdit.getTags());
+                .getPriceRange().orElse(attractionToEdit.getPriceRange());
+        Rating updatedRating = editItiAttrDesc.getRating().orElse(attractionToEdit.getRating());
+        Visited updatedVisited = editItiAttrDesc.getVisited().orElse(attractionToEdit.getVisited());
+        Set<Tag> updatedTags = editItiAttrDesc.getTags().orElse(attractionToEdit.getTags());
 
         ItineraryTime startTime = editItiAttrDesc.getStartTime().orElse(itineraryAttractionToEdit.getStartTime());
         ItineraryTime endTime = editItiAttrDesc.getEndTime().orElse(itineraryAttractionToEdit.getEndTime());
 
-        return new ItineraryAttraction(new Attraction(updatedName, updatedPhone, updatedEmail, updatedAddress,
+        Attraction updatedAttraction = new Attraction(updatedName, updatedPhone, updatedEmail, updatedAddress,
                 updatedDescription, updatedLocation, updatedOpeningHours, updatedPriceRange,
-                updatedRating, updatedVisited, updatedTags), startTime, endTime);
+                updatedRating, updatedVisited, updatedTags);
+
+        // keeps referring to the same attraction if only the timing is edited
+        if (updatedAttraction.equals(attractionToEdit)) {
+            updatedAttraction = attractionToEdit;
+        }
+        return new ItineraryAttraction(updatedAttraction, startTime, endTime);
     }
 
     @Override
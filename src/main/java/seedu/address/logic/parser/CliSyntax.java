@@ -32,4 +32,8 @@ public class CliSyntax {
     public static final Prefix PREFIX_END_TIME = new Prefix("et/");
     public static final Prefix PREFIX_DAY_VISITING = new Prefix("day/");
 
+    // Prefixes for finding
+    public static final Prefix PREFIX_TOP = new Prefix("top/");
+    public static final Prefix PREFIX_FUZZY = new Prefix("fuzzy/");
+
 }
@@ -0,0 +1,29 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.core.DataFormat;
+import seedu.address.logic.commands.ConvertDataCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ConvertDataCommand object
+ */
+public class ConvertDataCommandParser implements Parser<ConvertDataCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ConvertDataCommand
+     * and returns a ConvertDataCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ConvertDataCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        for (DataFormat dataFormat : DataFormat.values()) {
+            if (dataFormat.toString().equalsIgnoreCase(trimmedArgs)) {
+                return new ConvertDataCommand(dataFormat);
+            }
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ConvertDataCommand.MESSAGE_USAGE));
+    }
+
+}
@@ -33,6 +33,7 @@ public class ParserUtil {
 
     // todo remove if never used. I think it's never shown as it's always over shadowed by other error.
     public static final String MESSAGE_INVALID_INDEX = "INDEX must be a number between 0 and 2147483648.";
+    public static final String MESSAGE_INVALID_COUNT = "COUNT must be a positive integer.";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -48,6 +49,19 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code count} into a positive number and returns it. Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the specified count is invalid (not non-zero unsigned integer).
+     */
+    public static int parseCount(String count) throws ParseException {
+        String trimmedCount = count.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedCount)) {
+            throw new ParseException(MESSAGE_INVALID_COUNT);
+        }
+        return Integer.parseInt(trimmedCount);
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -137,7 +151,7 @@ public class ParserUtil {
         if (!Location.isValidLocation(trimmedLocation)) {
             throw new ParseException(Location.MESSAGE_CONSTRAINTS);
         }
-        return new Location(trimmedLocation);
+        return Location.of(trimmedLocation);
     }
 
     /**
@@ -167,7 +181,7 @@ public class ParserUtil {
         if (!PriceRange.isValidPriceRange(trimmedPriceRange)) {
             throw new ParseException(PriceRange.MESSAGE_CONSTRAINTS);
         }
-        return new PriceRange(trimmedPriceRange);
+        return PriceRange.of(trimmedPriceRange);
     }
 
     /**
@@ -182,7 +196,7 @@ public class ParserUtil {
         if (!Rating.isValidRating(trimmedRating)) {
             throw new ParseException(Rating.MESSAGE_CONSTRAINTS);
         }
-        return new Rating(trimmedRating);
+        return Rating.of(trimmedRating);
     }
 
     /**
@@ -197,7 +211,7 @@ public class ParserUtil {
         if (!Visited.isValidVisited(trimmedVisited)) {
             throw new ParseException(Visited.MESSAGE_CONSTRAINTS);
         }
-        return new Visited(trimmedVisited);
+        return Visited.of(trimmedVisited);
     }
 
     /**
@@ -212,7 +226,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
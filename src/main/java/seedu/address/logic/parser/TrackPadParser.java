@@ -7,6 +7,7 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ConvertDataCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.attraction.AddAttractionCommand;
@@ -94,6 +95,9 @@ public class TrackPadParser {
         case HelpCommand.COMMAND_WORD:
             return new HelpCommand();
 
+        case ConvertDataCommand.COMMAND_WORD:
+            return new ConvertDataCommandParser().parse(arguments);
+
         case AddItineraryCommand.COMMAND_WORD:
             return new AddItineraryCommandParser().parse(arguments);
 
@@ -110,7 +110,7 @@ public class AddAttractionCommandParser implements Parser<AddAttractionCommand>
         if (argMultimap.getValue(PREFIX_PRICE_RANGE).isPresent()) {
             priceRange = ParserUtil.parsePriceRange(argMultimap.getValue(PREFIX_PRICE_RANGE).get());
         } else {
-            priceRange = new PriceRange();
+            priceRange = PriceRange.of("");
         }
 
         // Rating is optional
@@ -118,7 +118,7 @@ public class AddAttractionCommandParser implements Parser<AddAttractionCommand>
         if (argMultimap.getValue(PREFIX_RATING).isPresent()) {
             rating = ParserUtil.parseRating(argMultimap.getValue(PREFIX_RATING).get());
         } else {
-            rating = new Rating();
+            rating = Rating.of("");
         }
 
         // Visited is optional
@@ -126,7 +126,7 @@ public class AddAttractionCommandParser implements Parser<AddAttractionCommand>
         if (argMultimap.getValue(PREFIX_VISITED).isPresent()) {
             visited = ParserUtil.parseVisited(argMultimap.getValue(PREFIX_VISITED).get());
         } else {
-            visited = new Visited();
+            visited = Visited.of("");
         }
 
         Set<Tag> tagList = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
@@ -1,11 +1,17 @@
 package seedu.address.logic.parser.attraction;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FUZZY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TOP;
 
 import java.util.Arrays;
+import java.util.Optional;
 
 import seedu.address.logic.commands.attraction.FindAttractionCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
 import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.attraction.AttractionContainsKeywordsPredicate;
 
@@ -20,15 +26,27 @@ public class FindAttractionCommandParser implements Parser<FindAttractionCommand
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindAttractionCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
-        if (trimmedArgs.isEmpty()) {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TOP, PREFIX_FUZZY);
+        String trimmedArgs = argMultimap.getPreamble().trim();
+        Optional<String> fuzzy = argMultimap.getValue(PREFIX_FUZZY);
+        Optional<String> count = argMultimap.getValue(PREFIX_TOP);
+        // fuzzy/ takes no value, and fuzzy matches are not ranked
+        if (trimmedArgs.isEmpty() || fuzzy.map(value -> !value.isEmpty() || count.isPresent()).orElse(false)) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindAttractionCommand.MESSAGE_USAGE));
         }
 
         String[] nameKeywords = trimmedArgs.split("\\s+");
+        AttractionContainsKeywordsPredicate predicate =
+                new AttractionContainsKeywordsPredicate(Arrays.asList(nameKeywords));
 
-        return new FindAttractionCommand(new AttractionContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        if (fuzzy.isPresent()) {
+            return new FindAttractionCommand(predicate, true);
+        }
+        if (count.isPresent()) {
+            return new FindAttractionCommand(predicate, ParserUtil.parseCount(count.get()));
+        }
+        return new FindAttractionCommand(predicate);
     }
 
 }
@@ -3,6 +3,8 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.attraction.Attraction;
@@ -15,26 +17,43 @@ import seedu.address.model.attraction.UniqueAttractionList;
 public class AttractionList implements ReadOnlyAttractionList {
 
     private final UniqueAttractionList attractions;
+    private long version;
 
-    /*
-     * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
-     * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
-     *
-     * Note that non-static init blocks are not recommended to use. There are other ways to avoid duplication
-     *   among constructors.
-     */
-    {
-        attractions = new UniqueAttractionList();
+    // Contents of the snapshots taken since the attractions were last modified, which may still need to be copied
+    // before they are next modified.
+    private SnapshotContents<UniqueAttractionList> sharedSnapshotContents;
+
+    public AttractionList() {
+        this(new UniqueAttractionList());
     }
 
-    public AttractionList() {}
+    /**
+     * Creates an AttractionList that holds the attractions in {@code attractions}.
+     */
+    public AttractionList(UniqueAttractionList attractions) {
+        requireNonNull(attractions);
+        this.attractions = attractions;
+    }
 
     /**
      * Creates an AttractionList using the Attractions in the {@code toBeCopied}
      */
     public AttractionList(ReadOnlyAttractionList toBeCopied) {
-        this();
-        resetData(toBeCopied);
+        this(copyOf(toBeCopied));
+    }
+
+    /**
+     * Returns a copy of the attractions in {@code toBeCopied}.
+     * The attractions of another {@code AttractionList} are copied without checking them for duplicates again.
+     */
+    private static UniqueAttractionList copyOf(ReadOnlyAttractionList toBeCopied) {
+        requireNonNull(toBeCopied);
+        if (toBeCopied instanceof AttractionList) {
+            return ((AttractionList) toBeCopied).attractions.copy();
+        }
+        UniqueAttractionList copy = new UniqueAttractionList();
+        copy.setAttractions(toBeCopied.getAttractionList());
+        return copy;
     }
 
     //// list overwrite operations
@@ -44,7 +63,9 @@ public class AttractionList implements ReadOnlyAttractionList {
      * {@code attractions} must not contain duplicate attractions.
      */
     public void setAttractions(List<Attraction> attractions) {
+        takeSharedSnapshot();
         this.attractions.setAttractions(attractions);
+        version++;
     }
 
     /**
@@ -66,12 +87,21 @@ public class AttractionList implements ReadOnlyAttractionList {
         return attractions.contains(attraction);
     }
 
+    /**
+     * Returns the attraction in the attraction list with the same identity as {@code attraction}, if there is one.
+     */
+    public Optional<Attraction> findAttraction(Attraction attraction) {
+        return attractions.find(attraction);
+    }
+
     /**
      * Adds a attraction to the attraction list.
      * The attraction must not already exist in the attraction list.
      */
     public void addAttraction(Attraction a) {
+        takeSharedSnapshot();
         attractions.add(a);
+        version++;
     }
 
     /**
@@ -83,7 +113,9 @@ public class AttractionList implements ReadOnlyAttractionList {
     public void setAttraction(Attraction target, Attraction editedAttraction) {
         requireNonNull(editedAttraction);
 
+        takeSharedSnapshot();
         attractions.setAttraction(target, editedAttraction);
+        version++;
     }
 
     /**
@@ -91,11 +123,75 @@ public class AttractionList implements ReadOnlyAttractionList {
      * {@code key} must exist in the attraction list.
      */
     public void removeAttraction(Attraction key) {
+        takeSharedSnapshot();
         attractions.remove(key);
+        version++;
+    }
+
+    /**
+     * Returns a predicate that is true for the attractions in the attraction list that match any of
+     * {@code keywords}, which stays up to date as the attraction list changes.
+     */
+    public Predicate<Attraction> getKeywordMatcher(List<String> keywords) {
+        requireNonNull(keywords);
+        return attractions.getKeywordMatcher(keywords);
+    }
+
+    /**
+     * Returns a predicate like {@link #getKeywordMatcher(List)} that allows for a few typing mistakes in the names
+     * and locations of attractions.
+     */
+    public Predicate<Attraction> getFuzzyKeywordMatcher(List<String> keywords) {
+        requireNonNull(keywords);
+        return attractions.getFuzzyKeywordMatcher(keywords);
+    }
+
+    /**
+     * Returns at most {@code limit} of the attractions in the attraction list that match any of {@code keywords}, in
+     * order of relevance to {@code keywords}, most relevant first.
+     */
+    public List<Attraction> rankAttractions(List<String> keywords, int limit) {
+        requireNonNull(keywords);
+        return attractions.rank(keywords, limit);
     }
 
     //// util methods
 
+    /**
+     * Returns a snapshot of this attraction list, which is not affected by later changes to it and can be read on
+     * another thread.
+     * The attractions are only copied when the snapshot is first read, or before this attraction list is next
+     * modified if that comes first, so taking a snapshot takes constant time.
+     */
+    public ReadOnlyAttractionList snapshot() {
+        if (sharedSnapshotContents == null) {
+            sharedSnapshotContents = new SnapshotContents<>(attractions::copy);
+        }
+        SnapshotContents<UniqueAttractionList> contents = sharedSnapshotContents;
+        long snapshotVersion = version;
+        return new ReadOnlyAttractionList() {
+            @Override
+            public ObservableList<Attraction> getAttractionList() {
+                return contents.get().asUnmodifiableObservableList();
+            }
+
+            @Override
+            public long getVersion() {
+                return snapshotVersion;
+            }
+        };
+    }
+
+    /**
+     * Copies the attractions for the snapshots if they have not been copied yet, before they are modified.
+     */
+    private void takeSharedSnapshot() {
+        if (sharedSnapshotContents != null) {
+            sharedSnapshotContents.take();
+            sharedSnapshotContents = null;
+        }
+    }
+
     @Override
     public String toString() {
         return attractions.asUnmodifiableObservableList().size() + " attractions";
@@ -107,6 +203,11 @@ public class AttractionList implements ReadOnlyAttractionList {
         return attractions.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
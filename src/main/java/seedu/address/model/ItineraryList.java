@@ -4,7 +4,9 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.itinerary.Itinerary;
 import seedu.address.model.itinerary.UniqueItineraryList;
@@ -17,6 +19,11 @@ public class ItineraryList implements ReadOnlyItineraryList {
 
     private final UniqueItineraryList itineraries;
     private Itinerary currentItinerary;
+    private long version;
+
+    // Contents of the snapshots taken since the itineraries were last modified, which may still need to be copied
+    // before they are next modified.
+    private SnapshotContents<ObservableList<Itinerary>> sharedSnapshotContents;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -47,7 +54,9 @@ public class ItineraryList implements ReadOnlyItineraryList {
      * {@code itineraries} must not contain duplicate itineraries.
      */
     public void setItineraries(List<Itinerary> itineraries) {
+        takeSharedSnapshot();
         this.itineraries.setItineraries(itineraries);
+        version++;
     }
 
     /**
@@ -69,12 +78,21 @@ public class ItineraryList implements ReadOnlyItineraryList {
         return itineraries.contains(itinerary);
     }
 
+    /**
+     * Returns the itinerary in the itinerary list with the same identity as {@code itinerary}, if there is one.
+     */
+    public Optional<Itinerary> findItinerary(Itinerary itinerary) {
+        return itineraries.find(itinerary);
+    }
+
     /**
      * Adds an itinerary to the itinerary list.
      * The itinerary must not already exist in the itinerary list.
      */
     public void addItinerary(Itinerary a) {
+        takeSharedSnapshot();
         itineraries.add(a);
+        version++;
     }
 
     /**
@@ -86,7 +104,9 @@ public class ItineraryList implements ReadOnlyItineraryList {
     public void setItinerary(Itinerary target, Itinerary editedItinerary) {
         requireNonNull(editedItinerary);
 
+        takeSharedSnapshot();
         itineraries.setItinerary(target, editedItinerary);
+        version++;
     }
 
     /**
@@ -94,7 +114,28 @@ public class ItineraryList implements ReadOnlyItineraryList {
      * {@code key} must exist in the itinerary list.
      */
     public void removeItinerary(Itinerary key) {
+        takeSharedSnapshot();
         itineraries.remove(key);
+        version++;
+    }
+
+    /**
+     * Records that {@code itinerary} in this {@code ItineraryList} has been modified in place,
+     * e.g. when an itinerary attraction is added to one of its days.
+     */
+    public void indicateModified(Itinerary itinerary) {
+        takeSharedSnapshot();
+        itineraries.indicateModified(itinerary);
+        version++;
+    }
+
+    /**
+     * Returns a predicate that is true for the itineraries in the itinerary list that match any of
+     * {@code keywords}, which stays up to date as the itinerary list changes.
+     */
+    public Predicate<Itinerary> getKeywordMatcher(List<String> keywords) {
+        requireNonNull(keywords);
+        return itineraries.getKeywordMatcher(keywords);
     }
 
     //// current Itinerary methods
@@ -109,6 +150,50 @@ public class ItineraryList implements ReadOnlyItineraryList {
 
     //// util methods
 
+    /**
+     * Returns a snapshot of this itinerary list, which is not affected by later changes to it or to its itineraries
+     * and can be read on another thread. The snapshot has no current itinerary.
+     * Only the itineraries added, replaced or modified since the last snapshot are copied to take it. The list of
+     * them is only copied when the snapshot is first read, or before this itinerary list is next modified if that
+     * comes first.
+     */
+    public ReadOnlyItineraryList snapshot() {
+        if (sharedSnapshotContents == null) {
+            List<Itinerary> copies = itineraries.getCopies();
+            sharedSnapshotContents = new SnapshotContents<>(() ->
+                    FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(copies)));
+        }
+        SnapshotContents<ObservableList<Itinerary>> contents = sharedSnapshotContents;
+        long snapshotVersion = version;
+        return new ReadOnlyItineraryList() {
+            @Override
+            public ObservableList<Itinerary> getItineraryList() {
+                return contents.get();
+            }
+
+            @Override
+            public Itinerary getCurrentItinerary() {
+                return null;
+            }
+
+            @Override
+            public long getVersion() {
+                return snapshotVersion;
+            }
+        };
+    }
+
+    /**
+     * Copies the list of itineraries for the snapshots if it has not been copied yet, before the itineraries are
+     * modified.
+     */
+    private void takeSharedSnapshot() {
+        if (sharedSnapshotContents != null) {
+            sharedSnapshotContents.take();
+            sharedSnapshotContents = null;
+        }
+    }
+
     @Override
     public String toString() {
         return itineraries.asUnmodifiableObservableList().size() + " itineraries";
@@ -120,6 +205,11 @@ public class ItineraryList implements ReadOnlyItineraryList {
         return itineraries.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -1,10 +1,12 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.index.Index;
 import seedu.address.model.attraction.Attraction;
 import seedu.address.model.itinerary.Itinerary;
 import seedu.address.model.itinerary.ItineraryAttraction;
@@ -22,6 +24,12 @@ public interface Model {
      */
     Predicate<Itinerary> PREDICATE_SHOW_ALL_ITINERARIES = unused -> true;
 
+    /**
+     * Registers {@code listener} to be notified of every subsequent modification to the attraction list and
+     * itinerary list.
+     */
+    void addChangeListener(ModelChangeListener listener);
+
     /**
      * Replaces user prefs data with the data in {@code userPrefs}.
      */
@@ -117,6 +125,27 @@ public interface Model {
      */
     void updateFilteredAttractionList(Predicate<Attraction> predicate);
 
+    /**
+     * Returns a predicate that is true for the attractions in the attraction list that match any of
+     * {@code keywords}, as defined by {@code AttractionContainsKeywordsPredicate}, found through an index of the
+     * attraction list instead of testing every attraction.
+     */
+    Predicate<Attraction> getAttractionKeywordMatcher(List<String> keywords);
+
+    /**
+     * Returns a predicate like {@link #getAttractionKeywordMatcher(List)}, which is also true for the attractions
+     * with a word in their name or location within a few typing mistakes of any of {@code keywords}.
+     */
+    Predicate<Attraction> getAttractionFuzzyKeywordMatcher(List<String> keywords);
+
+    /**
+     * Updates the filtered attraction list to show at most {@code limit} of the attractions that match any of
+     * {@code keywords}, in order of relevance to {@code keywords}, most relevant first.
+     * The attractions shown are those ranked when this is called. Once an attraction is edited or the attraction
+     * list is replaced, every attraction that matches any of {@code keywords} is shown instead, in the usual order.
+     */
+    void rankFilteredAttractionList(List<String> keywords, int limit);
+
     //=========== ItineraryList ================================================================================
 
     /**
@@ -166,6 +195,13 @@ public interface Model {
      */
     void updateFilteredItineraryList(Predicate<Itinerary> predicate);
 
+    /**
+     * Returns a predicate that is true for the itineraries in the itinerary list that match any of
+     * {@code keywords}, as defined by {@code ItineraryContainsKeywordsPredicate}, found through an index of the
+     * itinerary list instead of going through the itinerary attractions of every itinerary.
+     */
+    Predicate<Itinerary> getItineraryKeywordMatcher(List<String> keywords);
+
     /**
      * Sets selected itinerary in ItineraryList.
      *
@@ -178,6 +214,26 @@ public interface Model {
      */
     Itinerary getCurrentItinerary();
 
+    /**
+     * Adds the given itinerary attraction to the specified {@code day} of the current itinerary.
+     * An itinerary must be selected.
+     */
+    void addItineraryAttraction(ItineraryAttraction itineraryAttraction, Index day);
+
+    /**
+     * Deletes the itinerary attraction at {@code index} of the specified {@code day} of the current itinerary.
+     * An itinerary must be selected.
+     */
+    void deleteItineraryAttraction(Index index, Index day);
+
+    /**
+     * Replaces the given itinerary attraction {@code target} in the specified {@code day} of the current itinerary
+     * with {@code editedItineraryAttraction}.
+     * An itinerary must be selected and {@code target} must exist in that day.
+     */
+    void setItineraryAttraction(ItineraryAttraction target, ItineraryAttraction editedItineraryAttraction,
+                                Index day);
+
     //=========== ItineraryAttractionList =============================================================================
 
     /**
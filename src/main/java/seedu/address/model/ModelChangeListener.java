@@ -0,0 +1,57 @@
+package seedu.address.model;
+
+import seedu.address.model.attraction.Attraction;
+import seedu.address.model.itinerary.Day;
+import seedu.address.model.itinerary.Itinerary;
+
+/**
+ * Listens for modifications to the attraction list and itinerary list of a {@code ModelManager}.
+ * Each method is called after the modification has been made.
+ */
+public interface ModelChangeListener {
+
+    /**
+     * Called when the contents of the attraction list are replaced with {@code attractionList}.
+     */
+    void attractionListReset(ReadOnlyAttractionList attractionList);
+
+    /**
+     * Called when {@code attraction} is added to the attraction list.
+     */
+    void attractionAdded(Attraction attraction);
+
+    /**
+     * Called when {@code target} in the attraction list is replaced with {@code editedAttraction}.
+     */
+    void attractionSet(Attraction target, Attraction editedAttraction);
+
+    /**
+     * Called when {@code target} is removed from the attraction list.
+     */
+    void attractionDeleted(Attraction target);
+
+    /**
+     * Called when the contents of the itinerary list are replaced with {@code itineraryList}.
+     */
+    void itineraryListReset(ReadOnlyItineraryList itineraryList);
+
+    /**
+     * Called when {@code itinerary} is added to the itinerary list.
+     */
+    void itineraryAdded(Itinerary itinerary);
+
+    /**
+     * Called when {@code target} in the itinerary list is replaced with {@code editedItinerary}.
+     */
+    void itinerarySet(Itinerary target, Itinerary editedItinerary);
+
+    /**
+     * Called when {@code target} is removed from the itinerary list.
+     */
+    void itineraryDeleted(Itinerary target);
+
+    /**
+     * Called when an itinerary attraction is added to, removed from or edited in {@code day} of {@code itinerary}.
+     */
+    void itineraryDayChanged(Itinerary itinerary, Day day);
+}
@@ -4,14 +4,21 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.index.Index;
 import seedu.address.model.attraction.Address;
 import seedu.address.model.attraction.Attraction;
 import seedu.address.model.attraction.Email;
@@ -36,10 +43,15 @@ public class ModelManager implements Model {
 
     private final AttractionList attractionList;
     private final ItineraryList itineraryList;
-    private ItineraryAttractionList itineraryAttractionList;
+    private final ItineraryAttractionList itineraryAttractionList = new ItineraryAttractionList();
     private final UserPrefs userPrefs;
     private final FilteredList<Attraction> filteredAttractions;
+    private final SortedList<Attraction> sortedAttractions;
     private final FilteredList<Itinerary> filteredItineraries;
+    private final List<ModelChangeListener> changeListeners = new ArrayList<>();
+
+    // The keywords the filtered attraction list is ranked by, or null if it is not ranked.
+    private List<String> rankedKeywords;
 
     /**
      * Initializes a ModelManager with the given attractionList, itineraryList and userPrefs.
@@ -56,6 +68,7 @@ public class ModelManager implements Model {
         this.itineraryList = new ItineraryList(itineraryList);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredAttractions = new FilteredList<>(this.attractionList.getAttractionList());
+        sortedAttractions = new SortedList<>(filteredAttractions);
         filteredItineraries = new FilteredList<>(this.itineraryList.getItineraryList());
     }
 
@@ -63,6 +76,12 @@ public class ModelManager implements Model {
         this(new AttractionList(), new ItineraryList(), new UserPrefs());
     }
 
+    @Override
+    public void addChangeListener(ModelChangeListener listener) {
+        requireNonNull(listener);
+        changeListeners.add(listener);
+    }
+
     //=========== UserPrefs ==================================================================================
 
     @Override
@@ -114,6 +133,8 @@ public class ModelManager implements Model {
 
     public void setAttractionList(ReadOnlyAttractionList attractionList) {
         this.attractionList.resetData(attractionList);
+        changeListeners.forEach(listener -> listener.attractionListReset(this.attractionList));
+        unrankFilteredAttractionList();
     }
 
     @Override
@@ -130,11 +151,13 @@ public class ModelManager implements Model {
     @Override
     public void deleteAttraction(Attraction target) {
         attractionList.removeAttraction(target);
+        changeListeners.forEach(listener -> listener.attractionDeleted(target));
     }
 
     @Override
     public void addAttraction(Attraction attraction) {
         attractionList.addAttraction(attraction);
+        changeListeners.forEach(listener -> listener.attractionAdded(attraction));
         updateFilteredAttractionList(PREDICATE_SHOW_ALL_ATTRACTIONS);
     }
 
@@ -143,6 +166,9 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedAttraction);
 
         attractionList.setAttraction(target, editedAttraction);
+        changeListeners.forEach(listener -> listener.attractionSet(target, editedAttraction));
+        unrankFilteredAttractionList();
+        replaceAttractionInItineraries(target, editedAttraction);
     }
 
     @Override
@@ -158,7 +184,7 @@ public class ModelManager implements Model {
         OpeningHours unchangedOpeningHours = target.getOpeningHours();
         PriceRange unchangedPriceRange = target.getPriceRange();
         Rating unchangedRating = target.getRating();
-        Visited updatedVisited = new Visited("TRUE");
+        Visited updatedVisited = Visited.of("TRUE");
         Set<Tag> unchangedTags = target.getTags();
 
         Attraction markVisitedAttraction = new Attraction(unchangedName, unchangedPhone, unchangedEmail,
@@ -166,6 +192,9 @@ public class ModelManager implements Model {
                 unchangedRating, updatedVisited, unchangedTags);
 
         attractionList.setAttraction(target, markVisitedAttraction);
+        changeListeners.forEach(listener -> listener.attractionSet(target, markVisitedAttraction));
+        unrankFilteredAttractionList();
+        replaceAttractionInItineraries(target, markVisitedAttraction);
     }
 
     //=========== Filtered Attraction List Accessors =============================================================
@@ -176,13 +205,49 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Attraction> getFilteredAttractionList() {
-        return filteredAttractions;
+        return sortedAttractions;
     }
 
     @Override
     public void updateFilteredAttractionList(Predicate<Attraction> predicate) {
         requireNonNull(predicate);
         filteredAttractions.setPredicate(predicate);
+        sortedAttractions.setComparator(null);
+        rankedKeywords = null;
+    }
+
+    @Override
+    public void rankFilteredAttractionList(List<String> keywords, int limit) {
+        requireNonNull(keywords);
+        List<Attraction> rankedAttractions = attractionList.rankAttractions(keywords, limit);
+        Map<Attraction, Integer> ranks = new HashMap<>();
+        for (int i = 0; i < rankedAttractions.size(); i++) {
+            ranks.put(rankedAttractions.get(i), i);
+        }
+        filteredAttractions.setPredicate(ranks::containsKey);
+        sortedAttractions.setComparator(Comparator.comparing(ranks::get));
+        rankedKeywords = keywords;
+    }
+
+    /**
+     * Updates the filtered attraction list to show every attraction that matches any of the keywords it is ranked by,
+     * if it is ranked. The ranks no longer hold once an attraction is changed, and an attraction changed while shown
+     * would otherwise disappear from the list.
+     */
+    private void unrankFilteredAttractionList() {
+        if (rankedKeywords != null) {
+            updateFilteredAttractionList(getAttractionKeywordMatcher(rankedKeywords));
+        }
+    }
+
+    @Override
+    public Predicate<Attraction> getAttractionKeywordMatcher(List<String> keywords) {
+        return attractionList.getKeywordMatcher(keywords);
+    }
+
+    @Override
+    public Predicate<Attraction> getAttractionFuzzyKeywordMatcher(List<String> keywords) {
+        return attractionList.getFuzzyKeywordMatcher(keywords);
     }
 
     //=========== ItineraryList ================================================================================
@@ -190,6 +255,7 @@ public class ModelManager implements Model {
     @Override
     public void setItineraryList(ReadOnlyItineraryList itineraryList) {
         this.itineraryList.resetData(itineraryList);
+        changeListeners.forEach(listener -> listener.itineraryListReset(this.itineraryList));
     }
 
     @Override
@@ -206,11 +272,13 @@ public class ModelManager implements Model {
     @Override
     public void deleteItinerary(Itinerary target) {
         itineraryList.removeItinerary(target);
+        changeListeners.forEach(listener -> listener.itineraryDeleted(target));
     }
 
     @Override
     public void addItinerary(Itinerary itinerary) {
         itineraryList.addItinerary(itinerary);
+        changeListeners.forEach(listener -> listener.itineraryAdded(itinerary));
         updateFilteredItineraryList(PREDICATE_SHOW_ALL_ITINERARIES);
     }
 
@@ -219,6 +287,7 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedItinerary);
 
         itineraryList.setItinerary(target, editedItinerary);
+        changeListeners.forEach(listener -> listener.itinerarySet(target, editedItinerary));
     }
 
     @Override
@@ -227,7 +296,7 @@ public class ModelManager implements Model {
             itineraryList.setCurrentItinerary(null);
         } else {
             itineraryList.setCurrentItinerary(itinerary);
-            itineraryAttractionList = new ItineraryAttractionList(itinerary);
+            itineraryAttractionList.setItineraryAttractionList(itinerary);
         }
     }
 
@@ -236,6 +305,69 @@ public class ModelManager implements Model {
         return itineraryList.getCurrentItinerary();
     }
 
+    @Override
+    public void addItineraryAttraction(ItineraryAttraction itineraryAttraction, Index day) {
+        requireAllNonNull(itineraryAttraction, day);
+
+        getCurrentItinerary().addItineraryAttraction(itineraryAttraction, day);
+        itineraryList.indicateModified(getCurrentItinerary());
+        indicateDayChanged(day);
+    }
+
+    @Override
+    public void deleteItineraryAttraction(Index index, Index day) {
+        requireAllNonNull(index, day);
+
+        getCurrentItinerary().deleteItineraryAttraction(index, day);
+        itineraryList.indicateModified(getCurrentItinerary());
+        indicateDayChanged(day);
+    }
+
+    @Override
+    public void setItineraryAttraction(ItineraryAttraction target, ItineraryAttraction editedItineraryAttraction,
+                                       Index day) {
+        requireAllNonNull(target, editedItineraryAttraction, day);
+
+        getCurrentItinerary().editItineraryAttraction(target, editedItineraryAttraction, day);
+        itineraryList.indicateModified(getCurrentItinerary());
+        indicateDayChanged(day);
+    }
+
+    private void indicateDayChanged(Index day) {
+        indicateDayChanged(getCurrentItinerary(), day);
+    }
+
+    private void indicateDayChanged(Itinerary itinerary, Index day) {
+        if (itinerary == getCurrentItinerary()) {
+            itineraryAttractionList.refreshDay(itinerary, day);
+        }
+        changeListeners.forEach(listener -> listener.itineraryDayChanged(itinerary, itinerary.getDay(day)));
+    }
+
+    /**
+     * Makes the itinerary attractions that visit {@code target} visit {@code editedAttraction} instead, so that edits
+     * to an attraction show up in the itineraries that visit it.
+     * The days of an itinerary are only loaded for this if it may visit {@code target}.
+     */
+    private void replaceAttractionInItineraries(Attraction target, Attraction editedAttraction) {
+        for (Itinerary itinerary : itineraryList.getItineraryList()) {
+            if (!itinerary.mayVisit(target)) {
+                continue;
+            }
+            List<Index> changedDays = new ArrayList<>();
+            for (int i = 0; i < itinerary.getNumberOfDays(); i++) {
+                Index day = Index.fromZeroBased(i);
+                if (itinerary.getDay(day).replaceAttraction(target, editedAttraction)) {
+                    changedDays.add(day);
+                }
+            }
+            if (!changedDays.isEmpty()) {
+                itineraryList.indicateModified(itinerary);
+                changedDays.forEach(day -> indicateDayChanged(itinerary, day));
+            }
+        }
+    }
+
     //=========== Filtered Itinerary List Accessors ==============================================================
 
     /**
@@ -253,6 +385,11 @@ public class ModelManager implements Model {
         filteredItineraries.setPredicate(predicate);
     }
 
+    @Override
+    public Predicate<Itinerary> getItineraryKeywordMatcher(List<String> keywords) {
+        return itineraryList.getKeywordMatcher(keywords);
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
@@ -270,7 +407,7 @@ public class ModelManager implements Model {
         return attractionList.equals(other.attractionList)
                 && itineraryList.equals(other.itineraryList)
                 && userPrefs.equals(other.userPrefs)
-                && filteredAttractions.equals(other.filteredAttractions)
+                && sortedAttractions.equals(other.sortedAttractions)
                 && filteredItineraries.equals(other.filteredItineraries);
     }
 
@@ -282,12 +419,11 @@ public class ModelManager implements Model {
     }
 
     /**
-     * Returns an unmodifiable view of the list of {@code ItineraryAttraction} backed by the internal list of
-     * {@code versionedTrackPad}
+     * Returns an unmodifiable view of the days and itinerary attractions of the current itinerary, which is kept up
+     * to date as the current itinerary changes.
      */
     @Override
     public ObservableList<ItineraryAttraction> getFilteredItineraryAttractionList() {
-        itineraryAttractionList.setItineraryAttractionList(itineraryList.getCurrentItinerary());
         return itineraryAttractionList.getItineraryAttractionList();
     }
 }
@@ -14,4 +14,10 @@ public interface ReadOnlyAttractionList {
      */
     ObservableList<Attraction> getAttractionList();
 
+    /**
+     * Returns a counter that is incremented every time the attraction list is modified.
+     * Two calls returning the same value mean that the list has not changed in between.
+     */
+    long getVersion();
+
 }
@@ -15,5 +15,11 @@ public interface ReadOnlyItineraryList {
     ObservableList<Itinerary> getItineraryList();
 
     Itinerary getCurrentItinerary();
+
+    /**
+     * Returns a counter that is incremented every time the itinerary list, or any itinerary in it, is modified.
+     * Two calls returning the same value mean that the list has not changed in between.
+     */
+    long getVersion();
 }
 
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 
+import seedu.address.commons.core.DataFormat;
 import seedu.address.commons.core.GuiSettings;
 
 /**
@@ -15,4 +16,6 @@ public interface ReadOnlyUserPrefs {
 
     Path getItineraryListFilePath();
 
+    DataFormat getDataFormat();
+
 }
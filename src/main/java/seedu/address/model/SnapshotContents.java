@@ -0,0 +1,40 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Supplier;
+
+/**
+ * The contents of a snapshot of a list, which are only copied from the list when they are first read, or when
+ * {@link #take()} is called before the list is next modified, whichever comes first.
+ * The contents can be read from another thread than the one that modifies the list, as the list is not modified
+ * while they are being copied.
+ */
+class SnapshotContents<T> {
+
+    private Supplier<T> copier; // null once the contents have been copied
+    private T contents;
+
+    SnapshotContents(Supplier<T> copier) {
+        requireNonNull(copier);
+        this.copier = copier;
+    }
+
+    /**
+     * Returns the contents, copying them first if they have not been copied yet.
+     */
+    synchronized T get() {
+        take();
+        return contents;
+    }
+
+    /**
+     * Copies the contents if they have not been copied yet. Must be called before the list is modified.
+     */
+    synchronized void take() {
+        if (copier != null) {
+            contents = copier.get();
+            copier = null;
+        }
+    }
+}
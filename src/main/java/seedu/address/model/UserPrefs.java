@@ -6,6 +6,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import seedu.address.commons.core.DataFormat;
 import seedu.address.commons.core.GuiSettings;
 
 /**
@@ -16,6 +17,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private GuiSettings guiSettings = new GuiSettings();
     private Path attractionListFilePath = Paths.get("data" , "attractionlist.json");
     private Path itineraryListFilePath = Paths.get("data" , "itinerarylist.json");
+    private DataFormat dataFormat = DataFormat.JSON;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -38,6 +40,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAttractionListFilePath(newUserPrefs.getAttractionListFilePath());
         setItineraryListFilePath(newUserPrefs.getItineraryListFilePath());
+        setDataFormat(newUserPrefs.getDataFormat());
     }
 
     public GuiSettings getGuiSettings() {
@@ -67,6 +70,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.itineraryListFilePath = itineraryListFilePath;
     }
 
+    public DataFormat getDataFormat() {
+        return dataFormat;
+    }
+
+    public void setDataFormat(DataFormat dataFormat) {
+        requireNonNull(dataFormat);
+        this.dataFormat = dataFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -80,12 +92,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         return guiSettings.equals(o.guiSettings)
                 && attractionListFilePath.equals(o.attractionListFilePath)
-                && itineraryListFilePath.equals(o.itineraryListFilePath);
+                && itineraryListFilePath.equals(o.itineraryListFilePath)
+                && dataFormat.equals(o.dataFormat);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, attractionListFilePath, itineraryListFilePath);
+        return Objects.hash(guiSettings, attractionListFilePath, itineraryListFilePath, dataFormat);
     }
 
     @Override
@@ -94,6 +107,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal attraction data file location : " + attractionListFilePath);
         sb.append("\nLocal itinerary data file location : " + itineraryListFilePath);
+        sb.append("\nLocal data file format : " + dataFormat);
         return sb.toString();
     }
 
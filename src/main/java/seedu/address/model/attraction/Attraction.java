@@ -17,6 +17,8 @@ import seedu.address.model.tag.Tag;
  */
 public class Attraction {
 
+    private static final String IDENTITY_KEY_SEPARATOR = "@";
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -32,6 +34,10 @@ public class Attraction {
     private final Visited visited;
     private final Set<Tag> tags = new HashSet<>();
 
+    // Computed when first needed, as the fields they are derived from never change.
+    private int hash;
+    private String identityKey;
+
     /**
      * Every field must be present and not null.
      */
@@ -115,6 +121,25 @@ public class Attraction {
                 && (otherAttraction.getLocation().equals(getLocation()));
     }
 
+    /**
+     * Returns a key that is the same for two attractions if and only if they are the same attraction as defined by
+     * {@link #isSameAttraction(Attraction)}. Names cannot contain the separator, so keys are unique.
+     */
+    public String getIdentityKey() {
+        if (identityKey == null) {
+            identityKey = toIdentityKey(name.fullName, location.value);
+        }
+        return identityKey;
+    }
+
+    /**
+     * Returns the identity key of an attraction with the given {@code name} and {@code location}, as returned by
+     * {@link #getIdentityKey()}, without constructing the attraction.
+     */
+    public static String toIdentityKey(String name, String location) {
+        return name + IDENTITY_KEY_SEPARATOR + location;
+    }
+
     /** Returns number of filled fields that have an icon in the UI.
      * @return integer of number of filled fields
      */
@@ -155,6 +180,9 @@ public class Attraction {
         }
 
         Attraction otherAttraction = (Attraction) other;
+        if (hash != 0 && otherAttraction.hash != 0 && hash != otherAttraction.hash) {
+            return false;
+        }
         return otherAttraction.getName().equals(getName())
                 && otherAttraction.getPhone().equals(getPhone())
                 && otherAttraction.getEmail().equals(getEmail())
@@ -170,9 +198,12 @@ public class Attraction {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, description, location,
-                openingHours, priceRange, rating, visited, tags);
+        if (hash == 0) {
+            // use this method for custom fields hashing instead of implementing your own
+            hash = Objects.hash(name, phone, email, address, description, location,
+                    openingHours, priceRange, rating, visited, tags);
+        }
+        return hash;
     }
 
     @Override
@@ -1,9 +1,12 @@
 package seedu.address.model.attraction;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
+import seedu.address.model.tag.Tag;
 
 /**
  * Tests that an {@code Attraction}'s {@code Name}, {@code Address}, {@code Description},
@@ -17,6 +20,9 @@ public class AttractionContainsKeywordsPredicate implements Predicate<Attraction
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return Collections.unmodifiableList(keywords);
+    }
 
     @Override
     public boolean test(Attraction attraction) {
@@ -34,6 +40,35 @@ public class AttractionContainsKeywordsPredicate implements Predicate<Attraction
                 );
     }
 
+    /**
+     * Returns the case-folded words in the fields of {@code attraction} that keywords are matched against ignoring
+     * case.
+     */
+    public static List<String> getCaseFoldedWords(Attraction attraction) {
+        List<String> words = new ArrayList<>();
+        words.addAll(StringUtil.getCaseFoldedWords(attraction.getName().fullName));
+        words.addAll(StringUtil.getCaseFoldedWords(attraction.getAddress().value));
+        words.addAll(StringUtil.getCaseFoldedWords(attraction.getDescription().value));
+        words.addAll(StringUtil.getCaseFoldedWords(attraction.getEmail().value));
+        words.addAll(StringUtil.getCaseFoldedWords(attraction.getLocation().value));
+        words.addAll(StringUtil.getCaseFoldedWords(attraction.getOpeningHours().value));
+        words.addAll(StringUtil.getCaseFoldedWords(attraction.getPhone().value));
+        words.addAll(StringUtil.getCaseFoldedWords(attraction.getPriceRange().value));
+        words.addAll(StringUtil.getCaseFoldedWords(attraction.getRating().value));
+        return words;
+    }
+
+    /**
+     * Returns the names of the tags of {@code attraction}, which keywords are matched against exactly.
+     */
+    public static List<String> getTagNames(Attraction attraction) {
+        List<String> tagNames = new ArrayList<>();
+        for (Tag tag : attraction.getTags()) {
+            tagNames.add(tag.tagName);
+        }
+        return tagNames;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -0,0 +1,206 @@
+package seedu.address.model.attraction;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import seedu.address.commons.util.KeywordIndex;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An index of the attractions in a list by the words in their fields and by their tag names, which finds the
+ * attractions matching {@code AttractionContainsKeywordsPredicate} without testing every attraction, together
+ * with an {@code AttractionRankingIndex} that ranks them and an {@code AttractionTrigramIndex} that finds them
+ * despite typing mistakes in the keywords.
+ * The word index, the ranking index and the trigram index are each only built from the list when they are first
+ * needed by a search that uses them, and are then kept up to date by {@code UniqueAttractionList}, which must update
+ * this index before modifying the list.
+ */
+class AttractionKeywordIndex {
+
+    private final List<Attraction> attractions;
+    private final KeywordIndex<Attraction> words = new KeywordIndex<>();
+    private final KeywordIndex<Attraction> tagNames = new KeywordIndex<>();
+    private final AttractionRankingIndex rankingIndex = new AttractionRankingIndex();
+    private final AttractionTrigramIndex trigramIndex = new AttractionTrigramIndex();
+    private boolean isWordIndexBuilt;
+    private boolean isRankingIndexBuilt;
+    private boolean isTrigramIndexBuilt;
+    private long modificationCount;
+
+    /**
+     * Constructs an index of {@code attractions}, which is not built until it is first needed.
+     */
+    AttractionKeywordIndex(List<Attraction> attractions) {
+        requireNonNull(attractions);
+        this.attractions = attractions;
+    }
+
+    /**
+     * Adds {@code attraction} to the index, before it is added to the list.
+     */
+    void add(Attraction attraction) {
+        if (isWordIndexBuilt) {
+            indexWords(attraction);
+        }
+        if (isRankingIndexBuilt) {
+            rankingIndex.add(attraction);
+        }
+        if (isTrigramIndexBuilt) {
+            trigramIndex.add(attraction);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Removes {@code attraction} from the index, before it is removed from the list.
+     */
+    void remove(Attraction attraction) {
+        if (isWordIndexBuilt) {
+            words.remove(attraction, AttractionContainsKeywordsPredicate.getCaseFoldedWords(attraction));
+            tagNames.remove(attraction, AttractionContainsKeywordsPredicate.getTagNames(attraction));
+        }
+        if (isRankingIndexBuilt) {
+            rankingIndex.remove(attraction);
+        }
+        if (isTrigramIndexBuilt) {
+            trigramIndex.remove(attraction);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Drops the index, before the contents of the list are replaced, so that it is built again from the new
+     * contents when it is next needed.
+     */
+    void reset() {
+        words.clear();
+        tagNames.clear();
+        rankingIndex.clear();
+        trigramIndex.clear();
+        isWordIndexBuilt = false;
+        isRankingIndexBuilt = false;
+        isTrigramIndexBuilt = false;
+        modificationCount++;
+    }
+
+    /**
+     * Returns the attractions in the list that match any of {@code keywords}, as defined by
+     * {@code AttractionContainsKeywordsPredicate}.
+     */
+    Set<Attraction> find(List<String> keywords) {
+        requireNonNull(keywords);
+        if (!isWordIndexBuilt) {
+            attractions.forEach(this::indexWords);
+            isWordIndexBuilt = true;
+        }
+
+        Set<Attraction> matches = new HashSet<>();
+        for (String keyword : keywords) {
+            matches.addAll(words.get(StringUtil.foldCase(keyword.trim())));
+            matches.addAll(tagNames.get(keyword));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the attractions in the list that match any of {@code keywords}, or that have a word in their name or
+     * location within a few typing mistakes of any of {@code keywords}.
+     */
+    Set<Attraction> findFuzzy(List<String> keywords) {
+        Set<Attraction> matches = find(keywords);
+        if (!isTrigramIndexBuilt) {
+            attractions.forEach(trigramIndex::add);
+            isTrigramIndexBuilt = true;
+        }
+        matches.addAll(trigramIndex.find(keywords));
+        return matches;
+    }
+
+    /**
+     * Returns a predicate that is true for the attractions in the list that match any of {@code keywords}.
+     * The matches are found again only when the list has been modified since they were last found.
+     */
+    Predicate<Attraction> getMatcher(List<String> keywords) {
+        requireNonNull(keywords);
+        return createMatcher(() -> find(keywords));
+    }
+
+    /**
+     * Returns a predicate that is true for the attractions in the list that match any of {@code keywords}, allowing
+     * for a few typing mistakes in the names and locations of attractions.
+     * The matches are found again only when the list has been modified since they were last found.
+     */
+    Predicate<Attraction> getFuzzyMatcher(List<String> keywords) {
+        requireNonNull(keywords);
+        return createMatcher(() -> findFuzzy(keywords));
+    }
+
+    private Predicate<Attraction> createMatcher(Supplier<Set<Attraction>> matchFinder) {
+        return new Predicate<>() {
+            private Set<Attraction> matches;
+            private long matchesModificationCount = -1;
+
+            @Override
+            public boolean test(Attraction attraction) {
+                if (matchesModificationCount != modificationCount) {
+                    matches = matchFinder.get();
+                    matchesModificationCount = modificationCount;
+                }
+                return matches.contains(attraction);
+            }
+        };
+    }
+
+    /**
+     * Returns at most {@code limit} of the attractions in the list that match any of {@code keywords}, in order of
+     * their scores from the ranking index, highest first. Attractions with equal scores are in the order given by
+     * {@code listOrder}.
+     * Only the best {@code limit} attractions are kept while going through the matches, so the matches are not
+     * sorted in full.
+     */
+    List<Attraction> rank(List<String> keywords, int limit, Comparator<Attraction> listOrder) {
+        requireAllNonNull(keywords, listOrder);
+        checkArgument(limit > 0, "The number of attractions ranked should be positive.");
+        Set<Attraction> matches = find(keywords);
+        if (!isRankingIndexBuilt) {
+            attractions.forEach(rankingIndex::add);
+            isRankingIndexBuilt = true;
+        }
+        Map<Attraction, Double> scores = rankingIndex.score(keywords);
+        Comparator<Attraction> bestFirst = Comparator.<Attraction>comparingDouble(attraction ->
+                -scores.getOrDefault(attraction, 0.0)).thenComparing(listOrder);
+
+        // the worst of the best attractions so far is at the head, to be dropped when a better one is found
+        PriorityQueue<Attraction> best = new PriorityQueue<>(limit + 1, bestFirst.reversed());
+        for (Attraction attraction : matches) {
+            best.add(attraction);
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+
+        List<Attraction> ranked = new ArrayList<>();
+        while (!best.isEmpty()) {
+            ranked.add(best.poll());
+        }
+        Collections.reverse(ranked);
+        return ranked;
+    }
+
+    private void indexWords(Attraction attraction) {
+        words.add(attraction, AttractionContainsKeywordsPredicate.getCaseFoldedWords(attraction));
+        tagNames.add(attraction, AttractionContainsKeywordsPredicate.getTagNames(attraction));
+    }
+}
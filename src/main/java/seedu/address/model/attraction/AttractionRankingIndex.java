@@ -0,0 +1,149 @@
+package seedu.address.model.attraction;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Postings of the terms in the ranked fields of attractions, with the length of each field of each attraction, from
+ * which attractions are scored against keywords.
+ * Attractions are scored by the BM25F ranking function: the frequency of a term in each field is weighted by the
+ * field and normalised by the length of the field relative to its average length, before the weighted frequencies
+ * are summed, saturated and multiplied by the rarity of the term among attractions.
+ */
+class AttractionRankingIndex {
+
+    /**
+     * The fields of an attraction that are ranked, with their weights.
+     */
+    private enum RankedField {
+        NAME(4, attraction -> attraction.getName().fullName),
+        TAGS(3, attraction -> attraction.getTags().stream().map(tag -> tag.tagName).collect(Collectors.joining(" "))),
+        DESCRIPTION(2, attraction -> attraction.getDescription().value),
+        ADDRESS(1, attraction -> attraction.getAddress().value);
+
+        private final double weight;
+        private final Function<Attraction, String> value;
+
+        RankedField(double weight, Function<Attraction, String> value) {
+            this.weight = weight;
+            this.value = value;
+        }
+
+        private List<String> getTerms(Attraction attraction) {
+            return StringUtil.getCaseFoldedWords(value.apply(attraction));
+        }
+    }
+
+    private static final RankedField[] FIELDS = RankedField.values();
+    // Saturation of term frequencies and strength of field length normalisation.
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // Frequency of each term in each field of the attractions that have it.
+    private final Map<String, Map<Attraction, int[]>> postings = new HashMap<>();
+    // Length of each field of each attraction, and the total length of each field over all attractions.
+    private final Map<Attraction, int[]> fieldLengths = new HashMap<>();
+    private final long[] totalFieldLengths = new long[FIELDS.length];
+
+    /**
+     * Adds the terms in the ranked fields of {@code attraction}.
+     */
+    void add(Attraction attraction) {
+        int[] lengths = new int[FIELDS.length];
+        for (RankedField field : FIELDS) {
+            List<String> terms = field.getTerms(attraction);
+            for (String term : terms) {
+                postings.computeIfAbsent(term, unused -> new HashMap<>())
+                        .computeIfAbsent(attraction, unused -> new int[FIELDS.length])[field.ordinal()]++;
+            }
+            lengths[field.ordinal()] = terms.size();
+            totalFieldLengths[field.ordinal()] += terms.size();
+        }
+        fieldLengths.put(attraction, lengths);
+    }
+
+    /**
+     * Removes the terms in the ranked fields of {@code attraction}.
+     */
+    void remove(Attraction attraction) {
+        int[] lengths = fieldLengths.remove(attraction);
+        if (lengths == null) {
+            return;
+        }
+
+        for (RankedField field : FIELDS) {
+            for (String term : field.getTerms(attraction)) {
+                Map<Attraction, int[]> attractions = postings.get(term);
+                if (attractions != null && attractions.remove(attraction) != null && attractions.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+            totalFieldLengths[field.ordinal()] -= lengths[field.ordinal()];
+        }
+    }
+
+    /**
+     * Removes every attraction.
+     */
+    void clear() {
+        postings.clear();
+        fieldLengths.clear();
+        Arrays.fill(totalFieldLengths, 0);
+    }
+
+    /**
+     * Returns the score of each attraction that has any of {@code keywords} in its ranked fields.
+     * Attractions that have none of them have a score of 0 and are left out.
+     */
+    Map<Attraction, Double> score(Collection<String> keywords) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String keyword : keywords) {
+            terms.add(StringUtil.foldCase(keyword.trim()));
+        }
+
+        int numberOfAttractions = fieldLengths.size();
+        Map<Attraction, Double> scores = new HashMap<>();
+        for (String term : terms) {
+            Map<Attraction, int[]> attractions = postings.get(term);
+            if (attractions == null) {
+                continue;
+            }
+
+            double inverseDocumentFrequency = Math.log(1
+                    + (numberOfAttractions - attractions.size() + 0.5) / (attractions.size() + 0.5));
+            for (Map.Entry<Attraction, int[]> entry : attractions.entrySet()) {
+                double weightedFrequency = getWeightedFrequency(entry.getValue(), fieldLengths.get(entry.getKey()));
+                double termScore = inverseDocumentFrequency * weightedFrequency / (K1 + weightedFrequency);
+                scores.merge(entry.getKey(), termScore, Double::sum);
+            }
+        }
+        return scores;
+    }
+
+    /**
+     * Returns the sum over the ranked fields of the frequencies of a term, weighted by field and normalised by
+     * field length.
+     */
+    private double getWeightedFrequency(int[] frequencies, int[] lengths) {
+        int numberOfAttractions = fieldLengths.size();
+        double weightedFrequency = 0;
+        for (RankedField field : FIELDS) {
+            int i = field.ordinal();
+            if (frequencies[i] == 0) {
+                continue;
+            }
+            double averageLength = (double) totalFieldLengths[i] / numberOfAttractions;
+            weightedFrequency += field.weight * frequencies[i] / (1 - B + B * lengths[i] / averageLength);
+        }
+        return weightedFrequency;
+    }
+}
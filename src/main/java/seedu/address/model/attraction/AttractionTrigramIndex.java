@@ -0,0 +1,251 @@
+package seedu.address.model.attraction;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.KeywordIndex;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An index of the words in the names and locations of attractions by their character trigrams, which finds the
+ * attractions with a word that is a few typing mistakes away from a keyword without comparing the keyword with
+ * every word.
+ * Words that share too few trigrams with a keyword to be close to it are skipped, and the rest are verified by their
+ * edit distance to the keyword, in which a swap of two adjacent characters counts as one mistake.
+ * Keywords so short that their mistakes may change all of their trigrams are instead looked up by the strings left
+ * after deleting up to as many characters as mistakes are allowed, as a word within that many mistakes of a keyword
+ * leaves a string that the keyword also leaves. These strings are only indexed for the short words that such
+ * keywords can match.
+ */
+class AttractionTrigramIndex {
+
+    private static final int TRIGRAM_LENGTH = 3;
+    // One mistake changes at most this many of the trigrams of a word.
+    private static final int TRIGRAMS_PER_MISTAKE = 4;
+    // Marks the start and end of a word, so that its first and last characters are in as many trigrams as the others.
+    private static final String PADDING = "\u0000\u0000";
+    // The most mistakes allowed in any keyword, as returned by getMaxMistakes.
+    private static final int MAX_MISTAKES = 2;
+    // Keywords up to this length may have all of their trigrams changed by their mistakes.
+    private static final int MAX_SHORT_KEYWORD_LENGTH =
+            TRIGRAMS_PER_MISTAKE * MAX_MISTAKES - (2 * PADDING.length() - TRIGRAM_LENGTH + 1);
+
+    private final KeywordIndex<Attraction> attractionsByWord = new KeywordIndex<>();
+    private final Map<String, Set<String>> wordsByTrigram = new HashMap<>();
+    // Words of up to MAX_SHORT_KEYWORD_LENGTH + MAX_MISTAKES characters by the strings left after deletions.
+    private final Map<String, Set<String>> shortWordsByDeletions = new HashMap<>();
+
+    /**
+     * Adds the words in the name and location of {@code attraction}.
+     */
+    void add(Attraction attraction) {
+        List<String> words = getWords(attraction);
+        for (String word : words) {
+            if (attractionsByWord.get(word).isEmpty()) {
+                for (String trigram : getTrigrams(word)) {
+                    wordsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(word);
+                }
+                for (String deletions : getShortWordDeletions(word)) {
+                    shortWordsByDeletions.computeIfAbsent(deletions, unused -> new HashSet<>()).add(word);
+                }
+            }
+        }
+        attractionsByWord.add(attraction, words);
+    }
+
+    /**
+     * Removes the words in the name and location of {@code attraction}.
+     */
+    void remove(Attraction attraction) {
+        List<String> words = getWords(attraction);
+        attractionsByWord.remove(attraction, words);
+        for (String word : words) {
+            if (!attractionsByWord.get(word).isEmpty()) {
+                continue;
+            }
+            for (String trigram : getTrigrams(word)) {
+                Set<String> trigramWords = wordsByTrigram.get(trigram);
+                if (trigramWords != null && trigramWords.remove(word) && trigramWords.isEmpty()) {
+                    wordsByTrigram.remove(trigram);
+                }
+            }
+            for (String deletions : getShortWordDeletions(word)) {
+                Set<String> deletionsWords = shortWordsByDeletions.get(deletions);
+                if (deletionsWords != null && deletionsWords.remove(word) && deletionsWords.isEmpty()) {
+                    shortWordsByDeletions.remove(deletions);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes every attraction.
+     */
+    void clear() {
+        attractionsByWord.clear();
+        wordsByTrigram.clear();
+        shortWordsByDeletions.clear();
+    }
+
+    /**
+     * Returns the attractions with a word in their name or location that is within the allowed number of mistakes
+     * of any of {@code keywords}.
+     */
+    Set<Attraction> find(List<String> keywords) {
+        Set<Attraction> matches = new HashSet<>();
+        for (String keyword : keywords) {
+            String word = StringUtil.foldCase(keyword.trim());
+            int maxMistakes = getMaxMistakes(word);
+            for (String candidate : getCandidates(word, maxMistakes)) {
+                if (isWithinMistakes(word, candidate, maxMistakes)) {
+                    matches.addAll(attractionsByWord.get(candidate));
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the words in the index that share enough trigrams with {@code word} to be within {@code maxMistakes}
+     * mistakes of it, and are of a length that allows it.
+     * When {@code word} is so short that the mistakes may change all of its trigrams, as two swaps do in a word of
+     * six characters, a word within that many mistakes need not share any, so the words that leave the same string
+     * as {@code word} after deletions are returned instead.
+     */
+    private Set<String> getCandidates(String word, int maxMistakes) {
+        if (word.length() <= MAX_SHORT_KEYWORD_LENGTH && maxMistakes > 0) {
+            Set<String> candidates = new HashSet<>();
+            for (String deletions : getDeletions(word, maxMistakes)) {
+                candidates.addAll(shortWordsByDeletions.getOrDefault(deletions, Set.of()));
+            }
+            return candidates;
+        }
+
+        Set<String> trigrams = getTrigrams(word);
+        Map<String, Integer> sharedTrigrams = new HashMap<>();
+        for (String trigram : trigrams) {
+            for (String candidate : wordsByTrigram.getOrDefault(trigram, Set.of())) {
+                sharedTrigrams.merge(candidate, 1, Integer::sum);
+            }
+        }
+
+        // a longer word keeps at least one of its trigrams, but may not keep more if it repeats them
+        int minSharedTrigrams = Math.max(1, trigrams.size() - TRIGRAMS_PER_MISTAKE * maxMistakes);
+        Set<String> candidates = new HashSet<>();
+        for (Map.Entry<String, Integer> entry : sharedTrigrams.entrySet()) {
+            if (entry.getValue() >= minSharedTrigrams
+                    && Math.abs(entry.getKey().length() - word.length()) <= maxMistakes) {
+                candidates.add(entry.getKey());
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the number of mistakes allowed in a keyword, which is more for longer keywords so that short keywords
+     * do not match too many words.
+     */
+    static int getMaxMistakes(String keyword) {
+        if (keyword.length() <= 2) {
+            return 0;
+        } else if (keyword.length() <= 5) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    /**
+     * Returns true if {@code first} can be changed into {@code second} with at most {@code maxMistakes} insertions,
+     * deletions, substitutions of one character, or swaps of two adjacent characters.
+     * Stops as soon as every way of changing a prefix of {@code first} takes more mistakes than allowed.
+     */
+    static boolean isWithinMistakes(String first, String second, int maxMistakes) {
+        if (Math.abs(first.length() - second.length()) > maxMistakes) {
+            return false;
+        }
+
+        // mistakes needed to change the first i characters of first into the first j characters of second, for
+        // the current and the two previous values of i
+        int[] previousPrevious = new int[second.length() + 1];
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            int rowMinimum = current[0];
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + substitution);
+                if (i > 1 && j > 1 && first.charAt(i - 1) == second.charAt(j - 2)
+                        && first.charAt(i - 2) == second.charAt(j - 1)) {
+                    current[j] = Math.min(current[j], previousPrevious[j - 2] + 1);
+                }
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (rowMinimum > maxMistakes) {
+                return false;
+            }
+
+            int[] reused = previousPrevious;
+            previousPrevious = previous;
+            previous = current;
+            current = reused;
+        }
+        return previous[second.length()] <= maxMistakes;
+    }
+
+    /**
+     * Returns the strings left after deleting up to {@code MAX_MISTAKES} characters from {@code word}, if it is short
+     * enough to be matched by a keyword of up to {@code MAX_SHORT_KEYWORD_LENGTH} characters, or none otherwise.
+     */
+    private static Set<String> getShortWordDeletions(String word) {
+        if (word.length() > MAX_SHORT_KEYWORD_LENGTH + MAX_MISTAKES) {
+            return Set.of();
+        }
+        return getDeletions(word, MAX_MISTAKES);
+    }
+
+    /**
+     * Returns the strings left after deleting up to {@code maxDeletions} characters from {@code word}, including
+     * {@code word} itself.
+     */
+    private static Set<String> getDeletions(String word, int maxDeletions) {
+        Set<String> deletions = new HashSet<>(Set.of(word));
+        Set<String> previousDeletions = deletions;
+        for (int i = 0; i < maxDeletions; i++) {
+            Set<String> nextDeletions = new HashSet<>();
+            for (String previous : previousDeletions) {
+                for (int j = 0; j < previous.length(); j++) {
+                    nextDeletions.add(previous.substring(0, j) + previous.substring(j + 1));
+                }
+            }
+            deletions.addAll(nextDeletions);
+            previousDeletions = nextDeletions;
+        }
+        return deletions;
+    }
+
+    private static Set<String> getTrigrams(String word) {
+        String paddedWord = PADDING + word + PADDING;
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + TRIGRAM_LENGTH <= paddedWord.length(); i++) {
+            trigrams.add(paddedWord.substring(i, i + TRIGRAM_LENGTH));
+        }
+        return trigrams;
+    }
+
+    private static List<String> getWords(Attraction attraction) {
+        List<String> words = new ArrayList<>();
+        words.addAll(StringUtil.getCaseFoldedWords(attraction.getName().fullName));
+        words.addAll(StringUtil.getCaseFoldedWords(attraction.getLocation().value));
+        return words;
+    }
+}
@@ -0,0 +1,193 @@
+package seedu.address.model.attraction;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
+
+/**
+ * A list of attractions that are decoded on demand from numbered records, such as those of a memory-mapped file, so
+ * that only the attractions in use are held in memory.
+ * Attractions added to or set in the list are held in memory, and the most recently decoded attractions are cached.
+ * The records must not change while the list or any of its copies is in use.
+ */
+public class LazyAttractionList extends AbstractList<Attraction> implements RandomAccess {
+
+    public static final int CACHE_CAPACITY = 1024;
+
+    private final IntFunction<Attraction> decoder;
+    private final IntFunction<String> keyDecoder;
+    private final Map<Integer, Attraction> cache;
+    private final List<Attraction> heldAttractions;
+
+    // Each slot is either the number of a record, or -(i + 1) for the i-th held attraction.
+    // The slots are only allocated when the list is first modified, until then slot i is record i.
+    private int[] slots;
+    private int size;
+
+    /**
+     * Constructs a {@code LazyAttractionList} of the records numbered 0 to {@code recordCount - 1}, which are decoded
+     * by {@code decoder}.
+     * The decoded attractions must be unique, as the list is usually wrapped by a {@code UniqueAttractionList}.
+     */
+    public LazyAttractionList(int recordCount, IntFunction<Attraction> decoder) {
+        this(recordCount, decoder, recordNumber -> decoder.apply(recordNumber).getIdentityKey());
+    }
+
+    /**
+     * Constructs a {@code LazyAttractionList} like {@link #LazyAttractionList(int, IntFunction)}, where
+     * {@code keyDecoder} decodes only the identity key of the attraction in a record, which is cheaper than decoding
+     * the whole attraction.
+     */
+    public LazyAttractionList(int recordCount, IntFunction<Attraction> decoder, IntFunction<String> keyDecoder) {
+        requireNonNull(decoder);
+        requireNonNull(keyDecoder);
+        this.decoder = decoder;
+        this.keyDecoder = keyDecoder;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Attraction> eldest) {
+                return size() > CACHE_CAPACITY;
+            }
+        };
+        this.heldAttractions = new ArrayList<>();
+        this.size = recordCount;
+    }
+
+    /**
+     * Constructs a copy of {@code source} that decodes the same records without decoding them again.
+     */
+    private LazyAttractionList(LazyAttractionList source) {
+        decoder = source.decoder;
+        keyDecoder = source.keyDecoder;
+        cache = source.cache;
+        heldAttractions = new ArrayList<>(source.heldAttractions);
+        slots = source.slots == null ? null : Arrays.copyOf(source.slots, source.size);
+        size = source.size;
+    }
+
+    /**
+     * Returns a copy of this list, which shares its records and cache but is modified independently.
+     */
+    public LazyAttractionList copy() {
+        return new LazyAttractionList(this);
+    }
+
+    @Override
+    public Attraction get(int index) {
+        int slot = slotAt(index);
+        if (slot < 0) {
+            return heldAttractions.get(-slot - 1);
+        }
+        synchronized (cache) {
+            return cache.computeIfAbsent(slot, decoder::apply);
+        }
+    }
+
+    /**
+     * Returns the identity key of the attraction at {@code index}, as returned by
+     * {@link Attraction#getIdentityKey()}, without decoding the attraction if it is not held or cached.
+     */
+    public String getIdentityKey(int index) {
+        int slot = slotAt(index);
+        if (slot < 0) {
+            return heldAttractions.get(-slot - 1).getIdentityKey();
+        }
+        synchronized (cache) {
+            Attraction cached = cache.get(slot);
+            if (cached != null) {
+                return cached.getIdentityKey();
+            }
+        }
+        return keyDecoder.apply(slot);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Attraction set(int index, Attraction element) {
+        requireNonNull(element);
+        Attraction previous = get(index);
+        allocateSlots(size);
+        if (slots[index] < 0) {
+            heldAttractions.set(-slots[index] - 1, element);
+        } else {
+            slots[index] = hold(element);
+        }
+        return previous;
+    }
+
+    @Override
+    public void add(int index, Attraction element) {
+        requireNonNull(element);
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        allocateSlots(size + 1);
+        System.arraycopy(slots, index, slots, index + 1, size - index);
+        slots[index] = hold(element);
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public Attraction remove(int index) {
+        Attraction removed = get(index);
+        removeRange(index, index + 1);
+        return removed;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        allocateSlots(size);
+        System.arraycopy(slots, toIndex, slots, fromIndex, size - toIndex);
+        size -= toIndex - fromIndex;
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        slots = new int[0];
+        heldAttractions.clear();
+        size = 0;
+        modCount++;
+    }
+
+    private int slotAt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return slots == null ? index : slots[index];
+    }
+
+    /**
+     * Holds {@code attraction} in memory and returns its slot.
+     */
+    private int hold(Attraction attraction) {
+        heldAttractions.add(attraction);
+        return -heldAttractions.size();
+    }
+
+    /**
+     * Ensures that the slots are allocated and can hold at least {@code capacity} elements.
+     */
+    private void allocateSlots(int capacity) {
+        if (slots == null) {
+            slots = new int[Math.max(capacity, 16)];
+            for (int i = 0; i < size; i++) {
+                slots[i] = i;
+            }
+        } else if (capacity > slots.length) {
+            slots = Arrays.copyOf(slots, Math.max(capacity, slots.length + (slots.length >> 1)));
+        }
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.attraction;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents an Attraction's location in TrackPad.
  * Guarantees: immutable; is valid as declared in {@link #isValidLocation(String)}
@@ -17,6 +19,8 @@ public class Location {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
+    private static final Interner<Location> INTERNER = new Interner<>();
+
     public final String value;
 
     /**
@@ -30,6 +34,15 @@ public class Location {
         value = location;
     }
 
+    /**
+     * Returns a {@code Location} of {@code location}, sharing the instance of any equal one in use.
+     *
+     * @param location A valid location.
+     */
+    public static Location of(String location) {
+        return INTERNER.intern(new Location(location));
+    }
+
     /**
      * Returns true if a given string is a valid location.
      */
@@ -3,6 +3,8 @@ package seedu.address.model.attraction;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents an Attraction's price range in TrackPad.
  * Guarantees: immutable; is valid as declared in {@link #isValidPriceRange(String)} (String)}
@@ -13,6 +15,13 @@ public class PriceRange {
             + "LOW, MEDIUM, or HIGH.";
     public static final String VALIDATION_REGEX = "(?i)\\bLOW\\b|\\bMEDIUM\\b|\\bHIGH\\b|^$";
 
+    // Estimated cost of a visit to an attraction in each price range, in cents.
+    private static final long LOW_COST_ESTIMATE = 20_00;
+    private static final long MEDIUM_COST_ESTIMATE = 50_00;
+    private static final long HIGH_COST_ESTIMATE = 100_00;
+
+    private static final Interner<PriceRange> INTERNER = new Interner<>();
+
     public final String value;
 
     /**
@@ -33,6 +42,15 @@ public class PriceRange {
         value = "";
     }
 
+    /**
+     * Returns a {@code PriceRange} of {@code priceRange}, sharing the instance of any equal one in use.
+     *
+     * @param priceRange A valid price range.
+     */
+    public static PriceRange of(String priceRange) {
+        return INTERNER.intern(new PriceRange(priceRange));
+    }
+
     /**
      * Returns if a given string is a valid price range.
      */
@@ -40,6 +58,21 @@ public class PriceRange {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the estimated cost in cents of a visit to an attraction in this price range, or 0 if it has no value.
+     */
+    public long getCostEstimate() {
+        if (value.equals("LOW")) {
+            return LOW_COST_ESTIMATE;
+        } else if (value.equals("MEDIUM")) {
+            return MEDIUM_COST_ESTIMATE;
+        } else if (value.equals("HIGH")) {
+            return HIGH_COST_ESTIMATE;
+        } else {
+            return 0;
+        }
+    }
+
     @Override
     public String toString() {
         if (value.equalsIgnoreCase("LOW")) {
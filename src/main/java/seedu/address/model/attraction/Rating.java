@@ -3,6 +3,8 @@ package seedu.address.model.attraction;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents an Attraction's rating in TrackPad.
  * Guarantees: immutable; is valid as declared in {@link #isValidRating(String)} (String)}
@@ -13,6 +15,8 @@ public class Rating {
             + "between 0.0 to 5.0(inclusive), to 1 decimal place.";
     public static final String VALIDATION_REGEX = "^([0-4]\\.[0-9]|5\\.0)$|^$";
 
+    private static final Interner<Rating> INTERNER = new Interner<>();
+
     public final String value;
 
     /**
@@ -33,6 +37,15 @@ public class Rating {
         value = "";
     }
 
+    /**
+     * Returns a {@code Rating} of {@code rating}, sharing the instance of any equal one in use.
+     *
+     * @param rating A valid rating.
+     */
+    public static Rating of(String rating) {
+        return INTERNER.intern(new Rating(rating));
+    }
+
     /**
      * Returns if a given string is a valid rating.
      */
@@ -3,8 +3,15 @@ package seedu.address.model.attraction;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +25,9 @@ import seedu.address.model.attraction.exceptions.DuplicateAttractionException;
  * the attraction being added or updated is unique in terms of identity in the UniqueAttractionList. However, the
  * removal of an attraction uses Attraction#equals(Object) so as to ensure that the attraction with exactly the same
  * fields will be removed.
+ * Attractions are found by their identity through a hash index of stable sequence numbers, which increase along the
+ * list, so that checking for, adding, replacing and removing an attraction does not search the whole list or renumber
+ * the attractions after it, and are found by keyword through an inverted index of the words in their fields.
  *
  * Supports a minimal set of list operations.
  *
@@ -25,16 +35,61 @@ import seedu.address.model.attraction.exceptions.DuplicateAttractionException;
  */
 public class UniqueAttractionList implements Iterable<Attraction> {
 
-    private final ObservableList<Attraction> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Attraction> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final List<Attraction> backingList;
+    private final ObservableList<Attraction> internalList;
+    private final ObservableList<Attraction> internalUnmodifiableList;
+
+    // Sequence number of each attraction in the list by its identity, and the sequence numbers in list order, which
+    // are increasing so that the position of a sequence number is found by binary search. Null until they are first
+    // needed, and then built from the identity keys of a LazyAttractionList without decoding its attractions.
+    private Map<String, Long> sequences;
+    private long[] sequencesInOrder;
+    private long nextSequence;
+    private final AttractionKeywordIndex keywordIndex;
+
+    public UniqueAttractionList() {
+        this(new ArrayList<>());
+    }
+
+    /**
+     * Constructs a {@code UniqueAttractionList} that wraps {@code backingList}, such as a
+     * {@code LazyAttractionList}. {@code backingList} must not contain duplicate attractions, and must only be
+     * modified through this list afterwards.
+     */
+    public UniqueAttractionList(List<Attraction> backingList) {
+        requireNonNull(backingList);
+        this.backingList = backingList;
+        internalList = FXCollections.observableList(backingList);
+        internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+        keywordIndex = new AttractionKeywordIndex(internalList);
+    }
+
+    /**
+     * Returns a copy of this list, which wraps a copy of its backing list.
+     * The attractions of a {@code LazyAttractionList} are not decoded to copy it.
+     */
+    public UniqueAttractionList copy() {
+        if (backingList instanceof LazyAttractionList) {
+            return new UniqueAttractionList(((LazyAttractionList) backingList).copy());
+        }
+        return new UniqueAttractionList(new ArrayList<>(backingList));
+    }
 
     /**
      * Returns true if the list contains an equivalent attraction as the given argument.
      */
     public boolean contains(Attraction toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameAttraction);
+        return getSequences().containsKey(toCheck.getIdentityKey());
+    }
+
+    /**
+     * Returns the attraction in the list with the same identity as {@code toFind}, if there is one.
+     */
+    public Optional<Attraction> find(Attraction toFind) {
+        requireNonNull(toFind);
+        int index = positionOf(toFind.getIdentityKey());
+        return index == -1 ? Optional.empty() : Optional.of(internalList.get(index));
     }
 
     /**
@@ -46,7 +101,14 @@ public class UniqueAttractionList implements Iterable<Attraction> {
         if (contains(toAdd)) {
             throw new DuplicateAttractionException();
         }
+        keywordIndex.add(toAdd);
         internalList.add(toAdd);
+        if (internalList.size() > sequencesInOrder.length) {
+            sequencesInOrder = Arrays.copyOf(sequencesInOrder,
+                    Math.max(16, sequencesInOrder.length + (sequencesInOrder.length >> 1)));
+        }
+        sequencesInOrder[internalList.size() - 1] = nextSequence;
+        sequences.put(toAdd.getIdentityKey(), nextSequence++);
     }
 
     /**
@@ -58,7 +120,7 @@ public class UniqueAttractionList implements Iterable<Attraction> {
     public void setAttraction(Attraction target, Attraction editedAttraction) {
         requireAllNonNull(target, editedAttraction);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new AttractionNotFoundException();
         }
@@ -67,7 +129,10 @@ public class UniqueAttractionList implements Iterable<Attraction> {
             throw new DuplicateAttractionException();
         }
 
+        keywordIndex.remove(target);
+        keywordIndex.add(editedAttraction);
         internalList.set(index, editedAttraction);
+        sequences.put(editedAttraction.getIdentityKey(), sequences.remove(target.getIdentityKey()));
     }
 
     /**
@@ -76,14 +141,29 @@ public class UniqueAttractionList implements Iterable<Attraction> {
      */
     public void remove(Attraction toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new AttractionNotFoundException();
         }
+
+        keywordIndex.remove(toRemove);
+        internalList.remove(index);
+        sequences.remove(toRemove.getIdentityKey());
+        System.arraycopy(sequencesInOrder, index + 1, sequencesInOrder, index, internalList.size() - index);
     }
 
     public void setAttractions(UniqueAttractionList replacement) {
         requireNonNull(replacement);
+        keywordIndex.reset();
         internalList.setAll(replacement.internalList);
+        if (replacement.sequences == null) {
+            sequences = null;
+            sequencesInOrder = null;
+        } else {
+            sequences = new HashMap<>(replacement.sequences);
+            sequencesInOrder = replacement.sequencesInOrder.clone();
+            nextSequence = replacement.nextSequence;
+        }
     }
 
     /**
@@ -92,11 +172,39 @@ public class UniqueAttractionList implements Iterable<Attraction> {
      */
     public void setAttractions(List<Attraction> attractions) {
         requireAllNonNull(attractions);
-        if (!attractionsAreUnique(attractions)) {
+        Map<String, Long> newSequences = toSequences(attractions);
+        if (newSequences == null) {
             throw new DuplicateAttractionException();
         }
 
+        keywordIndex.reset();
         internalList.setAll(attractions);
+        setSequences(newSequences);
+    }
+
+    /**
+     * Returns a predicate that is true for the attractions in this list that match any of {@code keywords}, as
+     * defined by {@code AttractionContainsKeywordsPredicate}. The predicate stays up to date as this list changes.
+     */
+    public Predicate<Attraction> getKeywordMatcher(List<String> keywords) {
+        return keywordIndex.getMatcher(keywords);
+    }
+
+    /**
+     * Returns a predicate like {@link #getKeywordMatcher(List)}, which is also true for the attractions with a word
+     * in their name or location within a few typing mistakes of any of {@code keywords}.
+     */
+    public Predicate<Attraction> getFuzzyKeywordMatcher(List<String> keywords) {
+        return keywordIndex.getFuzzyMatcher(keywords);
+    }
+
+    /**
+     * Returns at most {@code limit} of the attractions in this list that match any of {@code keywords}, in order of
+     * relevance to {@code keywords}, most relevant first. Equally relevant attractions are in the order of this list.
+     */
+    public List<Attraction> rank(List<String> keywords, int limit) {
+        return keywordIndex.rank(keywords, limit,
+                Comparator.comparingLong(attraction -> getSequences().get(attraction.getIdentityKey())));
     }
 
     /**
@@ -124,16 +232,64 @@ public class UniqueAttractionList implements Iterable<Attraction> {
     }
 
     /**
-     * Returns true if {@code attractions} contains only unique attractions.
+     * Returns the position in the list of the attraction equal to {@code attraction}, or -1 if there is none.
+     */
+    private int indexOf(Attraction attraction) {
+        int index = positionOf(attraction.getIdentityKey());
+        return index != -1 && internalList.get(index).equals(attraction) ? index : -1;
+    }
+
+    /**
+     * Returns the position in the list of the attraction with the given {@code identityKey}, or -1 if there is none.
+     */
+    private int positionOf(String identityKey) {
+        Long sequence = getSequences().get(identityKey);
+        if (sequence == null) {
+            return -1;
+        }
+        int index = Arrays.binarySearch(sequencesInOrder, 0, internalList.size(), sequence);
+        assert index >= 0 : "Sequence numbers are out of step with the list";
+        return index;
+    }
+
+    private Map<String, Long> getSequences() {
+        if (sequences == null) {
+            Map<String, Long> newSequences = toSequences(backingList);
+            assert newSequences != null : "List contains duplicate attractions";
+            setSequences(newSequences);
+        }
+        return sequences;
+    }
+
+    /**
+     * Sets the sequence numbers to {@code newSequences}, which numbers the attractions in the list by their position.
+     */
+    private void setSequences(Map<String, Long> newSequences) {
+        sequences = newSequences;
+        nextSequence = internalList.size();
+        sequencesInOrder = new long[Math.max(16, internalList.size())];
+        for (int i = 0; i < internalList.size(); i++) {
+            sequencesInOrder[i] = i;
+        }
+    }
+
+    /**
+     * Returns the position of each of {@code attractions} by its identity, or null if {@code attractions} contains
+     * duplicate attractions. The attractions of a {@code LazyAttractionList} are not decoded.
      */
-    private boolean attractionsAreUnique(List<Attraction> attractions) {
-        for (int i = 0; i < attractions.size() - 1; i++) {
-            for (int j = i + 1; j < attractions.size(); j++) {
-                if (attractions.get(i).isSameAttraction(attractions.get(j))) {
-                    return false;
-                }
+    private static Map<String, Long> toSequences(List<Attraction> attractions) {
+        LazyAttractionList lazyAttractions = attractions instanceof LazyAttractionList
+                ? (LazyAttractionList) attractions
+                : null;
+        Map<String, Long> sequences = new HashMap<>();
+        for (int i = 0; i < attractions.size(); i++) {
+            String identityKey = lazyAttractions == null
+                    ? attractions.get(i).getIdentityKey()
+                    : lazyAttractions.getIdentityKey(i);
+            if (sequences.put(identityKey, (long) i) != null) {
+                return null;
             }
         }
-        return true;
+        return sequences;
     }
 }
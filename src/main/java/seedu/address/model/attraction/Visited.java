@@ -3,6 +3,8 @@ package seedu.address.model.attraction;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents an Attraction's visited status in TrackPad.
  * Guarantees: immutable; is valid as declared in {@link #isValidVisited(String)} (String)}
@@ -13,6 +15,8 @@ public class Visited {
             + "TRUE or FALSE.";
     public static final String VALIDATION_REGEX = "(?i)\\bTRUE\\b|\\bFALSE\\b|^$";
 
+    private static final Interner<Visited> INTERNER = new Interner<>();
+
     public final String value;
 
     /**
@@ -33,6 +37,15 @@ public class Visited {
         value = "";
     }
 
+    /**
+     * Returns a {@code Visited} of {@code visited}, sharing the instance of any equal one in use.
+     *
+     * @param visited A valid visited status.
+     */
+    public static Visited of(String visited) {
+        return INTERNER.intern(new Visited(visited));
+    }
+
     /**
      * Returns if a given string is a valid visited status.
      */
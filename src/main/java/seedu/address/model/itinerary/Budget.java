@@ -4,16 +4,19 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 /**
- * Represents an Itinerary's budget in TrackPad.
+ * Represents an Itinerary's budget in TrackPad, stored as a number of cents.
  */
 public class Budget {
 
     public static final String MESSAGE_CONSTRAINTS =
-            "Budget should only be a non-negative number, and if it contains decimal values it should only be"
-                    + " up to two decimal places.";
+            "Budget should only be a non-negative number of at most 15 digits, and if it contains decimal values it"
+                    + " should only be up to two decimal places.";
     public static final String VALIDATION_REGEX = "^?[0-9]+(\\.[0-9]{1,2})?$|^$";
 
-    public final String value;
+    private static final int MAX_DOLLAR_DIGITS = 15;
+    private static final long NO_VALUE = -1;
+
+    private final long cents;
 
     /**
      * Constructs a {@code Budget}.
@@ -23,33 +26,77 @@ public class Budget {
     public Budget(String budget) {
         requireNonNull(budget);
         checkArgument(isValidBudget(budget), MESSAGE_CONSTRAINTS);
-        if (budget.equals("")) { //Double.parseDouble("") doesn't give correct output
-            value = "";
-        } else {
-            value = String.format("%.2f", Double.parseDouble(budget));
-        }
+        cents = budget.isEmpty() ? NO_VALUE : parseCents(budget);
     }
 
     /**
      * Constructs a {@code Budget} without value.
      */
     public Budget() {
-        value = "";
+        cents = NO_VALUE;
     }
 
     /**
      * Returns if a given string is a valid budget.
      */
     public static boolean isValidBudget(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (!test.matches(VALIDATION_REGEX)) {
+            return false;
+        }
+        int decimalPoint = test.indexOf('.');
+        String dollars = (decimalPoint == -1 ? test : test.substring(0, decimalPoint)).replaceFirst("^0+", "");
+        return dollars.length() <= MAX_DOLLAR_DIGITS;
+    }
+
+    /**
+     * Returns the number of cents in {@code budget}, which has up to two decimal places.
+     */
+    private static long parseCents(String budget) {
+        int decimalPoint = budget.indexOf('.');
+        if (decimalPoint == -1) {
+            return Long.parseLong(budget) * 100;
+        }
+        String decimals = (budget.substring(decimalPoint + 1) + "0").substring(0, 2);
+        return Long.parseLong(budget.substring(0, decimalPoint)) * 100 + Integer.parseInt(decimals);
+    }
+
+    /**
+     * Returns true if this budget has no value.
+     */
+    public boolean isEmpty() {
+        return cents == NO_VALUE;
+    }
+
+    /**
+     * Returns the number of cents in this budget, which must have a value.
+     */
+    public long getCents() {
+        assert !isEmpty();
+        return cents;
+    }
+
+    /**
+     * Returns this budget as a number with two decimal places, or an empty string if it has no value.
+     */
+    public String getValue() {
+        return isEmpty() ? "" : formatCents(cents);
+    }
+
+    /**
+     * Returns {@code cents} as a number of dollars with two decimal places.
+     */
+    public static String formatCents(long cents) {
+        String sign = cents < 0 ? "-" : "";
+        long absoluteCents = Math.abs(cents);
+        return String.format("%s%d.%02d", sign, absoluteCents / 100, absoluteCents % 100);
     }
 
     @Override
     public String toString() {
-        if (value.equals("")) {
+        if (isEmpty()) {
             return "";
         } else {
-            return "$" + value;
+            return "$" + getValue();
         }
     }
 
@@ -57,11 +104,11 @@ public class Budget {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Budget// instanceof handles nulls
-                && value.equals(((Budget) other).value)); // state check
+                && cents == ((Budget) other).cents); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Long.hashCode(cents);
     }
 }
@@ -2,25 +2,43 @@ package seedu.address.model.itinerary;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.model.attraction.Attraction;
+import seedu.address.model.attraction.Location;
 import seedu.address.model.itinerary.exceptions.DuplicateItineraryAttractionException;
 import seedu.address.model.itinerary.exceptions.ItineraryAttractionNotFoundException;
 
 /**
  * Represents an Itinerary's day in TrackPad.
+ * Itinerary attractions are kept in order of their start times, and those that do not clash are also in order of
+ * their end times, so the itinerary attractions around a given time are found by a binary search.
+ * They are kept in an array list rather than a tree, as a day holds few of them and the list is shown as it is, so
+ * inserting into the list costs little even though it shifts the itinerary attractions after the insertion point.
  */
 public class Day {
 
     public static final String MESSAGE_CONSTRAINTS = "Day should be a positive number, not be blank, and"
             + " should exist within the date range of the itinerary.";
     public final Integer value;
-    private final List<ItineraryAttraction> itineraryAttractions;
+    // Shared with the copies of the Day until either of them is modified, when the modified one takes its own copy.
+    private List<ItineraryAttraction> itineraryAttractions;
+    private boolean isShared;
+    private long estimatedCost;
+    // Distinct locations of the itinerary attractions in order of time. Null until needed after the Day is modified.
+    private List<Location> locations;
+    // The itinerary of the Day, which is told of changes to the Day so that it can update its summary of them.
+    private Itinerary itinerary;
 
     /**
      * Constructs an empty {@code Day} of day {@code dayNumber}.
@@ -44,48 +62,67 @@ public class Day {
         requireNonNull(dayNumber);
         checkArgument(isValidDayNumber(dayNumber), MESSAGE_CONSTRAINTS);
         value = dayNumber;
-        this.itineraryAttractions = itineraryAttractions;
+        this.itineraryAttractions = new ArrayList<>(itineraryAttractions);
+        this.itineraryAttractions.sort(Comparator.comparingInt(Day::getStart)
+                .thenComparingInt(Day::getEnd));
+        for (ItineraryAttraction itineraryAttraction : itineraryAttractions) {
+            estimatedCost += getCostEstimate(itineraryAttraction);
+        }
+    }
+
+    /**
+     * Constructs a copy of {@code source} that shares its itinerary attractions until either of them is modified.
+     */
+    private Day(Day source) {
+        value = source.value;
+        itineraryAttractions = source.itineraryAttractions;
+        isShared = true;
+        estimatedCost = source.estimatedCost;
+        locations = source.locations;
+        source.isShared = true;
+    }
+
+    /**
+     * Returns a copy of this Day that is not affected by later changes to it.
+     * The itinerary attractions are only copied when either Day is first modified, so copying takes constant time.
+     */
+    public Day copy() {
+        return new Day(this);
     }
 
     /**
-     * Returns a list of all the itinerary attractions.
+     * Returns an unmodifiable list of all the itinerary attractions, in order of their start times.
      */
     public List<ItineraryAttraction> getItineraryAttractions() {
-        return itineraryAttractions;
+        return Collections.unmodifiableList(itineraryAttractions);
     }
 
     /**
-     * Adds an itinerary attraction and sorts them based on their start times.
+     * Adds an itinerary attraction in order of its start time.
      */
     public void addItineraryAttraction(ItineraryAttraction toAdd) {
         checkArgument(!hasTimingClash(toAdd), "The timing clashes with another attraction in the itinerary");
-        itineraryAttractions.add(toAdd);
-        itineraryAttractions.sort(new Comparator<ItineraryAttraction>() {
-            @Override
-            public int compare(ItineraryAttraction first, ItineraryAttraction second) {
-                if (first.getStartTime().isEarlierThan(second.getStartTime())) {
-                    return -1;
-                } else if (first.getStartTime().isLaterThan(second.getStartTime())) {
-                    return 1;
-                } else {
-                    return 0;
-                }
-            }
-        });
+        ensureNotShared();
+        itineraryAttractions.add(getInsertionIndex(toAdd), toAdd);
+        estimatedCost += getCostEstimate(toAdd);
+        indicateModified(1);
     }
 
     /**
      * Deletes the itinerary attraction specified by the index.
      */
     public void deleteItineraryAttraction(Index index) {
-        itineraryAttractions.remove(index.getZeroBased());
+        ensureNotShared();
+        ItineraryAttraction removed = itineraryAttractions.remove(index.getZeroBased());
+        estimatedCost -= getCostEstimate(removed);
+        indicateModified(-1);
     }
 
     /**
-     * Edits the specified itinerary attraction.
+     * Edits the specified itinerary attraction, moving it to the position of its new start time.
      */
     public void editItineraryAttraction(ItineraryAttraction target, ItineraryAttraction editedItineraryAttraction) {
-        int index = itineraryAttractions.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new ItineraryAttractionNotFoundException();
         }
@@ -94,15 +131,91 @@ public class Day {
             throw new DuplicateItineraryAttractionException();
         }
 
-        itineraryAttractions.set(index, editedItineraryAttraction);
+        ensureNotShared();
+        itineraryAttractions.remove(index);
+        itineraryAttractions.add(getInsertionIndex(editedItineraryAttraction), editedItineraryAttraction);
+        estimatedCost += getCostEstimate(editedItineraryAttraction) - getCostEstimate(target);
+        indicateModified(0);
+    }
+
+    /**
+     * Makes the itinerary attractions that visit {@code target} visit {@code replacement} instead, at the same times.
+     * Returns true if any itinerary attraction was changed.
+     */
+    public boolean replaceAttraction(Attraction target, Attraction replacement) {
+        requireAllNonNull(target, replacement);
+        boolean isChanged = false;
+        for (int i = 0; i < itineraryAttractions.size(); i++) {
+            ItineraryAttraction itineraryAttraction = itineraryAttractions.get(i);
+            if (itineraryAttraction.getAttraction().equals(target)) {
+                ensureNotShared();
+                itineraryAttractions.set(i, new ItineraryAttraction(replacement, itineraryAttraction.getStartTime(),
+                        itineraryAttraction.getEndTime()));
+                estimatedCost += replacement.getPriceRange().getCostEstimate()
+                        - target.getPriceRange().getCostEstimate();
+                isChanged = true;
+            }
+        }
+        if (isChanged) {
+            indicateModified(0);
+        }
+        return isChanged;
+    }
+
+    /**
+     * Takes a copy of the itinerary attractions if they are shared with a copy of the Day, before they are modified.
+     */
+    private void ensureNotShared() {
+        if (isShared) {
+            itineraryAttractions = new ArrayList<>(itineraryAttractions);
+            isShared = false;
+        }
+    }
+
+    /**
+     * Sets the itinerary that the Day belongs to, which is then told of changes to the Day.
+     */
+    void setItinerary(Itinerary itinerary) {
+        this.itinerary = itinerary;
+    }
+
+    /**
+     * Tells the itinerary of the Day, if any, that the itinerary attractions in the Day have been modified, and that
+     * their number has changed by {@code sizeChange}.
+     */
+    private void indicateModified(int sizeChange) {
+        locations = null;
+        if (itinerary != null) {
+            itinerary.indicateDayModified(sizeChange);
+        }
+    }
+
+    /**
+     * Returns the distinct locations of the itinerary attractions in the Day, in order of time.
+     */
+    List<Location> getLocations() {
+        if (locations == null) {
+            Set<Location> distinctLocations = new LinkedHashSet<>();
+            for (ItineraryAttraction itineraryAttraction : itineraryAttractions) {
+                distinctLocations.add(itineraryAttraction.getAttraction().getLocation());
+            }
+            locations = List.copyOf(distinctLocations);
+        }
+        return locations;
+    }
 
+    /**
+     * Returns the estimated cost in cents of visiting all the itinerary attractions in the Day.
+     */
+    public long getEstimatedCost() {
+        return estimatedCost;
     }
 
     /**
      * Returns true if the itinerary attraction is found in the Day.
      */
     public boolean contains(ItineraryAttraction itineraryAttraction) {
-        return itineraryAttractions.contains(itineraryAttraction);
+        return indexOf(itineraryAttraction) != -1;
     }
 
     /**
@@ -110,12 +223,7 @@ public class Day {
      * in the Day.
      */
     public boolean hasTimingClash(ItineraryAttraction toCheck) {
-        for (ItineraryAttraction itineraryAttraction : itineraryAttractions) {
-            if (toCheck.isTimingClash(itineraryAttraction)) {
-                return true;
-            }
-        }
-        return false;
+        return hasTimingClash(toCheck, -1);
     }
 
     /**
@@ -125,15 +233,99 @@ public class Day {
      * Does not run toCheck with the itineraryAttraction it is replacing.
      */
     public boolean hasTimingClash(ItineraryAttraction toCheck, ItineraryAttraction toReplace) {
-        for (ItineraryAttraction itineraryAttraction : itineraryAttractions) {
-            if (toReplace.equals(itineraryAttraction)) {
-                continue;
+        return hasTimingClash(toCheck, indexOf(toReplace));
+    }
+
+    /**
+     * Returns true if {@code toCheck} clashes with an itinerary attraction in the Day other than the one at
+     * {@code excludedIndex}.
+     * Only the itinerary attraction with the latest start time before the end of {@code toCheck} can clash with it,
+     * as it also has the latest end time of those that start before then.
+     */
+    private boolean hasTimingClash(ItineraryAttraction toCheck, int excludedIndex) {
+        int index = getFirstIndexStartingFrom(getEnd(toCheck)) - 1;
+        if (index == excludedIndex) {
+            index--;
+        }
+        return index >= 0 && toCheck.isTimingClash(itineraryAttractions.get(index));
+    }
+
+    /**
+     * Returns the earliest start time, no earlier than {@code earliestStartTime}, of a free slot of
+     * {@code minutes} minutes that clashes with no itinerary attraction in the Day.
+     * Returns an empty {@code Optional} if there is no such slot before the end of the day.
+     */
+    public Optional<ItineraryTime> getNextFreeSlot(ItineraryTime earliestStartTime, int minutes) {
+        requireNonNull(earliestStartTime);
+        checkArgument(minutes > 0, "The length of a free slot should be a positive number of minutes.");
+
+        int slotStart = earliestStartTime.getMinutes();
+        int index = getFirstIndexStartingFrom(slotStart + 1);
+        if (index > 0) {
+            slotStart = Math.max(slotStart, getEnd(itineraryAttractions.get(index - 1)));
+        }
+        while (index < itineraryAttractions.size() && getStart(itineraryAttractions.get(index)) < slotStart + minutes) {
+            slotStart = Math.max(slotStart, getEnd(itineraryAttractions.get(index)));
+            index++;
+        }
+
+        // a slot can end at the latest time of the day at most
+        if (slotStart + minutes >= ItineraryTime.MINUTES_PER_DAY) {
+            return Optional.empty();
+        }
+        return Optional.of(ItineraryTime.fromMinutes(slotStart));
+    }
+
+    /**
+     * Returns the index of {@code itineraryAttraction} in the Day, or -1 if it is not in the Day.
+     */
+    private int indexOf(ItineraryAttraction itineraryAttraction) {
+        int start = getStart(itineraryAttraction);
+        for (int i = getFirstIndexStartingFrom(start); i < itineraryAttractions.size()
+                && getStart(itineraryAttractions.get(i)) == start; i++) {
+            if (itineraryAttractions.get(i).equals(itineraryAttraction)) {
+                return i;
             }
-            if (toCheck.isTimingClash(itineraryAttraction)) {
-                return true;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index at which {@code toAdd} is to be inserted to keep the itinerary attractions in order of their
+     * start times.
+     */
+    private int getInsertionIndex(ItineraryAttraction toAdd) {
+        return getFirstIndexStartingFrom(getStart(toAdd) + 1);
+    }
+
+    /**
+     * Returns the index of the first itinerary attraction that starts at or after {@code minutes}, or the number of
+     * itinerary attractions if there is none.
+     */
+    private int getFirstIndexStartingFrom(int minutes) {
+        int low = 0;
+        int high = itineraryAttractions.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (getStart(itineraryAttractions.get(middle)) < minutes) {
+                low = middle + 1;
+            } else {
+                high = middle;
             }
         }
-        return false;
+        return low;
+    }
+
+    private static int getStart(ItineraryAttraction itineraryAttraction) {
+        return itineraryAttraction.getStartTime().getMinutes();
+    }
+
+    private static int getEnd(ItineraryAttraction itineraryAttraction) {
+        return itineraryAttraction.getEndTime().getMinutes();
+    }
+
+    private static long getCostEstimate(ItineraryAttraction itineraryAttraction) {
+        return itineraryAttraction.getAttraction().getPriceRange().getCostEstimate();
     }
 
     /**
@@ -6,25 +6,57 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.model.attraction.Attraction;
+import seedu.address.model.attraction.AttractionContainsKeywordsPredicate;
 import seedu.address.model.attraction.Location;
 import seedu.address.model.commons.Description;
 import seedu.address.model.commons.Name;
 
 /**
  * Represents an Itinerary in TrackPad.
+ * The days of an itinerary can be loaded when they are first needed instead of when the itinerary is created.
  */
 public class Itinerary {
+
+    private static final String IDENTITY_KEY_SEPARATOR = "_";
+    private static final AtomicLong VERSION_COUNTER = new AtomicLong();
+
     private final Name name;
     private final Description description;
     private final ItineraryDate startDate;
     private final ItineraryDate endDate;
     private final Budget budget;
-    private final List<Day> days = new ArrayList<>();
+
+    // Null until the days are loaded by dayLoader, which is then no longer needed.
+    private List<Day> days;
+    private Function<Itinerary, List<Day>> dayLoader;
+    private final String locationsBeforeLoading;
+    // Null if not known before the days are loaded.
+    private final List<String> attractionWordsBeforeLoading;
+    private final List<String> attractionTagNamesBeforeLoading;
+
+    // Summary of the itinerary attractions in the days, which the days update as they are modified. The locations
+    // are null until they are needed after a day has been modified.
+    private String locations;
+    private int numberOfItineraryAttractions;
+    // Changes whenever a day is modified. Versions are taken from a counter shared by all itineraries, so no two
+    // itineraries ever have the same version, even if they have the same identity.
+    private long version = VERSION_COUNTER.incrementAndGet();
+
+    // Computed when first needed from the fields that never change.
+    private int hash;
+    private String identityKey;
 
     /**
      * Every field must be present and not null.
@@ -41,13 +73,135 @@ public class Itinerary {
         this.startDate = startDate;
         this.endDate = endDate;
         this.budget = budget;
+        setDays(toDays(days));
+        this.locationsBeforeLoading = null;
+        this.attractionWordsBeforeLoading = null;
+        this.attractionTagNamesBeforeLoading = null;
+    }
+
+    /**
+     * Constructs an itinerary whose days are loaded by {@code dayLoader}, from the itinerary, when they are first
+     * needed.
+     * Until then, {@code locations} is returned as the locations of the itinerary, and {@code attractionWords} and
+     * {@code attractionTagNames}, if not null, as the words and tag names of its itinerary attractions.
+     * Every other field must be present and not null.
+     */
+    public Itinerary(Name name, Description description, ItineraryDate startDate, ItineraryDate endDate,
+                     Budget budget, String locations, List<String> attractionWords, List<String> attractionTagNames,
+                     Function<Itinerary, List<Day>> dayLoader) {
+        requireAllNonNull(name, description, startDate, endDate, budget, locations, dayLoader);
+
+        checkArgument(startDate.isBefore(endDate) || startDate.isEqual(endDate),
+                "Start date should come before end date.");
+
+        this.name = name;
+        this.description = description;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.budget = budget;
+        this.dayLoader = dayLoader;
+        this.locationsBeforeLoading = locations;
+        this.attractionWordsBeforeLoading = attractionWords == null ? null : List.copyOf(attractionWords);
+        this.attractionTagNamesBeforeLoading = attractionTagNames == null ? null : List.copyOf(attractionTagNames);
+    }
+
+    /**
+     * Constructs a copy of {@code source} with {@code days}, which must already be one day for each of its dates.
+     */
+    private Itinerary(Itinerary source, List<Day> days) {
+        this.name = source.name;
+        this.description = source.description;
+        this.startDate = source.startDate;
+        this.endDate = source.endDate;
+        this.budget = source.budget;
+        setDays(days);
+        this.locationsBeforeLoading = null;
+        this.attractionWordsBeforeLoading = null;
+        this.attractionTagNamesBeforeLoading = null;
+    }
+
+    /**
+     * Returns one day for each date of this itinerary, holding the itinerary attractions of the day of the same
+     * number in {@code days}, if any.
+     */
+    private List<Day> toDays(List<Day> days) {
+        List<Day> itineraryDays = new ArrayList<>();
         for (int i = 0; i < getNumberOfDays(); i++) {
             if (i < days.size()) {
-                this.days.add(new Day(i + 1, days.get(i).getItineraryAttractions()));
+                itineraryDays.add(new Day(i + 1, days.get(i).getItineraryAttractions()));
             } else {
-                this.days.add(new Day(i + 1));
+                itineraryDays.add(new Day(i + 1));
             }
         }
+        return itineraryDays;
+    }
+
+    /**
+     * Returns the days of this itinerary, loading them first if they have not been loaded yet.
+     */
+    private List<Day> days() {
+        if (days == null) {
+            setDays(toDays(dayLoader.apply(this)));
+            dayLoader = null;
+        }
+        return days;
+    }
+
+    /**
+     * Sets the days of this itinerary, which then tell it of their changes, and summarises their itinerary
+     * attractions.
+     */
+    private void setDays(List<Day> days) {
+        this.days = days;
+        for (Day day : days) {
+            day.setItinerary(this);
+            numberOfItineraryAttractions += day.getItineraryAttractions().size();
+        }
+    }
+
+    /**
+     * Updates the summary of the itinerary attractions after a day has been modified, which changed the number of
+     * itinerary attractions by {@code sizeChange}.
+     */
+    void indicateDayModified(int sizeChange) {
+        numberOfItineraryAttractions += sizeChange;
+        locations = null;
+        version = VERSION_COUNTER.incrementAndGet();
+    }
+
+    /**
+     * Returns the version of this itinerary, which changes whenever one of its days is modified and is different from
+     * that of any other itinerary.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns true if the days of this itinerary have been loaded.
+     */
+    public boolean isDaysLoaded() {
+        return days != null;
+    }
+
+    /**
+     * Returns a copy of this itinerary whose days are copied down to their lists of itinerary attractions, so that
+     * later changes to this itinerary do not affect the copy.
+     * The itinerary attractions of each day are only copied when the day is first modified, so copying takes time
+     * proportional to the number of days.
+     * If the days have not been loaded yet, the copy loads them in the same way when they are first needed.
+     */
+    public Itinerary copy() {
+        if (!isDaysLoaded()) {
+            return new Itinerary(name, description, startDate, endDate, budget, locationsBeforeLoading,
+                    attractionWordsBeforeLoading, attractionTagNamesBeforeLoading, dayLoader);
+        }
+
+        List<Day> copiedDays = new ArrayList<>();
+        for (Day day : days) {
+            copiedDays.add(day.copy());
+        }
+        return new Itinerary(this, copiedDays);
     }
 
     public Name getName() {
@@ -71,11 +225,11 @@ public class Itinerary {
     }
 
     public List<Day> getDays() {
-        return Collections.unmodifiableList(days);
+        return Collections.unmodifiableList(days());
     }
 
     public Day getDay(Index day) {
-        return this.days.get(day.getZeroBased());
+        return days().get(day.getZeroBased());
     }
 
     public int getNumberOfDays() {
@@ -84,24 +238,98 @@ public class Itinerary {
     }
 
     /**
-     * Returns a string of all the locations of the itinerary attractions ordered by day and time.
+     * Returns the estimated cost in cents of visiting all the itinerary attractions in the itinerary.
+     */
+    public long getEstimatedCost() {
+        long estimatedCost = 0;
+        for (Day day : days()) {
+            estimatedCost += day.getEstimatedCost();
+        }
+        return estimatedCost;
+    }
+
+    /**
+     * Returns the budget left in cents after the estimated cost of the itinerary, which is negative if the
+     * estimated cost is over budget, or an empty {@code OptionalLong} if the itinerary has no budget.
+     */
+    public OptionalLong getRemainingBudget() {
+        return budget.isEmpty() ? OptionalLong.empty() : OptionalLong.of(budget.getCents() - getEstimatedCost());
+    }
+
+    /**
+     * Returns a string of all the distinct locations of the itinerary attractions ordered by day and time.
      */
     public String getLocations() {
-        List<Location> locations = new ArrayList<>();
-        for (Day day : days) {
-            for (ItineraryAttraction itineraryAttraction : day.getItineraryAttractions()) {
-                Location location = itineraryAttraction.getAttraction().getLocation();
-                if (!locations.contains(location)) {
-                    locations.add(location);
-                }
+        if (!isDaysLoaded()) {
+            return locationsBeforeLoading;
+        }
+
+        if (locations == null) {
+            Set<Location> distinctLocations = new LinkedHashSet<>();
+            for (Day day : days) {
+                distinctLocations.addAll(day.getLocations());
             }
+            locations = distinctLocations.stream().map(Object::toString).collect(Collectors.joining(" -> "));
         }
-        return locations.stream().map(Object::toString).collect(Collectors.joining(" -> "));
+        return locations;
+    }
+
+    /**
+     * Returns the number of itinerary attractions in all the days of the itinerary.
+     */
+    public int getNumberOfItineraryAttractions() {
+        days();
+        return numberOfItineraryAttractions;
+    }
+
+    /**
+     * Returns the distinct case-folded words in the fields of the itinerary attractions that keywords are matched
+     * against ignoring case, without loading the days if the words were given before loading them.
+     */
+    public List<String> getAttractionWords() {
+        if (!isDaysLoaded() && attractionWordsBeforeLoading != null) {
+            return attractionWordsBeforeLoading;
+        }
+
+        Set<String> words = new LinkedHashSet<>();
+        for (ItineraryAttraction itineraryAttraction : getItineraryAttractions()) {
+            words.addAll(ItineraryAttractionContainsKeywordsPredicate.getCaseFoldedWords(itineraryAttraction));
+        }
+        return new ArrayList<>(words);
+    }
+
+    /**
+     * Returns the distinct names of the tags of the attractions of the itinerary attractions, which keywords are
+     * matched against exactly, without loading the days if the tag names were given before loading them.
+     */
+    public List<String> getAttractionTagNames() {
+        if (!isDaysLoaded() && attractionTagNamesBeforeLoading != null) {
+            return attractionTagNamesBeforeLoading;
+        }
+
+        Set<String> tagNames = new LinkedHashSet<>();
+        for (ItineraryAttraction itineraryAttraction : getItineraryAttractions()) {
+            tagNames.addAll(AttractionContainsKeywordsPredicate.getTagNames(itineraryAttraction.getAttraction()));
+        }
+        return new ArrayList<>(tagNames);
+    }
+
+    /**
+     * Returns true if an itinerary attraction of the itinerary may visit {@code attraction}, without loading the days
+     * if the words of the itinerary attractions were given before loading them.
+     */
+    public boolean mayVisit(Attraction attraction) {
+        requireNonNull(attraction);
+        if (isDaysLoaded() || attractionWordsBeforeLoading == null) {
+            return true;
+        }
+        return new HashSet<>(attractionWordsBeforeLoading).containsAll(
+                AttractionContainsKeywordsPredicate.getCaseFoldedWords(attraction));
     }
 
     public List<ItineraryAttraction> getItineraryAttractions() {
         List<ItineraryAttraction> itineraryAttractions = new ArrayList<>();
-        for (Day day : days) {
+        for (Day day : days()) {
             itineraryAttractions.addAll(day.getItineraryAttractions());
         }
         return itineraryAttractions;
@@ -143,7 +371,7 @@ public class Itinerary {
     public int getNumOfFilledFields() {
         int filledFields = 0;
 
-        if (!getBudget().value.isEmpty()) {
+        if (!getBudget().isEmpty()) {
             filledFields++;
         }
         if (!getDescription().value.isEmpty()) {
@@ -162,7 +390,7 @@ public class Itinerary {
      */
     public boolean contains(ItineraryAttraction itineraryAttraction) {
         requireNonNull(itineraryAttraction);
-        for (Day day : days) {
+        for (Day day : days()) {
             if (day.contains(itineraryAttraction)) {
                 return true;
             }
@@ -170,6 +398,17 @@ public class Itinerary {
         return false;
     }
 
+    /**
+     * Returns a key that is the same for two itineraries if and only if they are the same itinerary as defined by
+     * {@link #isSameItinerary(Itinerary)}. Names cannot contain the separator, so keys are unique.
+     */
+    public String getIdentityKey() {
+        if (identityKey == null) {
+            identityKey = name.fullName + IDENTITY_KEY_SEPARATOR + startDate + IDENTITY_KEY_SEPARATOR + endDate;
+        }
+        return identityKey;
+    }
+
     /**
      * Returns true if both itineraries of the same name have the same start and end dates.
      * This defines a weaker notion of equality between two itineraries.
@@ -200,19 +439,26 @@ public class Itinerary {
         }
 
         Itinerary otherItinerary = (Itinerary) other;
-        return otherItinerary.getName().equals(getName())
+        return otherItinerary.hashCode() == hashCode()
+                && otherItinerary.getName().equals(getName())
                 && otherItinerary.getDescription().equals(getDescription())
                 && otherItinerary.getStartDate().equals(getStartDate())
                 && otherItinerary.getEndDate().equals(getEndDate())
                 && otherItinerary.getBudget().equals(getBudget())
-                && otherItinerary.getDays().equals(getDays())
-                && otherItinerary.getItineraryAttractions().equals(getItineraryAttractions());
+                && otherItinerary.days().equals(days());
     }
 
+    /**
+     * Returns a hash of the fields that never change, leaving out the days, which are modified in place.
+     * Equal itineraries have equal fields, so they still have the same hash.
+     */
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, description, startDate, endDate, budget, days);
+        if (hash == 0) {
+            // use this method for custom fields hashing instead of implementing your own
+            hash = Objects.hash(name, description, startDate, endDate, budget);
+        }
+        return hash;
     }
 
     @Override
@@ -226,7 +472,7 @@ public class Itinerary {
         if (!getDescription().value.isEmpty()) {
             builder.append(" Description: ").append(getDescription());
         }
-        if (!getBudget().value.isEmpty()) {
+        if (!getBudget().isEmpty()) {
             builder.append(" Budget: ").append(getBudget());
         }
         return builder.toString();
@@ -1,15 +1,20 @@
 package seedu.address.model.itinerary;
 
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.util.Objects;
 
 import seedu.address.model.attraction.Attraction;
 import seedu.address.model.commons.Name;
 
 /**
- * Child class of an attraction which additionally stores start time and end time
- * Is-a attraction specific to a particular Itinerary.
+ * Represents a visit to an attraction in an Itinerary, from a start time to an end time.
+ * Refers to the attraction it visits instead of copying its details, so itinerary attractions of the same attraction
+ * share a single {@code Attraction}.
+ * Guarantees: details are present and not null, immutable.
  */
-public class ItineraryAttraction extends Attraction {
+public class ItineraryAttraction {
+    private final Attraction attraction;
     private final ItineraryTime startTime;
     private final ItineraryTime endTime;
 
@@ -21,17 +26,8 @@ public class ItineraryAttraction extends Attraction {
      * @param endTime   time to leave the attraction.
      */
     public ItineraryAttraction(Attraction a, ItineraryTime startTime, ItineraryTime endTime) {
-        super(a.getName(),
-                a.getPhone(),
-                a.getEmail(),
-                a.getAddress(),
-                a.getDescription(),
-                a.getLocation(),
-                a.getOpeningHours(),
-                a.getPriceRange(),
-                a.getRating(),
-                a.getVisited(),
-                a.getTags());
+        requireAllNonNull(a, startTime, endTime);
+        this.attraction = a;
         this.startTime = startTime;
         this.endTime = endTime;
     }
@@ -40,14 +36,14 @@ public class ItineraryAttraction extends Attraction {
      * Returns name of the attraction in this itinerary attraction.
      */
     public Name getName() {
-        return super.getName();
+        return attraction.getName();
     }
 
     /**
      * Returns the attraction in this itinerary attraction.
      */
     public Attraction getAttraction() {
-        return this;
+        return attraction;
     }
 
     /**
@@ -85,7 +81,7 @@ public class ItineraryAttraction extends Attraction {
      * @return integer of number of filled fields
      */
     public int getNumOfFilledFields() {
-        return super.getNumOfFilledFields();
+        return attraction.getNumOfFilledFields();
     }
 
     /**
@@ -99,8 +95,6 @@ public class ItineraryAttraction extends Attraction {
     }
 
 
-    // todo remove this as this weaker equal method is not useful.
-
     /**
      * Returns true if both itinerary attractions are of the same name, have the same visiting timing.
      * This defines a weaker notion of equality between two itinerary attractions.
@@ -112,7 +106,7 @@ public class ItineraryAttraction extends Attraction {
             return true;
         }
 
-        return isSameAttraction(otherItineraryAttraction.getAttraction())
+        return attraction.isSameAttraction(otherItineraryAttraction.attraction)
                 && isSameTiming(otherItineraryAttraction);
     }
 
@@ -140,20 +134,20 @@ public class ItineraryAttraction extends Attraction {
         }
 
         ItineraryAttraction otherItineraryAttraction = (ItineraryAttraction) other;
-        // calls equals of Attraction and checks the timing.
-        return super.equals(otherItineraryAttraction)
-                && isSameTiming(otherItineraryAttraction);
+        // the timing is checked first, as itinerary attractions sharing an attraction are told apart by it alone.
+        return isSameTiming(otherItineraryAttraction)
+                && attraction.equals(otherItineraryAttraction.attraction);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this, startTime, endTime);
+        return Objects.hash(attraction, startTime, endTime);
     }
 
     @Override
     public String toString() {
         final StringBuilder builder = new StringBuilder();
-        builder.append(super.toString())
+        builder.append(attraction)
                 .append(" Start time: ")
                 .append(startTime)
                 .append(" End time: ")
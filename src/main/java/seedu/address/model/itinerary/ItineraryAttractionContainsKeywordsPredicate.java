@@ -1,5 +1,6 @@
 package seedu.address.model.itinerary;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -29,6 +30,18 @@ public class ItineraryAttractionContainsKeywordsPredicate implements Predicate<I
                 );
     }
 
+    /**
+     * Returns the case-folded words in the fields of {@code itineraryAttraction} that keywords are matched against
+     * ignoring case.
+     */
+    public static List<String> getCaseFoldedWords(ItineraryAttraction itineraryAttraction) {
+        List<String> words = new ArrayList<>();
+        words.addAll(StringUtil.getCaseFoldedWords(itineraryAttraction.getStartTime().toString()));
+        words.addAll(StringUtil.getCaseFoldedWords(itineraryAttraction.getEndTime().toString()));
+        words.addAll(AttractionContainsKeywordsPredicate.getCaseFoldedWords(itineraryAttraction.getAttraction()));
+        return words;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
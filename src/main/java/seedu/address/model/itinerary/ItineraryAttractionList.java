@@ -1,11 +1,15 @@
 package seedu.address.model.itinerary;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.index.Index;
 import seedu.address.model.ReadOnlyItineraryAttractionList;
 import seedu.address.model.attraction.Address;
 import seedu.address.model.attraction.Attraction;
@@ -19,36 +23,126 @@ import seedu.address.model.attraction.Visited;
 import seedu.address.model.commons.Description;
 import seedu.address.model.commons.Name;
 
-
+/**
+ * A list of the days of an itinerary, each followed by its itinerary attractions, for display.
+ * The list is kept up to date with changes to the itinerary by replacing only the entries of the days that changed,
+ * so that observers of the list are only notified of the entries that differ.
+ */
 public class ItineraryAttractionList implements ReadOnlyItineraryAttractionList {
 
-    private ObservableList<ItineraryAttraction> internalList = FXCollections.observableArrayList();
-    private int indexCounter = 1;
+    private final ObservableList<ItineraryAttraction> internalList = FXCollections.observableArrayList();
+    private final ObservableList<ItineraryAttraction> internalUnmodifiableList =
+            FXCollections.unmodifiableObservableList(internalList);
+
+    // Position in the list of the entry of each day of the shown itinerary.
+    private final List<Integer> dayPositions = new ArrayList<>();
+    private Itinerary shownItinerary;
+    private long shownVersion;
 
     private ItineraryAttraction dummyItineraryAttraction = new ItineraryAttraction(
             new Attraction(new Name("nil"), new Phone(), new Email(), new Address(), new Description(),
                     new Location("nil"), new OpeningHours(), new PriceRange(), new Rating(), new Visited(),
                     new HashSet<>()), new ItineraryTime("0000"), new ItineraryTime("0100"));
 
+    public ItineraryAttractionList() {}
+
     public ItineraryAttractionList(Itinerary currentItinerary) {
         setItineraryAttractionList(currentItinerary);
     }
 
+    /**
+     * Shows the days of {@code currentItinerary}, unless they are already shown.
+     * The days are already shown if the shown itinerary has the same identity and version as
+     * {@code currentItinerary}, so the days are shown again if they have been modified without being refreshed.
+     */
     public void setItineraryAttractionList(Itinerary currentItinerary) {
         requireNonNull(currentItinerary);
-        internalList = FXCollections.observableArrayList();
+        if (shownItinerary != null && shownItinerary.getIdentityKey().equals(currentItinerary.getIdentityKey())
+                && shownVersion == currentItinerary.getVersion()) {
+            return;
+        }
+
+        List<ItineraryAttraction> entries = new ArrayList<>();
+        dayPositions.clear();
         for (Day day : currentItinerary.getDays()) {
-            internalList.add(new ItineraryAttractionDayCounter(dummyItineraryAttraction,
-                    day.value));
-            indexCounter = 1;
-            for (ItineraryAttraction itineraryAttraction : day.getItineraryAttractions()) {
-                internalList.add(new ItineraryAttractionIndexCounter(itineraryAttraction, indexCounter));
-                indexCounter++;
-            }
+            dayPositions.add(entries.size());
+            addEntries(entries, day);
+        }
+        shownItinerary = currentItinerary;
+        shownVersion = currentItinerary.getVersion();
+        internalList.setAll(entries);
+    }
+
+    /**
+     * Updates the entries of day {@code day} of {@code currentItinerary} after it has been modified.
+     * Shows the days of {@code currentItinerary} instead if they are not shown yet.
+     */
+    public void refreshDay(Itinerary currentItinerary, Index day) {
+        requireAllNonNull(currentItinerary, day);
+        if (currentItinerary != shownItinerary) {
+            setItineraryAttractionList(currentItinerary);
+            return;
+        }
+
+        int dayIndex = day.getZeroBased();
+        int start = dayPositions.get(dayIndex);
+        int end = dayIndex + 1 < dayPositions.size() ? dayPositions.get(dayIndex + 1) : internalList.size();
+        List<ItineraryAttraction> entries = new ArrayList<>();
+        addEntries(entries, currentItinerary.getDay(day));
+        replaceEntries(start, end, entries);
+
+        int shift = entries.size() - (end - start);
+        for (int i = dayIndex + 1; i < dayPositions.size() && shift != 0; i++) {
+            dayPositions.set(i, dayPositions.get(i) + shift);
+        }
+        shownVersion = currentItinerary.getVersion();
+    }
+
+    /**
+     * Adds the entry of {@code day} to {@code entries}, followed by the entries of its itinerary attractions.
+     */
+    private void addEntries(List<ItineraryAttraction> entries, Day day) {
+        entries.add(new ItineraryAttractionDayCounter(dummyItineraryAttraction, day.value));
+        int indexCounter = 1;
+        for (ItineraryAttraction itineraryAttraction : day.getItineraryAttractions()) {
+            entries.add(new ItineraryAttractionIndexCounter(itineraryAttraction, indexCounter));
+            indexCounter++;
+        }
+    }
+
+    /**
+     * Replaces the entries from {@code start} to {@code end} with {@code entries}, leaving out the entries at either
+     * end that are unchanged.
+     */
+    private void replaceEntries(int start, int end, List<ItineraryAttraction> entries) {
+        int unchangedAtStart = 0;
+        while (start + unchangedAtStart < end && unchangedAtStart < entries.size()
+                && internalList.get(start + unchangedAtStart).equals(entries.get(unchangedAtStart))) {
+            unchangedAtStart++;
+        }
+        int unchangedAtEnd = 0;
+        while (end - unchangedAtEnd > start + unchangedAtStart && entries.size() - unchangedAtEnd > unchangedAtStart
+                && internalList.get(end - unchangedAtEnd - 1).equals(
+                        entries.get(entries.size() - unchangedAtEnd - 1))) {
+            unchangedAtEnd++;
+        }
+
+        int from = start + unchangedAtStart;
+        int oldTo = end - unchangedAtEnd;
+        List<ItineraryAttraction> changedEntries = entries.subList(unchangedAtStart, entries.size() - unchangedAtEnd);
+        int replaced = Math.min(oldTo - from, changedEntries.size());
+        for (int i = 0; i < replaced; i++) {
+            internalList.set(from + i, changedEntries.get(i));
+        }
+        if (oldTo - from > replaced) {
+            internalList.remove(from + replaced, oldTo);
+        } else if (changedEntries.size() > replaced) {
+            internalList.addAll(from + replaced, changedEntries.subList(replaced, changedEntries.size()));
         }
     }
 
+    @Override
     public ObservableList<ItineraryAttraction> getItineraryAttractionList() {
-        return internalList;
+        return internalUnmodifiableList;
     }
 }
@@ -1,5 +1,7 @@
 package seedu.address.model.itinerary;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -17,6 +19,9 @@ public class ItineraryContainsKeywordsPredicate implements Predicate<Itinerary>
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return Collections.unmodifiableList(keywords);
+    }
 
     @Override
     public boolean test(Itinerary itinerary) {
@@ -25,7 +30,7 @@ public class ItineraryContainsKeywordsPredicate implements Predicate<Itinerary>
                         || StringUtil.containsWordIgnoreCase(itinerary.getDescription().value, keyword)
                         || StringUtil.containsWordIgnoreCase(itinerary.getStartDate().toString(), keyword)
                         || StringUtil.containsWordIgnoreCase(itinerary.getEndDate().toString(), keyword)
-                        || itinerary.getBudget().value.contains(keyword) // numerical budget value
+                        || itinerary.getBudget().getValue().contains(keyword) // numerical budget value
                         || itinerary.getBudget().toString().contains(keyword) // budget value with $
                 )
         ) {
@@ -43,6 +48,37 @@ public class ItineraryContainsKeywordsPredicate implements Predicate<Itinerary>
         return false;
     }
 
+    /**
+     * Returns true if the budget of {@code itinerary}, with or without its dollar sign, contains any of the keywords.
+     * Budgets are matched by substring rather than by word, so this is tested on each itinerary.
+     */
+    public boolean testBudget(Itinerary itinerary) {
+        String budget = itinerary.getBudget().toString();
+        return keywords.stream().anyMatch(budget::contains);
+    }
+
+    /**
+     * Returns the case-folded words in the fields of {@code itinerary} and of all its itinerary attractions that
+     * keywords are matched against ignoring case.
+     */
+    public static List<String> getCaseFoldedWords(Itinerary itinerary) {
+        List<String> words = new ArrayList<>();
+        words.addAll(StringUtil.getCaseFoldedWords(itinerary.getName().fullName));
+        words.addAll(StringUtil.getCaseFoldedWords(itinerary.getDescription().value));
+        words.addAll(StringUtil.getCaseFoldedWords(itinerary.getStartDate().toString()));
+        words.addAll(StringUtil.getCaseFoldedWords(itinerary.getEndDate().toString()));
+        words.addAll(itinerary.getAttractionWords());
+        return words;
+    }
+
+    /**
+     * Returns the names of the tags of the attractions of all the itinerary attractions in {@code itinerary}, which
+     * keywords are matched against exactly.
+     */
+    public static List<String> getTagNames(Itinerary itinerary) {
+        return itinerary.getAttractionTagNames();
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
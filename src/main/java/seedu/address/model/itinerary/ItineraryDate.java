@@ -8,8 +8,11 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
-import java.time.temporal.ChronoUnit;
 
+/**
+ * Represents the date of an Itinerary in TrackPad, stored as the number of days since the epoch.
+ * The date is only formatted back to its dd-mm-yyyy form when it is displayed or saved.
+ */
 public class ItineraryDate {
 
     public static final String MESSAGE_CONSTRAINTS = "Date must be a valid date in the format dd-mm-yyyy"
@@ -19,7 +22,8 @@ public class ItineraryDate {
             .toFormatter()
             .withResolverStyle(ResolverStyle.STRICT);
 
-    public final String value;
+    private final long epochDay;
+    private String value; // formatted when first needed
 
     /**
      * Constructs a {@code ItineraryDate}.
@@ -28,26 +32,33 @@ public class ItineraryDate {
      */
     public ItineraryDate(String date) {
         requireNonNull(date);
-        checkArgument(isValidDate(date), MESSAGE_CONSTRAINTS);
-        value = date;
+        LocalDate localDate = parse(date);
+        checkArgument(localDate != null, MESSAGE_CONSTRAINTS);
+        epochDay = localDate.toEpochDay();
     }
 
     /**
      * Returns the itinerary date in {@code LocalDate} format.
      */
     public LocalDate getLocalDate() {
-        return LocalDate.parse(value, DTF);
+        return LocalDate.ofEpochDay(epochDay);
     }
 
     /**
      * Returns if a given string is a valid itinerary date.
      */
     public static boolean isValidDate(String test) {
+        return parse(test) != null;
+    }
+
+    /**
+     * Returns the date in {@code date}, or null if it is not a valid date.
+     */
+    private static LocalDate parse(String date) {
         try {
-            LocalDate.parse(test, DTF);
-            return true;
+            return LocalDate.parse(date, DTF);
         } catch (DateTimeParseException e) {
-            return false;
+            return null;
         }
     }
 
@@ -55,32 +66,35 @@ public class ItineraryDate {
      * Returns if this itinerary date is before the given itinerary date.
      */
     public boolean isBefore(ItineraryDate otherDate) {
-        return getLocalDate().isBefore(otherDate.getLocalDate());
+        return epochDay < otherDate.epochDay;
     }
 
     /**
      * Returns if this itinerary date is the same as the given itinerary date.
      */
     public boolean isEqual(ItineraryDate otherDate) {
-        return getLocalDate().isEqual(otherDate.getLocalDate());
+        return epochDay == otherDate.epochDay;
     }
 
     /**
      * Returns if this itinerary date is after the given itinerary date.
      */
     public boolean isAfter(ItineraryDate otherDate) {
-        return getLocalDate().isAfter(otherDate.getLocalDate());
+        return epochDay > otherDate.epochDay;
     }
 
     /**
      * Returns the number of days between two itinerary dates.
      */
     public static int daysBetween(ItineraryDate startDate, ItineraryDate endDate) {
-        return (int) ChronoUnit.DAYS.between(startDate.getLocalDate(), endDate.getLocalDate()) + 1;
+        return (int) (endDate.epochDay - startDate.epochDay) + 1;
     }
 
     @Override
     public String toString() {
+        if (value == null) {
+            value = getLocalDate().format(DTF);
+        }
         return value;
     }
 
@@ -88,12 +102,12 @@ public class ItineraryDate {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof ItineraryDate// instanceof handles nulls
-                && value.equals(((ItineraryDate) other).value)); // state check
+                && epochDay == ((ItineraryDate) other).epochDay); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Long.hashCode(epochDay);
     }
 
 }
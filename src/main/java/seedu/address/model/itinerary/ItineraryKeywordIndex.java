@@ -0,0 +1,157 @@
+package seedu.address.model.itinerary;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.KeywordIndex;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An index of the itineraries in a list by the words in their fields and in those of their itinerary attractions,
+ * and by the tag names of their attractions, which finds the itineraries matching
+ * {@code ItineraryContainsKeywordsPredicate} without going through the itinerary attractions of every itinerary.
+ * The index is only built from the list when it is first needed, and is then kept up to date by
+ * {@code UniqueItineraryList}, which must update it before modifying the list.
+ */
+class ItineraryKeywordIndex {
+
+    private final List<Itinerary> itineraries;
+    private final KeywordIndex<Itinerary> words = new KeywordIndex<>();
+    private final KeywordIndex<Itinerary> tagNames = new KeywordIndex<>();
+    // Keywords each itinerary was indexed under, as the days of an itinerary are modified in place.
+    private final Map<Itinerary, IndexedKeywords> indexedKeywords = new IdentityHashMap<>();
+    private boolean isBuilt;
+    private long modificationCount;
+
+    /**
+     * Constructs an index of {@code itineraries}, which is not built until it is first needed.
+     */
+    ItineraryKeywordIndex(List<Itinerary> itineraries) {
+        requireNonNull(itineraries);
+        this.itineraries = itineraries;
+    }
+
+    /**
+     * Adds {@code itinerary} to the index, before it is added to the list.
+     */
+    void add(Itinerary itinerary) {
+        if (isBuilt) {
+            index(itinerary);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Removes {@code itinerary}, which must be the instance in the list, from the index before it is removed from
+     * the list.
+     */
+    void remove(Itinerary itinerary) {
+        if (isBuilt) {
+            unindex(itinerary);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Indexes {@code itinerary}, which must be the instance in the list, under its current keywords after it has
+     * been modified in place.
+     */
+    void update(Itinerary itinerary) {
+        if (isBuilt) {
+            unindex(itinerary);
+            index(itinerary);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Drops the index, before the contents of the list are replaced, so that it is built again from the new
+     * contents when it is next needed.
+     */
+    void reset() {
+        words.clear();
+        tagNames.clear();
+        indexedKeywords.clear();
+        isBuilt = false;
+        modificationCount++;
+    }
+
+    /**
+     * Returns the itineraries in the list whose fields, or those of their itinerary attractions, match any of
+     * {@code keywords} by word, as defined by {@code ItineraryContainsKeywordsPredicate}.
+     * Budgets are not matched by word, so they are left out.
+     */
+    Set<Itinerary> find(List<String> keywords) {
+        requireNonNull(keywords);
+        if (!isBuilt) {
+            for (Itinerary itinerary : itineraries) {
+                index(itinerary);
+            }
+            isBuilt = true;
+        }
+
+        Set<Itinerary> matches = new HashSet<>();
+        for (String keyword : keywords) {
+            matches.addAll(words.get(StringUtil.foldCase(keyword.trim())));
+            matches.addAll(tagNames.get(keyword));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns a predicate that is true for the itineraries in the list that match any of {@code keywords}.
+     * The matches are found again only when the list has been modified since they were last found.
+     */
+    Predicate<Itinerary> getMatcher(List<String> keywords) {
+        requireNonNull(keywords);
+        ItineraryContainsKeywordsPredicate predicate = new ItineraryContainsKeywordsPredicate(keywords);
+        return new Predicate<>() {
+            private Set<Itinerary> matches;
+            private long matchesModificationCount = -1;
+
+            @Override
+            public boolean test(Itinerary itinerary) {
+                if (matchesModificationCount != modificationCount) {
+                    matches = find(keywords);
+                    matchesModificationCount = modificationCount;
+                }
+                return matches.contains(itinerary) || predicate.testBudget(itinerary);
+            }
+        };
+    }
+
+    private void index(Itinerary itinerary) {
+        IndexedKeywords keywords = new IndexedKeywords(ItineraryContainsKeywordsPredicate.getCaseFoldedWords(itinerary),
+                ItineraryContainsKeywordsPredicate.getTagNames(itinerary));
+        words.add(itinerary, keywords.words);
+        tagNames.add(itinerary, keywords.tagNames);
+        indexedKeywords.put(itinerary, keywords);
+    }
+
+    private void unindex(Itinerary itinerary) {
+        IndexedKeywords keywords = indexedKeywords.remove(itinerary);
+        if (keywords != null) {
+            words.remove(itinerary, keywords.words);
+            tagNames.remove(itinerary, keywords.tagNames);
+        }
+    }
+
+    /**
+     * The keywords an itinerary was indexed under.
+     */
+    private static class IndexedKeywords {
+        private final List<String> words;
+        private final List<String> tagNames;
+
+        IndexedKeywords(List<String> words, List<String> tagNames) {
+            this.words = words;
+            this.tagNames = tagNames;
+        }
+    }
+}
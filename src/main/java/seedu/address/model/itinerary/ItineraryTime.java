@@ -7,12 +7,22 @@ public class ItineraryTime {
     public static final String MESSAGE_CONSTRAINTS = "Time should be of the format HHMM and from 0000 to 2359.";
     public static final String VALIDATION_REGEX = "([01][0-9]|2[0-3])[0-5][0-9]";
 
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
     private final int time;
 
     public ItineraryTime(String time) {
         this.time = Integer.parseInt(time);
     }
 
+    /**
+     * Returns the time that is {@code minutes} minutes after 0000.
+     */
+    public static ItineraryTime fromMinutes(int minutes) {
+        assert minutes >= 0 && minutes < MINUTES_PER_DAY;
+        return new ItineraryTime(String.format("%02d%02d", minutes / 60, minutes % 60));
+    }
+
     /**
      * Returns if a given string is an valid time.
      */
@@ -20,6 +30,13 @@ public class ItineraryTime {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the number of minutes from 0000 to this time.
+     */
+    public int getMinutes() {
+        return time / 100 * 60 + time % 100;
+    }
+
     /**
      * Returns true if the time is earlier than time given.
      */
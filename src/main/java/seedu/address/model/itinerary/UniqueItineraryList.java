@@ -3,8 +3,14 @@ package seedu.address.model.itinerary;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +24,9 @@ import seedu.address.model.itinerary.exceptions.ItineraryNotFoundException;
  * the itinerary being added or updated is unique in terms of identity in the UniqueItineraryList. However, the
  * removal of an itinerary uses Itinerary#equals(Object) so as to ensure that the itinerary with exactly the same
  * fields will be removed.
+ * Itineraries are found by their identity through a hash index of their positions in the list, so that checking
+ * for, adding, replacing and removing an itinerary does not search the whole list, and are found by keyword
+ * through an inverted index of the words in their fields and in those of their itinerary attractions.
  *
  * Supports a minimal set of list operations.
  *
@@ -29,12 +38,29 @@ public class UniqueItineraryList implements Iterable<Itinerary> {
     private final ObservableList<Itinerary> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // Position of each itinerary in the list by its identity.
+    private Map<String, Integer> positions = new HashMap<>();
+    private final ItineraryKeywordIndex keywordIndex = new ItineraryKeywordIndex(internalList);
+
+    // Copies of the itineraries in the same order, which are not affected by later changes to the itineraries. Null
+    // until they are first needed, and then only the itineraries that are added, replaced or modified are copied.
+    private List<Itinerary> copies;
+
     /**
      * Returns true if the list contains an equivalent itinerary as the given argument.
      */
     public boolean contains(Itinerary toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameItinerary);
+        return positions.containsKey(toCheck.getIdentityKey());
+    }
+
+    /**
+     * Returns the itinerary in the list with the same identity as {@code toFind}, if there is one.
+     */
+    public Optional<Itinerary> find(Itinerary toFind) {
+        requireNonNull(toFind);
+        Integer index = positions.get(toFind.getIdentityKey());
+        return index == null ? Optional.empty() : Optional.of(internalList.get(index));
     }
 
     /**
@@ -46,7 +72,12 @@ public class UniqueItineraryList implements Iterable<Itinerary> {
         if (contains(toAdd)) {
             throw new DuplicateItineraryException();
         }
+        keywordIndex.add(toAdd);
         internalList.add(toAdd);
+        positions.put(toAdd.getIdentityKey(), internalList.size() - 1);
+        if (copies != null) {
+            copies.add(toAdd.copy());
+        }
     }
 
     /**
@@ -58,7 +89,7 @@ public class UniqueItineraryList implements Iterable<Itinerary> {
     public void setItinerary(Itinerary target, Itinerary editedItinerary) {
         requireAllNonNull(target, editedItinerary);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new ItineraryNotFoundException();
         }
@@ -67,7 +98,14 @@ public class UniqueItineraryList implements Iterable<Itinerary> {
             throw new DuplicateItineraryException();
         }
 
+        keywordIndex.remove(internalList.get(index));
+        keywordIndex.add(editedItinerary);
         internalList.set(index, editedItinerary);
+        positions.remove(target.getIdentityKey());
+        positions.put(editedItinerary.getIdentityKey(), index);
+        if (copies != null) {
+            copies.set(index, editedItinerary.copy());
+        }
     }
 
     /**
@@ -76,14 +114,28 @@ public class UniqueItineraryList implements Iterable<Itinerary> {
      */
     public void remove(Itinerary toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new ItineraryNotFoundException();
         }
+
+        keywordIndex.remove(internalList.get(index));
+        internalList.remove(index);
+        if (copies != null) {
+            copies.remove(index);
+        }
+        positions.remove(toRemove.getIdentityKey());
+        for (int i = index; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getIdentityKey(), i);
+        }
     }
 
     public void setItineraries(UniqueItineraryList replacement) {
         requireNonNull(replacement);
+        keywordIndex.reset();
         internalList.setAll(replacement.internalList);
+        positions = new HashMap<>(replacement.positions);
+        copies = null;
     }
 
     /**
@@ -92,11 +144,55 @@ public class UniqueItineraryList implements Iterable<Itinerary> {
      */
     public void setItineraries(List<Itinerary> itineraries) {
         requireAllNonNull(itineraries);
-        if (!itinerariesAreUnique(itineraries)) {
+        Map<String, Integer> newPositions = toPositions(itineraries);
+        if (newPositions == null) {
             throw new DuplicateItineraryException();
         }
 
+        keywordIndex.reset();
         internalList.setAll(itineraries);
+        positions = newPositions;
+        copies = null;
+    }
+
+    /**
+     * Records that {@code itinerary} has been modified in place, e.g. when an itinerary attraction is added to one of
+     * its days, so that it is found by its new keywords. Does nothing if {@code itinerary} is not in the list.
+     */
+    public void indicateModified(Itinerary itinerary) {
+        requireNonNull(itinerary);
+        int index = indexOf(itinerary);
+        if (index != -1) {
+            keywordIndex.update(internalList.get(index));
+            if (copies != null) {
+                copies.set(index, internalList.get(index).copy());
+            }
+        }
+    }
+
+    /**
+     * Returns an unmodifiable view of copies of the itineraries in the list, in the same order, which are not affected
+     * by later changes to the itineraries.
+     * The view changes as the list changes, but the itineraries in it are only ever replaced, not modified. The
+     * itineraries are all copied when this is first called, and afterwards only those that are added, replaced or
+     * modified in the list are copied.
+     */
+    public List<Itinerary> getCopies() {
+        if (copies == null) {
+            copies = new ArrayList<>();
+            for (Itinerary itinerary : internalList) {
+                copies.add(itinerary.copy());
+            }
+        }
+        return Collections.unmodifiableList(copies);
+    }
+
+    /**
+     * Returns a predicate that is true for the itineraries in this list that match any of {@code keywords}, as
+     * defined by {@code ItineraryContainsKeywordsPredicate}. The predicate stays up to date as this list changes.
+     */
+    public Predicate<Itinerary> getKeywordMatcher(List<String> keywords) {
+        return keywordIndex.getMatcher(keywords);
     }
 
     /**
@@ -124,17 +220,24 @@ public class UniqueItineraryList implements Iterable<Itinerary> {
     }
 
     /**
-     * Returns true if {@code itineraries} contains only unique itineraries.
+     * Returns the position in the list of the itinerary equal to {@code itinerary}, or -1 if there is none.
+     */
+    private int indexOf(Itinerary itinerary) {
+        Integer index = positions.get(itinerary.getIdentityKey());
+        return index != null && internalList.get(index).equals(itinerary) ? index : -1;
+    }
+
+    /**
+     * Returns the position of each of {@code itineraries} by its identity, or null if {@code itineraries} contains
+     * duplicate itineraries.
      */
-    private boolean itinerariesAreUnique(List<Itinerary> itineraries) {
-        for (int i = 0; i < itineraries.size() - 1; i++) {
-            for (int j = i + 1; j < itineraries.size(); j++) {
-                if (itineraries.get(i).isSameItinerary(itineraries.get(j))) {
-                    return false;
-                }
+    private static Map<String, Integer> toPositions(List<Itinerary> itineraries) {
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < itineraries.size(); i++) {
+            if (positions.put(itineraries.get(i).getIdentityKey(), i) != null) {
+                return null;
             }
         }
-        return true;
+        return positions;
     }
 }
-
@@ -0,0 +1,267 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AttractionList;
+import seedu.address.model.ItineraryList;
+import seedu.address.model.ReadOnlyAttractionList;
+import seedu.address.model.ReadOnlyItineraryList;
+import seedu.address.model.attraction.Attraction;
+import seedu.address.model.itinerary.Itinerary;
+
+/**
+ * Manages storage of TrackPad data in local storage, writing the attraction and itinerary lists on a background
+ * thread.
+ * Saving a list takes a snapshot of it and returns immediately. A single writer thread then writes the latest
+ * snapshot of each list, so a burst of saves results in only one write of the most recent data.
+ * Snapshots of an {@code AttractionList} or {@code ItineraryList} share their contents with the list until either is
+ * read by the writer thread or the list is next modified, so the copying is usually done on the writer thread.
+ */
+public class AsyncStorageManager extends StorageManager {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncStorageManager.class);
+
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "storage-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicReference<ReadOnlyAttractionList> pendingAttractionList = new AtomicReference<>();
+    private final AtomicReference<ReadOnlyItineraryList> pendingItineraryList = new AtomicReference<>();
+    private final AtomicBoolean isWriteScheduled = new AtomicBoolean(false);
+    private volatile Consumer<IOException> saveErrorHandler = ioe -> {};
+
+    // Snapshot of the itinerary list last written, which is written again before an attraction list on its own.
+    // Accessed by the writer thread only.
+    private ReadOnlyItineraryList lastWrittenItineraryList;
+
+    // Identity and version of the lists last handed to the writer, used to skip snapshots of unchanged lists.
+    private ReadOnlyAttractionList lastSubmittedAttractionList;
+    private long lastSubmittedAttractionListVersion;
+    private ReadOnlyItineraryList lastSubmittedItineraryList;
+    private long lastSubmittedItineraryListVersion;
+
+    /**
+     * Creates an {@code AsyncStorageManager} with the given {@code AttractionListStorage},
+     * {@code ItineraryListStorage} and {@code UserPrefStorage}.
+     */
+    public AsyncStorageManager(AttractionListStorage attractionListStorage,
+                               ItineraryListStorage itineraryListStorage, UserPrefsStorage userPrefsStorage) {
+        super(attractionListStorage, itineraryListStorage, userPrefsStorage);
+    }
+
+    /**
+     * Queues a snapshot of {@code attractionList} to be written to the default attraction list file path.
+     * The next save of the itinerary list is then queued too, as its references to the attraction list may change.
+     * Failures are reported to the save error handler instead of being thrown.
+     */
+    @Override
+    public void saveAttractionList(ReadOnlyAttractionList attractionList) {
+        requireNonNull(attractionList);
+        if (attractionList == lastSubmittedAttractionList
+                && attractionList.getVersion() == lastSubmittedAttractionListVersion) {
+            return;
+        }
+
+        lastSubmittedAttractionList = attractionList;
+        lastSubmittedAttractionListVersion = attractionList.getVersion();
+        lastSubmittedItineraryList = null;
+        pendingAttractionList.set(attractionList instanceof AttractionList
+                ? ((AttractionList) attractionList).snapshot()
+                : new AttractionListSnapshot(attractionList));
+        scheduleWrite();
+    }
+
+    /**
+     * Queues a snapshot of {@code itineraryList} to be written to the default itinerary list file path.
+     * Failures are reported to the save error handler instead of being thrown.
+     */
+    @Override
+    public void saveItineraryList(ReadOnlyItineraryList itineraryList) {
+        requireNonNull(itineraryList);
+        if (itineraryList == lastSubmittedItineraryList
+                && itineraryList.getVersion() == lastSubmittedItineraryListVersion) {
+            return;
+        }
+
+        lastSubmittedItineraryList = itineraryList;
+        lastSubmittedItineraryListVersion = itineraryList.getVersion();
+        pendingItineraryList.set(itineraryList instanceof ItineraryList
+                ? ((ItineraryList) itineraryList).snapshot()
+                : new ItineraryListSnapshot(itineraryList));
+        scheduleWrite();
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<IOException> saveErrorHandler) {
+        requireNonNull(saveErrorHandler);
+        this.saveErrorHandler = saveErrorHandler;
+    }
+
+    @Override
+    public void flush() {
+        try {
+            writer.submit(() -> writePending(true)).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while waiting for pending saves to complete");
+        } catch (ExecutionException e) {
+            logger.severe("Failed to complete pending saves " + StringUtil.getDetails(e.getCause()));
+        }
+    }
+
+    /**
+     * Schedules a write on the writer thread, unless one is already scheduled and has not started yet.
+     */
+    private void scheduleWrite() {
+        if (isWriteScheduled.compareAndSet(false, true)) {
+            writer.execute(this::writePending);
+        }
+    }
+
+    /**
+     * Runs {@code task} on the writer thread after all writes that have been requested so far.
+     */
+    protected void submitToWriter(Runnable task) {
+        writer.execute(task);
+    }
+
+    /**
+     * Writes the latest snapshot of each list that has not been written yet.
+     * A snapshot that fails to be written is kept pending, unless a newer one has been queued, so that it is retried
+     * by the next write.
+     * Runs on the writer thread only.
+     *
+     * @return true if no snapshot is left pending.
+     */
+    protected boolean writePending() {
+        return writePending(false);
+    }
+
+    /**
+     * Similar to {@link #writePending()}, but when {@code isFlushing} is false, an attraction list is only written
+     * together with an itinerary list, which is written first so that the itinerary list file never refers to an
+     * attraction missing from the attraction list file.
+     * The itinerary list last written is written again if no newer one is pending. If no itinerary list has been
+     * written yet, the attraction list is left pending for the itinerary list that is saved after it, as every save
+     * of a changed attraction list is followed by a save of the itinerary list.
+     */
+    private boolean writePending(boolean isFlushing) {
+        isWriteScheduled.set(false);
+
+        ReadOnlyItineraryList itineraryList = pendingItineraryList.getAndSet(null);
+        ReadOnlyAttractionList attractionList = pendingAttractionList.get();
+        if (attractionList != null && itineraryList == null && lastWrittenItineraryList == null && !isFlushing) {
+            return false;
+        }
+        attractionList = pendingAttractionList.getAndSet(null);
+
+        ReadOnlyItineraryList itineraryListToWrite = itineraryList;
+        if (attractionList != null && itineraryList == null) {
+            itineraryListToWrite = lastWrittenItineraryList;
+        }
+
+        try {
+            if (attractionList != null && itineraryListToWrite != null) {
+                saveItineraryListThenAttractionList(itineraryListToWrite, attractionList);
+            } else if (attractionList != null) {
+                super.saveAttractionList(attractionList);
+            } else if (itineraryList != null) {
+                super.saveItineraryList(itineraryList);
+            }
+            if (itineraryListToWrite != null) {
+                lastWrittenItineraryList = itineraryListToWrite;
+            }
+        } catch (IOException ioe) {
+            if (attractionList != null) {
+                pendingAttractionList.compareAndSet(null, attractionList);
+            }
+            if (itineraryList != null) {
+                pendingItineraryList.compareAndSet(null, itineraryList);
+            }
+            reportSaveError(ioe);
+        }
+
+        return pendingAttractionList.get() == null && pendingItineraryList.get() == null;
+    }
+
+    /**
+     * Logs {@code ioe} and passes it to the save error handler.
+     */
+    protected void reportSaveError(IOException ioe) {
+        logger.warning("Failed to save data " + StringUtil.getDetails(ioe));
+        saveErrorHandler.accept(ioe);
+    }
+
+    /**
+     * An immutable copy of an attraction list other than an {@code AttractionList} taken at the time of saving.
+     */
+    private static class AttractionListSnapshot implements ReadOnlyAttractionList {
+        private final ObservableList<Attraction> attractions;
+        private final long version;
+
+        AttractionListSnapshot(ReadOnlyAttractionList source) {
+            attractions = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(source.getAttractionList()));
+            version = source.getVersion();
+        }
+
+        @Override
+        public ObservableList<Attraction> getAttractionList() {
+            return attractions;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+    }
+
+    /**
+     * An immutable copy of an itinerary list other than an {@code ItineraryList} taken at the time of saving.
+     * Each itinerary is copied down to its days, as those are modified in place by later commands.
+     */
+    private static class ItineraryListSnapshot implements ReadOnlyItineraryList {
+        private final ObservableList<Itinerary> itineraries;
+        private final long version;
+
+        ItineraryListSnapshot(ReadOnlyItineraryList source) {
+            List<Itinerary> copies = new ArrayList<>();
+            for (Itinerary itinerary : source.getItineraryList()) {
+                copies.add(itinerary.copy());
+            }
+            itineraries = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(copies));
+            version = source.getVersion();
+        }
+
+        @Override
+        public ObservableList<Itinerary> getItineraryList() {
+            return itineraries;
+        }
+
+        @Override
+        public Itinerary getCurrentItinerary() {
+            return null;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import seedu.address.model.AttractionList;
+import seedu.address.model.ReadOnlyAttractionList;
+import seedu.address.model.attraction.Attraction;
+
+/**
+ * Resolves the attractions of itinerary attractions that are stored as references to the attraction list.
+ * An attraction is referred to by its ID, which is made up of its name and location, the fields that identify it
+ * in the attraction list. The ID of an attraction is therefore stable across edits to its other fields.
+ */
+public class AttractionReferences {
+
+    // Null until the attractions are first needed, if they are supplied by attractionListSupplier.
+    private Map<String, Attraction> attractions;
+    private Supplier<Optional<ReadOnlyAttractionList>> attractionListSupplier;
+    private int unreferencedCount;
+    // The attractions that references have been created to, by their IDs.
+    private final Map<String, Attraction> referredAttractions = new HashMap<>();
+
+    /**
+     * Constructs an {@code AttractionReferences} that refers to the attractions in {@code attractionList}.
+     */
+    public AttractionReferences(ReadOnlyAttractionList attractionList) {
+        requireNonNull(attractionList);
+        attractions = toAttractionsById(attractionList);
+    }
+
+    private AttractionReferences(Supplier<Optional<ReadOnlyAttractionList>> attractionListSupplier) {
+        this.attractionListSupplier = attractionListSupplier;
+    }
+
+    /**
+     * Returns an {@code AttractionReferences} that refers to the attractions in the attraction list supplied by
+     * {@code attractionListSupplier}, if any. The attraction list is only asked for when a reference is first
+     * resolved or created, so that it can still be being read when this is constructed.
+     */
+    public static AttractionReferences deferred(Supplier<Optional<ReadOnlyAttractionList>> attractionListSupplier) {
+        requireNonNull(attractionListSupplier);
+        return new AttractionReferences(attractionListSupplier);
+    }
+
+    /**
+     * Returns an {@code AttractionReferences} that refers to the attractions of {@code attractionList} that are also
+     * in {@code otherAttractionList} with exactly the same fields, so that a reference to any of them can be resolved
+     * against either list.
+     */
+    public static AttractionReferences common(ReadOnlyAttractionList attractionList,
+                                              ReadOnlyAttractionList otherAttractionList) {
+        requireNonNull(attractionList);
+        requireNonNull(otherAttractionList);
+        Map<String, Attraction> otherAttractions = toAttractionsById(otherAttractionList);
+        AttractionReferences references = new AttractionReferences(attractionList);
+        references.attractions.entrySet().removeIf(entry -> !entry.getValue().equals(
+                otherAttractions.get(entry.getKey())));
+        return references;
+    }
+
+    /**
+     * Returns an {@code AttractionReferences} that refers to no attractions, so all attractions are stored in full.
+     */
+    public static AttractionReferences none() {
+        return new AttractionReferences(new AttractionList());
+    }
+
+    /**
+     * Returns the ID of {@code attraction}, which is its identity key.
+     */
+    public static String getId(Attraction attraction) {
+        return attraction.getIdentityKey();
+    }
+
+    /**
+     * Returns the ID to store in place of {@code attraction}, or null if it must be stored in full because the
+     * attraction list has no attraction with exactly the same fields.
+     */
+    public String getReferenceId(Attraction attraction) {
+        if (!isReferable(attraction)) {
+            return null;
+        }
+        String id = getId(attraction);
+        referredAttractions.put(id, attraction);
+        return id;
+    }
+
+    /**
+     * Returns true if every attraction that a reference has been created to is in {@code attractionList} with
+     * exactly the same fields, so that the references still resolve to the same attractions against it.
+     */
+    public boolean isStillReferableIn(ReadOnlyAttractionList attractionList) {
+        requireNonNull(attractionList);
+        if (referredAttractions.isEmpty()) {
+            return true;
+        }
+
+        int unchangedCount = 0;
+        for (Attraction attraction : attractionList.getAttractionList()) {
+            if (attraction.equals(referredAttractions.get(getId(attraction)))) {
+                unchangedCount++;
+            }
+        }
+        return unchangedCount == referredAttractions.size();
+    }
+
+    /**
+     * Returns the attraction with the given {@code id}, or null if there is none.
+     */
+    public Attraction resolve(String id) {
+        return getAttractions().get(id);
+    }
+
+    /**
+     * Records that {@code attraction} was read in full, and returns it.
+     */
+    Attraction noteReadInFull(Attraction attraction) {
+        if (isReferable(attraction)) {
+            unreferencedCount++;
+        }
+        return attraction;
+    }
+
+    /**
+     * Returns true if any attraction read in full could have been stored as a reference instead, as in files saved
+     * before attractions were stored as references.
+     */
+    public boolean hasUnreferencedAttractions() {
+        return unreferencedCount > 0;
+    }
+
+    /**
+     * Returns true if the attraction list has an attraction with exactly the same fields as {@code attraction}.
+     */
+    private boolean isReferable(Attraction attraction) {
+        Attraction referencedAttraction = getAttractions().get(getId(attraction));
+        return referencedAttraction != null && referencedAttraction.equals(attraction);
+    }
+
+    /**
+     * Returns the attractions referred to by their IDs, getting them from the supplied attraction list first if
+     * they have not been yet.
+     */
+    private Map<String, Attraction> getAttractions() {
+        if (attractions == null) {
+            attractions = attractionListSupplier.get()
+                    .map(AttractionReferences::toAttractionsById)
+                    .orElseGet(HashMap::new);
+            attractionListSupplier = null;
+        }
+        return attractions;
+    }
+
+    private static Map<String, Attraction> toAttractionsById(ReadOnlyAttractionList attractionList) {
+        Map<String, Attraction> attractionsById = new HashMap<>();
+        for (Attraction attraction : attractionList.getAttractionList()) {
+            attractionsById.put(getId(attraction), attraction);
+        }
+        return attractionsById;
+    }
+}
@@ -0,0 +1,151 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AttractionList;
+import seedu.address.model.ReadOnlyAttractionList;
+import seedu.address.model.attraction.Attraction;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AttractionList data stored as a binary file on the hard disk.
+ * Each attraction is stored as one record of a {@link BinaryDataWriter} file.
+ */
+public class BinaryAttractionListStorage implements AttractionListStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAttractionListStorage.class);
+
+    private Path filePath;
+
+    public BinaryAttractionListStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAttractionListFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAttractionList> readAttractionList() throws DataConversionException, IOException {
+        return readAttractionList(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAttractionList()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyAttractionList> readAttractionList(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            BinaryDataReader reader = new BinaryDataReader(Files.readAllBytes(filePath));
+            AttractionList attractionList = new AttractionList();
+            while (reader.nextRecord()) {
+                JsonSerializableAttractionList.addAttraction(attractionList, readAttraction(reader));
+            }
+            return Optional.of(attractionList);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAttractionList(ReadOnlyAttractionList attractionList) throws IOException {
+        saveAttractionList(attractionList, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAttractionList(ReadOnlyAttractionList)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAttractionList(ReadOnlyAttractionList attractionList, Path filePath) throws IOException {
+        requireNonNull(attractionList);
+        requireNonNull(filePath);
+
+        BinaryDataWriter writer = new BinaryDataWriter();
+        for (Attraction attraction : attractionList.getAttractionList()) {
+            writeAttraction(writer, attraction);
+            writer.endRecord();
+        }
+
+        FileUtil.createIfMissing(filePath);
+        FileUtil.writeToFile(filePath, writer::writeTo);
+    }
+
+    /**
+     * Appends the fields of {@code attraction} to the current record of {@code writer}.
+     */
+    static void writeAttraction(BinaryDataWriter writer, Attraction attraction) throws IOException {
+        writer.writeString(attraction.getName().fullName);
+        writer.writeString(attraction.getPhone().value);
+        writer.writeString(attraction.getEmail().value);
+        writer.writeString(attraction.getAddress().value);
+        writer.writeString(attraction.getDescription().value);
+        writer.writeString(attraction.getLocation().value);
+        writer.writeString(attraction.getOpeningHours().value);
+        writer.writeString(attraction.getPriceRange().value);
+        writer.writeString(attraction.getRating().value);
+        writer.writeString(attraction.getVisited().value);
+        writer.writeInt(attraction.getTags().size());
+        for (Tag tag : attraction.getTags()) {
+            writer.writeString(tag.tagName);
+        }
+    }
+
+    /**
+     * Reads the fields written by {@link #writeAttraction} from the current record of {@code reader}.
+     */
+    static JsonAdaptedAttraction readAttraction(BinaryDataReader reader) throws IllegalValueException {
+        String name = reader.readString();
+        String phone = reader.readString();
+        String email = reader.readString();
+        String address = reader.readString();
+        String description = reader.readString();
+        String location = reader.readString();
+        String openingHours = reader.readString();
+        String priceRange = reader.readString();
+        String rating = reader.readString();
+        String visited = reader.readString();
+        int tagCount = reader.readInt();
+        List<JsonAdaptedTag> tagged = new ArrayList<>();
+        for (int i = 0; i < tagCount; i++) {
+            tagged.add(new JsonAdaptedTag(reader.readString()));
+        }
+        return new JsonAdaptedAttraction(name, phone, email, address, description, location, openingHours,
+                priceRange, rating, visited, tagged);
+    }
+
+    /**
+     * Reads only the identity key of the attraction written by {@link #writeAttraction} from the current record of
+     * {@code reader}, as returned by {@link Attraction#getIdentityKey()}.
+     */
+    static String readIdentityKey(BinaryDataReader reader) throws IllegalValueException {
+        String name = reader.readString();
+        reader.skip(4); // phone, email, address and description
+        String location = reader.readString();
+        return Attraction.toIdentityKey(name, location);
+    }
+
+}
@@ -0,0 +1,236 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.BinaryDataWriter.HEADER_LENGTH;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Reads records from the content of a TrackPad binary data file written by {@link BinaryDataWriter}.
+ * The content is only read with absolute positions, so that readers for different records of the same content can
+ * be used from different threads.
+ */
+class BinaryDataReader {
+
+    public static final String MESSAGE_NOT_BINARY_DATA = "File is not a TrackPad binary data file.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary data format version %d is not supported.";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Binary data file is corrupted.";
+    public static final String MESSAGE_NO_INDEX = "Binary data file has no index.";
+
+    private static final int FIRST_INDEXED_VERSION = 2;
+    private static final int TRAILER_LENGTH = 2 * Integer.BYTES;
+
+    private final ByteBuffer content;
+    private final int formatVersion;
+    private final String[] stringTable; // null if strings are decoded on demand through the string index
+    private final int stringCount;
+    private final int stringIndexStart; // -1 if the content has no index
+    private final int recordIndexStart;
+    private final int recordCount;
+    private int recordsLeft;
+    private int nextRecordStart;
+    private int position;
+
+    /**
+     * Constructs a {@code BinaryDataReader} for {@code content}, checking its header and reading its string table.
+     *
+     * @throws IllegalValueException if {@code content} is not a complete binary data file of a supported version.
+     */
+    public BinaryDataReader(byte[] content) throws IllegalValueException {
+        this(ByteBuffer.wrap(content), true);
+    }
+
+    /**
+     * Constructs a {@code BinaryDataReader} for {@code content}, checking its header.
+     * If {@code isStringTableRead} is false and the content has an index, strings are only decoded when they are
+     * read.
+     *
+     * @throws IllegalValueException if {@code content} is not a complete binary data file of a supported version.
+     */
+    public BinaryDataReader(ByteBuffer content, boolean isStringTableRead) throws IllegalValueException {
+        this.content = content;
+        try {
+            int length = content.limit();
+            if (length < HEADER_LENGTH || content.getInt(0) != BinaryDataWriter.MAGIC_NUMBER) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY_DATA);
+            }
+            formatVersion = content.getInt(4);
+            if (formatVersion < 1 || formatVersion > BinaryDataWriter.FORMAT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, formatVersion));
+            }
+            long expectedChecksum = content.getLong(8);
+            int bodyLength = content.getInt(16);
+            if (bodyLength != length - HEADER_LENGTH) {
+                throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH);
+            }
+            CRC32 checksum = new CRC32();
+            checksum.update(content.duplicate().position(HEADER_LENGTH));
+            if (checksum.getValue() != expectedChecksum) {
+                throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH);
+            }
+
+            stringCount = content.getInt(HEADER_LENGTH);
+            if (formatVersion >= FIRST_INDEXED_VERSION) {
+                stringIndexStart = content.getInt(length - TRAILER_LENGTH);
+                recordIndexStart = content.getInt(length - Integer.BYTES);
+                if (stringIndexStart < HEADER_LENGTH || stringCount < 0
+                        || recordIndexStart != stringIndexStart + stringCount * Integer.BYTES
+                        || recordIndexStart > length - TRAILER_LENGTH) {
+                    throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH);
+                }
+            } else {
+                stringIndexStart = -1;
+                recordIndexStart = -1;
+            }
+
+            position = HEADER_LENGTH + Integer.BYTES;
+            if (isStringTableRead || !hasIndex()) {
+                stringTable = new String[stringCount];
+                for (int i = 0; i < stringCount; i++) {
+                    stringTable[i] = decodeString(position);
+                    position += Integer.BYTES + content.getInt(position);
+                }
+                recordCount = content.getInt(position);
+                position += Integer.BYTES;
+            } else {
+                stringTable = null;
+                recordCount = (length - TRAILER_LENGTH - recordIndexStart) / Integer.BYTES;
+                position = recordCount == 0 ? length : content.getInt(recordIndexStart);
+            }
+            recordsLeft = recordCount;
+            nextRecordStart = position;
+        } catch (BufferUnderflowException | IllegalArgumentException | NegativeArraySizeException
+                | IndexOutOfBoundsException e) {
+            throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH, e);
+        }
+    }
+
+    /**
+     * Constructs a {@code BinaryDataReader} that reads the record of {@code source} that starts at
+     * {@code recordStart}.
+     */
+    private BinaryDataReader(BinaryDataReader source, int recordStart) {
+        content = source.content;
+        formatVersion = source.formatVersion;
+        stringTable = source.stringTable;
+        stringCount = source.stringCount;
+        stringIndexStart = source.stringIndexStart;
+        recordIndexStart = source.recordIndexStart;
+        recordCount = source.recordCount;
+        recordsLeft = 1;
+        nextRecordStart = recordStart;
+    }
+
+    public int getFormatVersion() {
+        return formatVersion;
+    }
+
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Returns true if the content has an index, which is needed to read records out of order.
+     */
+    public boolean hasIndex() {
+        return recordIndexStart != -1;
+    }
+
+    /**
+     * Returns a reader positioned at the start of the record with the given {@code recordNumber}, counting from 0.
+     * The content must have an index.
+     */
+    public BinaryDataReader readRecord(int recordNumber) throws IllegalValueException {
+        if (!hasIndex()) {
+            throw new IllegalValueException(MESSAGE_NO_INDEX);
+        }
+        if (recordNumber < 0 || recordNumber >= recordCount) {
+            throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+        BinaryDataReader recordReader = new BinaryDataReader(this,
+                content.getInt(recordIndexStart + recordNumber * Integer.BYTES));
+        recordReader.nextRecord();
+        return recordReader;
+    }
+
+    /**
+     * Moves to the next record, skipping any part of the current record that has not been read.
+     * Returns false if there are no more records.
+     */
+    public boolean nextRecord() throws IllegalValueException {
+        if (recordsLeft == 0) {
+            return false;
+        }
+        try {
+            position = nextRecordStart;
+            int length = content.getInt(position);
+            position += Integer.BYTES;
+            if (length < 0 || length > content.limit() - position) {
+                throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH);
+            }
+            nextRecordStart = position + length;
+            recordsLeft--;
+            return true;
+        } catch (IndexOutOfBoundsException e) {
+            throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH, e);
+        }
+    }
+
+    /**
+     * Reads the next value of the current record.
+     */
+    public int readInt() throws IllegalValueException {
+        if (position + Integer.BYTES > nextRecordStart) {
+            throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+        int value = content.getInt(position);
+        position += Integer.BYTES;
+        return value;
+    }
+
+    /**
+     * Skips the next {@code valueCount} values of the current record without decoding them.
+     */
+    public void skip(int valueCount) throws IllegalValueException {
+        for (int i = 0; i < valueCount; i++) {
+            readInt();
+        }
+    }
+
+    /**
+     * Reads the next value of the current record as a reference to the string table.
+     */
+    public String readString() throws IllegalValueException {
+        int index = readInt();
+        if (index < 0 || index >= stringCount) {
+            throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+        if (stringTable != null) {
+            return stringTable[index];
+        }
+        try {
+            return decodeString(content.getInt(stringIndexStart + index * Integer.BYTES));
+        } catch (BufferUnderflowException | IllegalArgumentException | NegativeArraySizeException
+                | IndexOutOfBoundsException e) {
+            throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH, e);
+        }
+    }
+
+    /**
+     * Decodes the string stored with its length at {@code offset}.
+     */
+    private String decodeString(int offset) {
+        int length = content.getInt(offset);
+        if (content.hasArray()) {
+            return new String(content.array(), content.arrayOffset() + offset + Integer.BYTES, length,
+                    StandardCharsets.UTF_8);
+        }
+        byte[] bytes = new byte[length];
+        content.duplicate().position(offset + Integer.BYTES).get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,117 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Writes records to a TrackPad binary data file.
+ * Each distinct string is stored once in a string table at the start of the file, and records refer to strings by
+ * their position in the table.
+ *
+ * The file consists of a header followed by a body:
+ * <pre>
+ * header: magic number, format version, CRC32 checksum of the body, body length
+ * body:   string count, then each string as its UTF-8 length and bytes,
+ *         record count, then each record as its length and bytes,
+ *         the offset of each string, the offset of each record,
+ *         the offset of the first string offset, the offset of the first record offset
+ * </pre>
+ * All offsets are fixed-width and counted from the start of the file, so that a single string or record can be
+ * found without reading the ones before it. Files of format version 1 end after the records.
+ * Since format version 3, the attractions of itinerary attractions may be stored as references.
+ */
+class BinaryDataWriter {
+
+    static final int MAGIC_NUMBER = 0x54504144; // "TPAD"
+    static final int FORMAT_VERSION = 3;
+    static final int HEADER_LENGTH = 20;
+
+    private final Map<String, Integer> stringTable = new LinkedHashMap<>();
+    private final ByteArrayOutputStream records = new ByteArrayOutputStream();
+    private final DataOutputStream recordsOut = new DataOutputStream(records);
+    private final ByteArrayOutputStream currentRecord = new ByteArrayOutputStream();
+    private final DataOutputStream currentRecordOut = new DataOutputStream(currentRecord);
+    private int[] recordOffsets = new int[16];
+    private int recordCount;
+
+    /**
+     * Appends {@code value} to the current record.
+     */
+    public void writeInt(int value) throws IOException {
+        currentRecordOut.writeInt(value);
+    }
+
+    /**
+     * Appends {@code value} to the current record as a reference to the string table.
+     */
+    public void writeString(String value) throws IOException {
+        Integer index = stringTable.get(value);
+        if (index == null) {
+            index = stringTable.size();
+            stringTable.put(value, index);
+        }
+        currentRecordOut.writeInt(index);
+    }
+
+    /**
+     * Ends the current record, which is stored with its length so that it can be skipped when reading.
+     */
+    public void endRecord() throws IOException {
+        if (recordCount == recordOffsets.length) {
+            recordOffsets = Arrays.copyOf(recordOffsets, recordCount * 2);
+        }
+        recordOffsets[recordCount++] = records.size();
+        recordsOut.writeInt(currentRecord.size());
+        currentRecord.writeTo(recordsOut);
+        currentRecord.reset();
+    }
+
+    /**
+     * Writes the header, string table and records to {@code out}.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        DataOutputStream bodyOut = new DataOutputStream(body);
+        int[] stringOffsets = new int[stringTable.size()];
+        int stringCount = 0;
+        bodyOut.writeInt(stringTable.size());
+        for (String value : stringTable.keySet()) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            stringOffsets[stringCount++] = HEADER_LENGTH + body.size();
+            bodyOut.writeInt(bytes.length);
+            bodyOut.write(bytes);
+        }
+        bodyOut.writeInt(recordCount);
+        int recordsStart = HEADER_LENGTH + body.size();
+        records.writeTo(bodyOut);
+
+        int stringIndexStart = HEADER_LENGTH + body.size();
+        for (int stringOffset : stringOffsets) {
+            bodyOut.writeInt(stringOffset);
+        }
+        int recordIndexStart = HEADER_LENGTH + body.size();
+        for (int i = 0; i < recordCount; i++) {
+            bodyOut.writeInt(recordsStart + recordOffsets[i]);
+        }
+        bodyOut.writeInt(stringIndexStart);
+        bodyOut.writeInt(recordIndexStart);
+
+        CRC32 checksum = new CRC32();
+        checksum.update(body.toByteArray());
+
+        DataOutputStream headerOut = new DataOutputStream(out);
+        headerOut.writeInt(MAGIC_NUMBER);
+        headerOut.writeInt(FORMAT_VERSION);
+        headerOut.writeLong(checksum.getValue());
+        headerOut.writeInt(body.size());
+        body.writeTo(headerOut);
+        headerOut.flush();
+    }
+}
@@ -0,0 +1,176 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ItineraryList;
+import seedu.address.model.ReadOnlyItineraryList;
+import seedu.address.model.itinerary.Day;
+import seedu.address.model.itinerary.Itinerary;
+import seedu.address.model.itinerary.ItineraryAttraction;
+
+/**
+ * A class to access ItineraryList data stored as a binary file on the hard disk.
+ * Each itinerary, together with its days and itinerary attractions, is stored as one record of a
+ * {@link BinaryDataWriter} file.
+ */
+public class BinaryItineraryListStorage implements ItineraryListStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryItineraryListStorage.class);
+    private static final String NO_ATTRACTION_ID = "";
+    private static final int FIRST_REFERENCING_VERSION = 3;
+
+    private Path filePath;
+
+    public BinaryItineraryListStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getItineraryListFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyItineraryList> readItineraryList() throws DataConversionException, IOException {
+        return readItineraryList(filePath);
+    }
+
+    /**
+     * Similar to {@link #readItineraryList()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyItineraryList> readItineraryList(Path filePath)
+            throws DataConversionException, IOException {
+        return readItineraryList(filePath, AttractionReferences.none());
+    }
+
+    @Override
+    public Optional<ReadOnlyItineraryList> readItineraryList(Path filePath, AttractionReferences references)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        requireNonNull(references);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            BinaryDataReader reader = new BinaryDataReader(Files.readAllBytes(filePath));
+            ItineraryList itineraryList = new ItineraryList();
+            while (reader.nextRecord()) {
+                JsonSerializableItineraryList.addItinerary(itineraryList, readItinerary(reader), references);
+            }
+            return Optional.of(itineraryList);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveItineraryList(ReadOnlyItineraryList itineraryList) throws IOException {
+        saveItineraryList(itineraryList, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveItineraryList(ReadOnlyItineraryList)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveItineraryList(ReadOnlyItineraryList itineraryList, Path filePath) throws IOException {
+        saveItineraryList(itineraryList, filePath, AttractionReferences.none());
+    }
+
+    @Override
+    public void saveItineraryList(ReadOnlyItineraryList itineraryList, Path filePath,
+                                  AttractionReferences references) throws IOException {
+        requireNonNull(itineraryList);
+        requireNonNull(filePath);
+        requireNonNull(references);
+
+        BinaryDataWriter writer = new BinaryDataWriter();
+        for (Itinerary itinerary : itineraryList.getItineraryList()) {
+            writeItinerary(writer, itinerary, references);
+            writer.endRecord();
+        }
+
+        FileUtil.createIfMissing(filePath);
+        FileUtil.writeToFile(filePath, writer::writeTo);
+    }
+
+    /**
+     * Appends the fields of {@code itinerary} to the current record of {@code writer}.
+     * The attraction of each itinerary attraction is written as its ID if it is in {@code references}, or as an
+     * empty ID followed by its fields otherwise.
+     */
+    private static void writeItinerary(BinaryDataWriter writer, Itinerary itinerary, AttractionReferences references)
+            throws IOException {
+        writer.writeString(itinerary.getName().toString());
+        writer.writeString(itinerary.getDescription().value);
+        writer.writeString(itinerary.getStartDate().toString());
+        writer.writeString(itinerary.getEndDate().toString());
+        writer.writeString(itinerary.getBudget().getValue());
+        writer.writeInt(itinerary.getDays().size());
+        for (Day day : itinerary.getDays()) {
+            writer.writeInt(day.value);
+            writer.writeInt(day.getItineraryAttractions().size());
+            for (ItineraryAttraction itineraryAttraction : day.getItineraryAttractions()) {
+                String attractionId = references.getReferenceId(itineraryAttraction.getAttraction());
+                writer.writeString(attractionId == null ? NO_ATTRACTION_ID : attractionId);
+                if (attractionId == null) {
+                    BinaryAttractionListStorage.writeAttraction(writer, itineraryAttraction.getAttraction());
+                }
+                writer.writeString(itineraryAttraction.getStartTime().toString());
+                writer.writeString(itineraryAttraction.getEndTime().toString());
+            }
+        }
+    }
+
+    /**
+     * Reads the fields written by {@link #writeItinerary} from the current record of {@code reader}.
+     * Files of format version 2 and earlier store every attraction in full, without an ID.
+     */
+    private static JsonAdaptedItinerary readItinerary(BinaryDataReader reader) throws IllegalValueException {
+        String name = reader.readString();
+        String description = reader.readString();
+        String startDate = reader.readString();
+        String endDate = reader.readString();
+        String budget = reader.readString();
+        int dayCount = reader.readInt();
+        List<JsonAdaptedDay> days = new ArrayList<>();
+        for (int i = 0; i < dayCount; i++) {
+            int day = reader.readInt();
+            int itineraryAttractionCount = reader.readInt();
+            List<JsonAdaptedItineraryAttraction> itineraryAttractions = new ArrayList<>();
+            for (int j = 0; j < itineraryAttractionCount; j++) {
+                String attractionId = reader.getFormatVersion() < FIRST_REFERENCING_VERSION
+                        ? NO_ATTRACTION_ID
+                        : reader.readString();
+                JsonAdaptedAttraction attraction = attractionId.equals(NO_ATTRACTION_ID)
+                        ? BinaryAttractionListStorage.readAttraction(reader)
+                        : null;
+                String startTime = reader.readString();
+                String endTime = reader.readString();
+                itineraryAttractions.add(new JsonAdaptedItineraryAttraction(
+                        attraction == null ? attractionId : null, attraction, startTime, endTime));
+            }
+            days.add(new JsonAdaptedDay(day, itineraryAttractions));
+        }
+        return new JsonAdaptedItinerary(name, description, startDate, endDate, budget, days);
+    }
+
+}
@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.DataFormat;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyAttractionList;
+import seedu.address.model.ReadOnlyItineraryList;
+import seedu.address.model.ReadOnlyUserPrefs;
+
+/**
+ * Creates the storages for the attraction and itinerary lists in each {@code DataFormat}, and converts the lists
+ * between formats.
+ */
+public class DataFormatConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(DataFormatConverter.class);
+
+    /**
+     * Returns a storage for the attraction list stored at {@code filePath} in {@code dataFormat}.
+     */
+    public static AttractionListStorage createAttractionListStorage(DataFormat dataFormat, Path filePath) {
+        requireNonNull(dataFormat);
+        switch (dataFormat) {
+        case BINARY:
+            return new BinaryAttractionListStorage(filePath);
+        case MAPPED:
+            return new MappedAttractionListStorage(filePath);
+        default:
+            return new JsonAttractionListStorage(filePath);
+        }
+    }
+
+    /**
+     * Returns a storage for the itinerary list stored at {@code filePath} in {@code dataFormat}.
+     */
+    public static ItineraryListStorage createItineraryListStorage(DataFormat dataFormat, Path filePath) {
+        requireNonNull(dataFormat);
+        return dataFormat == DataFormat.JSON
+                ? new ShardedItineraryListStorage(filePath)
+                : new BinaryItineraryListStorage(filePath);
+    }
+
+    /**
+     * Converts the attraction and itinerary list files of {@code userPrefs} to its data format, if they do not exist
+     * yet but a file in another format does, as happens after the data format has been changed.
+     * The file in the other format is deleted once it has been converted.
+     * The attractions in the itinerary list file refer to the attraction list file, so it is converted first.
+     *
+     * @throws DataConversionException if a file in the other format is not in the correct format.
+     */
+    public static void convertDataFiles(ReadOnlyUserPrefs userPrefs) throws DataConversionException, IOException {
+        requireNonNull(userPrefs);
+        DataFormat targetFormat = userPrefs.getDataFormat();
+
+        for (DataFormat sourceFormat : DataFormat.values()) {
+            if (sourceFormat.getFileExtension().equals(targetFormat.getFileExtension())) {
+                continue;
+            }
+
+            Path attractionListFilePath = userPrefs.getAttractionListFilePath();
+            Path sourceAttractionListFilePath = sourceFormat.toFilePath(attractionListFilePath);
+            if (!Files.exists(attractionListFilePath) && Files.exists(sourceAttractionListFilePath)) {
+                Optional<ReadOnlyAttractionList> attractionList =
+                        createAttractionListStorage(sourceFormat, sourceAttractionListFilePath).readAttractionList();
+                createAttractionListStorage(targetFormat, attractionListFilePath)
+                        .saveAttractionList(attractionList.get());
+                Files.delete(sourceAttractionListFilePath);
+                logger.info("Converted " + sourceAttractionListFilePath + " to " + attractionListFilePath);
+            }
+
+            Path itineraryListFilePath = userPrefs.getItineraryListFilePath();
+            Path sourceItineraryListFilePath = sourceFormat.toFilePath(itineraryListFilePath);
+            if (!Files.exists(itineraryListFilePath) && Files.exists(sourceItineraryListFilePath)) {
+                AttractionReferences references = createAttractionListStorage(targetFormat, attractionListFilePath)
+                        .readAttractionList().map(AttractionReferences::new).orElseGet(AttractionReferences::none);
+                Optional<ReadOnlyItineraryList> itineraryList =
+                        createItineraryListStorage(sourceFormat, sourceItineraryListFilePath)
+                                .readItineraryList(sourceItineraryListFilePath, references);
+                createItineraryListStorage(targetFormat, itineraryListFilePath)
+                        .saveItineraryList(itineraryList.get(), itineraryListFilePath, references);
+                if (sourceFormat == DataFormat.JSON) {
+                    ShardedItineraryListStorage.deleteItineraryList(sourceItineraryListFilePath);
+                } else {
+                    Files.delete(sourceItineraryListFilePath);
+                }
+                logger.info("Converted " + sourceItineraryListFilePath + " to " + itineraryListFilePath);
+            }
+        }
+    }
+}
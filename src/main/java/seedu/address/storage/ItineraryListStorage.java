@@ -31,6 +31,13 @@ public interface ItineraryListStorage {
      */
     Optional<ReadOnlyItineraryList> readItineraryList(Path filePath) throws DataConversionException, IOException;
 
+    /**
+     * Returns ItineraryList data, resolving the attractions stored as references against {@code references}.
+     * @see #readItineraryList(Path)
+     */
+    Optional<ReadOnlyItineraryList> readItineraryList(Path filePath, AttractionReferences references)
+            throws DataConversionException, IOException;
+
     /**
      * Saves the given {@link ReadOnlyItineraryList} to the storage.
      * @param itineraryList cannot be null.
@@ -43,4 +50,12 @@ public interface ItineraryListStorage {
      */
     void saveItineraryList(ReadOnlyItineraryList itineraryList, Path filePath) throws IOException;
 
+    /**
+     * Saves the given {@link ReadOnlyItineraryList}, storing the attractions that are in {@code references} as
+     * references to them instead of in full.
+     * @see #saveItineraryList(ReadOnlyItineraryList)
+     */
+    void saveItineraryList(ReadOnlyItineraryList itineraryList, Path filePath, AttractionReferences references)
+            throws IOException;
+
 }
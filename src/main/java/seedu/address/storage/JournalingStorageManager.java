@@ -0,0 +1,228 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AttractionList;
+import seedu.address.model.ItineraryList;
+import seedu.address.model.ModelChangeListener;
+import seedu.address.model.ReadOnlyAttractionList;
+import seedu.address.model.ReadOnlyItineraryList;
+import seedu.address.model.attraction.Attraction;
+import seedu.address.model.itinerary.Day;
+import seedu.address.model.itinerary.Itinerary;
+
+/**
+ * Manages storage of TrackPad data in local storage, recording each modification in a journal instead of writing
+ * the whole attraction and itinerary lists after every command.
+ * Once the journal grows past a threshold, the lists are written to their files and the journal is cleared.
+ * The data is restored by reading the lists from their files and replaying the journal onto them.
+ */
+public class JournalingStorageManager extends AsyncStorageManager implements ModelChangeListener {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalingStorageManager.class);
+
+    private final JsonJournalStorage journalStorage;
+    private final int compactionThreshold;
+    private volatile boolean isCompactionNeeded;
+    private int journalEntryCount;
+
+    // The lists whose modifications are recorded in the journal.
+    private ReadOnlyAttractionList journaledAttractionList;
+    private ReadOnlyItineraryList journaledItineraryList;
+
+    /**
+     * Creates a {@code JournalingStorageManager} with the given {@code AttractionListStorage},
+     * {@code ItineraryListStorage}, {@code UserPrefStorage} and {@code JsonJournalStorage}.
+     */
+    public JournalingStorageManager(AttractionListStorage attractionListStorage,
+                                    ItineraryListStorage itineraryListStorage, UserPrefsStorage userPrefsStorage,
+                                    JsonJournalStorage journalStorage) {
+        this(attractionListStorage, itineraryListStorage, userPrefsStorage, journalStorage,
+                DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalingStorageManager} that writes the attraction and itinerary lists to their files
+     * once the journal holds {@code compactionThreshold} entries.
+     */
+    public JournalingStorageManager(AttractionListStorage attractionListStorage,
+                                    ItineraryListStorage itineraryListStorage, UserPrefsStorage userPrefsStorage,
+                                    JsonJournalStorage journalStorage, int compactionThreshold) {
+        super(attractionListStorage, itineraryListStorage, userPrefsStorage);
+        requireNonNull(journalStorage);
+        this.journalStorage = journalStorage;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    // ================ Journal methods ==============================
+
+    /**
+     * Applies the modifications recorded in the journal to {@code attractionList} and {@code itineraryList}, which
+     * should hold the data read from the attraction and itinerary list files.
+     * Entries that cannot be applied are skipped.
+     *
+     * @throws DataConversionException if the journal file is not in the correct format.
+     */
+    public void replayJournal(AttractionList attractionList, ItineraryList itineraryList)
+            throws DataConversionException, IOException {
+        requireAllNonNull(attractionList, itineraryList);
+
+        List<JsonAdaptedJournalEntry> entries = journalStorage.readJournal();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            try {
+                entry.applyTo(attractionList, itineraryList);
+            } catch (IllegalValueException | RuntimeException e) {
+                logger.warning("Skipping journal entry that cannot be applied: " + e.getMessage());
+            }
+        }
+        logger.info("Replayed " + entries.size() + " journal entries from " + journalStorage.getJournalFilePath());
+    }
+
+    /**
+     * Starts recording the modifications made to {@code attractionList} and {@code itineraryList}, which must be
+     * reported to this storage as a {@code ModelChangeListener}.
+     * Saving either list afterwards only writes the lists to their files when the journal has grown large enough.
+     * A journal left over from a previous session is compacted straight away, as are lists that have no file yet.
+     */
+    public void startJournaling(ReadOnlyAttractionList attractionList, ReadOnlyItineraryList itineraryList) {
+        requireAllNonNull(attractionList, itineraryList);
+        journaledAttractionList = attractionList;
+        journaledItineraryList = itineraryList;
+
+        try {
+            if (!journalStorage.isJournalEmpty() || !FileUtil.isFileExists(getAttractionListFilePath())
+                    || !FileUtil.isFileExists(getItineraryListFilePath())) {
+                compact();
+            }
+        } catch (IOException ioe) {
+            reportSaveError(ioe);
+        }
+    }
+
+    /**
+     * Saves {@code attractionList} to its file, unless its modifications are already recorded in the journal.
+     */
+    @Override
+    public void saveAttractionList(ReadOnlyAttractionList attractionList) {
+        if (attractionList != journaledAttractionList) {
+            super.saveAttractionList(attractionList);
+            return;
+        }
+        compactIfNeeded();
+    }
+
+    /**
+     * Saves {@code itineraryList} to its file, unless its modifications are already recorded in the journal.
+     */
+    @Override
+    public void saveItineraryList(ReadOnlyItineraryList itineraryList) {
+        if (itineraryList != journaledItineraryList) {
+            super.saveItineraryList(itineraryList);
+            return;
+        }
+        compactIfNeeded();
+    }
+
+    private void compactIfNeeded() {
+        if (journalEntryCount >= compactionThreshold || isCompactionNeeded) {
+            compact();
+        }
+    }
+
+    /**
+     * Writes the journaled lists to their files and then clears the journal, provided both lists were written.
+     * The journal is only cleared after the lists are written, and any entry replayed onto data that already
+     * contains it has no effect, so the data can be restored whenever the application stops.
+     */
+    private void compact() {
+        logger.fine("Compacting journal " + journalStorage.getJournalFilePath());
+        journalEntryCount = 0;
+        isCompactionNeeded = false;
+        super.saveAttractionList(journaledAttractionList);
+        super.saveItineraryList(journaledItineraryList);
+        submitToWriter(() -> {
+            if (!writePending()) {
+                return;
+            }
+            try {
+                journalStorage.clearJournal();
+            } catch (IOException ioe) {
+                reportSaveError(ioe);
+            }
+        });
+    }
+
+    /**
+     * Queues {@code entry} to be appended to the journal by the writer thread.
+     * If it cannot be appended, the lists are written to their files on the next save instead.
+     */
+    private void journal(JsonAdaptedJournalEntry entry) {
+        journalEntryCount++;
+        submitToWriter(() -> {
+            try {
+                journalStorage.appendToJournal(entry);
+            } catch (IOException ioe) {
+                isCompactionNeeded = true;
+                reportSaveError(ioe);
+            }
+        });
+    }
+
+    // ================ ModelChangeListener methods ==============================
+
+    @Override
+    public void attractionListReset(ReadOnlyAttractionList attractionList) {
+        journal(JsonAdaptedJournalEntry.ofAttractionsSet(attractionList.getAttractionList()));
+    }
+
+    @Override
+    public void attractionAdded(Attraction attraction) {
+        journal(JsonAdaptedJournalEntry.ofAttractionAdded(attraction));
+    }
+
+    @Override
+    public void attractionSet(Attraction target, Attraction editedAttraction) {
+        journal(JsonAdaptedJournalEntry.ofAttractionSet(target, editedAttraction));
+    }
+
+    @Override
+    public void attractionDeleted(Attraction target) {
+        journal(JsonAdaptedJournalEntry.ofAttractionDeleted(target));
+    }
+
+    @Override
+    public void itineraryListReset(ReadOnlyItineraryList itineraryList) {
+        journal(JsonAdaptedJournalEntry.ofItinerariesSet(itineraryList.getItineraryList()));
+    }
+
+    @Override
+    public void itineraryAdded(Itinerary itinerary) {
+        journal(JsonAdaptedJournalEntry.ofItineraryAdded(itinerary));
+    }
+
+    @Override
+    public void itinerarySet(Itinerary target, Itinerary editedItinerary) {
+        journal(JsonAdaptedJournalEntry.ofItinerarySet(target, editedItinerary));
+    }
+
+    @Override
+    public void itineraryDeleted(Itinerary target) {
+        journal(JsonAdaptedJournalEntry.ofItineraryDeleted(target));
+    }
+
+    @Override
+    public void itineraryDayChanged(Itinerary itinerary, Day day) {
+        journal(JsonAdaptedJournalEntry.ofDaySet(itinerary, day));
+    }
+}
@@ -174,7 +174,7 @@ class JsonAdaptedAttraction {
         } else if (!Location.isValidLocation(location)) {
             throw new IllegalValueException(Location.MESSAGE_CONSTRAINTS);
         } else {
-            modelLocation = new Location(location);
+            modelLocation = Location.of(location);
         }
 
         // OpeningHours is optional
@@ -194,33 +194,33 @@ class JsonAdaptedAttraction {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     PriceRange.class.getSimpleName()));
         } else if (priceRange.equals("")) {
-            modelPriceRange = new PriceRange();
+            modelPriceRange = PriceRange.of("");
         } else if (!PriceRange.isValidPriceRange(priceRange)) {
             throw new IllegalValueException(PriceRange.MESSAGE_CONSTRAINTS);
         } else {
-            modelPriceRange = new PriceRange(priceRange);
+            modelPriceRange = PriceRange.of(priceRange);
         }
 
         // Rating is optional
         if (rating == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Rating.class.getSimpleName()));
         } else if (rating.equals("")) {
-            modelRating = new Rating();
+            modelRating = Rating.of("");
         } else if (!Rating.isValidRating(rating)) {
             throw new IllegalValueException(Rating.MESSAGE_CONSTRAINTS);
         } else {
-            modelRating = new Rating(rating);
+            modelRating = Rating.of(rating);
         }
 
         // Visited is optional
         if (visited == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Visited.class.getSimpleName()));
         } else if (visited.equals("")) {
-            modelVisited = new Visited();
+            modelVisited = Visited.of("");
         } else if (!Visited.isValidVisited(visited)) {
             throw new IllegalValueException(Visited.MESSAGE_CONSTRAINTS);
         } else {
-            modelVisited = new Visited(visited);
+            modelVisited = Visited.of(visited);
         }
 
         final Set<Tag> modelTags = new HashSet<>(attractionTags);
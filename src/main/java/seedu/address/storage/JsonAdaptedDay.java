@@ -36,18 +36,37 @@ public class JsonAdaptedDay {
      * Converts a given {@code Day} into this class for Jackson use.
      */
     public JsonAdaptedDay(Day source) {
+        this(source, AttractionReferences.none());
+    }
+
+    /**
+     * Converts a given {@code Day} into this class for Jackson use, storing the attractions that are in
+     * {@code references} as references to them.
+     */
+    public JsonAdaptedDay(Day source, AttractionReferences references) {
         day = source.value;
         itineraryAttractions.addAll(source.getItineraryAttractions().stream()
-                .map(JsonAdaptedItineraryAttraction::new)
+                .map(itineraryAttraction -> new JsonAdaptedItineraryAttraction(itineraryAttraction, references))
                 .collect(Collectors.toList()));
     }
 
     /**
-     * Converts this Jackson-friendly adapted tag object into the model's {@code Tag} object.
+     * Converts this Jackson-friendly adapted day object into the model's {@code Day} object.
      *
-     * @throws IllegalValueException if there were any data constraints violated in the adapted tag.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted day.
      */
     public Day toModelType() throws IllegalValueException {
+        return toModelType(AttractionReferences.none());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted day object into the model's {@code Day} object, resolving attractions
+     * stored as references against {@code references}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted day, or an attraction
+     *     stored as a reference is not in {@code references}.
+     */
+    public Day toModelType(AttractionReferences references) throws IllegalValueException {
         final List<ItineraryAttraction> modelItineraryAttractions = new ArrayList<>();
 
         if (!Day.isValidDayNumber(day)) {
@@ -55,7 +74,7 @@ public class JsonAdaptedDay {
         }
 
         for (JsonAdaptedItineraryAttraction itineraryAttraction : itineraryAttractions) {
-            modelItineraryAttractions.add(itineraryAttraction.toModelType());
+            modelItineraryAttractions.add(itineraryAttraction.toModelType(references));
         }
 
         return new Day(day, modelItineraryAttractions);
@@ -2,9 +2,11 @@ package seedu.address.storage;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -17,6 +19,8 @@ import seedu.address.model.itinerary.ItineraryDate;
 
 /**
  * Jackson-friendly version of {@link Itinerary}.
+ * The days of an itinerary can be left out to be stored separately, in which case its locations, and the words and
+ * tag names of its itinerary attractions that keywords are matched against, are stored instead.
  */
 class JsonAdaptedItinerary {
 
@@ -27,7 +31,14 @@ class JsonAdaptedItinerary {
     private final String startDate;
     private final String endDate;
     private final String budget;
-    private final List<JsonAdaptedDay> days = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String locations;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final List<String> attractionWords;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final List<String> attractionTagNames;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final List<JsonAdaptedDay> days;
 
     /**
      * Constructs a {@code JsonAdaptedItinerary} with the given itinerary details.
@@ -38,29 +49,71 @@ class JsonAdaptedItinerary {
                                 @JsonProperty("startDate") String startDate,
                                 @JsonProperty("endDate") String endDate,
                                 @JsonProperty("budget") String budget,
+                                @JsonProperty("locations") String locations,
+                                @JsonProperty("attractionWords") List<String> attractionWords,
+                                @JsonProperty("attractionTagNames") List<String> attractionTagNames,
                                 @JsonProperty("days") List<JsonAdaptedDay> days) {
         this.name = name;
         this.description = description;
         this.startDate = startDate;
         this.endDate = endDate;
         this.budget = budget;
-        if (days != null) {
-            this.days.addAll(days);
-        }
+        this.locations = locations;
+        this.attractionWords = attractionWords == null ? null : new ArrayList<>(attractionWords);
+        this.attractionTagNames = attractionTagNames == null ? null : new ArrayList<>(attractionTagNames);
+        this.days = days == null ? null : new ArrayList<>(days);
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedItinerary} with the given itinerary details, including its days.
+     */
+    public JsonAdaptedItinerary(String name, String description, String startDate, String endDate, String budget,
+                                List<JsonAdaptedDay> days) {
+        this(name, description, startDate, endDate, budget, null, null, null,
+                days == null ? new ArrayList<>() : days);
     }
 
     /**
      * Converts a given {@code Itinerary} into this class for Jackson use.
      */
     public JsonAdaptedItinerary(Itinerary source) {
+        this(source, AttractionReferences.none());
+    }
+
+    /**
+     * Converts a given {@code Itinerary} into this class for Jackson use, storing the attractions that are in
+     * {@code references} as references to them.
+     */
+    public JsonAdaptedItinerary(Itinerary source, AttractionReferences references) {
         name = source.getName().toString();
         description = source.getDescription().value;
         startDate = source.getStartDate().toString();
         endDate = source.getEndDate().toString();
-        budget = source.getBudget().value;
-        days.addAll(source.getDays().stream()
-                .map(JsonAdaptedDay::new)
-                .collect(Collectors.toList()));
+        budget = source.getBudget().getValue();
+        locations = null;
+        attractionWords = null;
+        attractionTagNames = null;
+        days = source.getDays().stream()
+                .map(day -> new JsonAdaptedDay(day, references))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Converts a given {@code Itinerary} into this class for Jackson use, leaving out its days.
+     * Its locations, and the words and tag names of its itinerary attractions, are stored instead, so that they can
+     * be shown and searched before the days are loaded.
+     */
+    public static JsonAdaptedItinerary withoutDays(Itinerary source) {
+        return new JsonAdaptedItinerary(source.getName().toString(), source.getDescription().value,
+                source.getStartDate().toString(), source.getEndDate().toString(), source.getBudget().getValue(),
+                source.getLocations(), source.getAttractionWords(), source.getAttractionTagNames(), null);
+    }
+
+    /**
+     * Returns true if the days of the itinerary were left out, to be stored separately.
+     */
+    public boolean isWithoutDays() {
+        return days == null && locations != null;
     }
 
     /**
@@ -69,16 +122,48 @@ class JsonAdaptedItinerary {
      * @throws IllegalValueException if there were any data constraints violated in the adapted itinerary.
      */
     public Itinerary toModelType() throws IllegalValueException {
+        return toModelType(AttractionReferences.none());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted itinerary object into the model's {@code Itinerary} object, resolving
+     * attractions stored as references against {@code references}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted itinerary.
+     */
+    public Itinerary toModelType(AttractionReferences references) throws IllegalValueException {
+        final List<Day> modelDays = new ArrayList<>();
+        if (days != null) {
+            for (JsonAdaptedDay day : days) {
+                modelDays.add(day.toModelType(references));
+            }
+        }
+        return toModelType(modelDays, null);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted itinerary object, whose days were left out, into the model's
+     * {@code Itinerary} object, whose days are loaded by {@code dayLoader}, from the itinerary, when they are first
+     * needed.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted itinerary.
+     */
+    public Itinerary toModelType(Function<Itinerary, List<Day>> dayLoader) throws IllegalValueException {
+        assert isWithoutDays();
+        return toModelType(null, dayLoader);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted itinerary object into the model's {@code Itinerary} object, with
+     * {@code modelDays} as its days if not null, or else with days loaded by {@code dayLoader}.
+     */
+    private Itinerary toModelType(List<Day> modelDays, Function<Itinerary, List<Day>> dayLoader)
+            throws IllegalValueException {
         final Name modelName;
         final Description modelDescription;
         final ItineraryDate modelStartDate;
         final ItineraryDate modelEndDate;
         final Budget modelBudget;
-        final List<Day> modelDays = new ArrayList<>();
-
-        for (JsonAdaptedDay day : days) {
-            modelDays.add(day.toModelType());
-        }
 
         // Name is not optional
         if (name == null) {
@@ -133,6 +218,10 @@ class JsonAdaptedItinerary {
             modelBudget = new Budget(budget);
         }
 
+        if (modelDays == null) {
+            return new Itinerary(modelName, modelDescription, modelStartDate, modelEndDate, modelBudget, locations,
+                    attractionWords, attractionTagNames, dayLoader);
+        }
         return new Itinerary(modelName, modelDescription, modelStartDate, modelEndDate, modelBudget, modelDays);
     }
 
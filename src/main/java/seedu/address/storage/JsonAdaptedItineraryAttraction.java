@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -11,11 +12,17 @@ import seedu.address.model.itinerary.ItineraryTime;
 
 /**
  * Jackson-friendly version of {@link ItineraryAttraction}.
+ * The attraction is either stored in full, or as the ID of the attraction in the attraction list with exactly the
+ * same fields.
  */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 class JsonAdaptedItineraryAttraction {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Itinerary attraction's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_ATTRACTION = "Itinerary attraction's attraction %s is not in the "
+            + "attraction list!";
 
+    private final String attractionId;
     private final JsonAdaptedAttraction attraction;
     private final String startTime;
     private final String endTime;
@@ -24,19 +31,37 @@ class JsonAdaptedItineraryAttraction {
      * Constructs a {@code JsonAdaptedItineraryAttraction} with the given itinerary attraction details.
      */
     @JsonCreator
-    public JsonAdaptedItineraryAttraction(@JsonProperty("attraction") JsonAdaptedAttraction attraction,
+    public JsonAdaptedItineraryAttraction(@JsonProperty("attractionId") String attractionId,
+                                          @JsonProperty("attraction") JsonAdaptedAttraction attraction,
                                           @JsonProperty("startTime") String startTime,
                                           @JsonProperty("endTime") String endTime) {
+        this.attractionId = attractionId;
         this.attraction = attraction;
         this.startTime = startTime;
         this.endTime = endTime;
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedItineraryAttraction} that stores its attraction in full.
+     */
+    public JsonAdaptedItineraryAttraction(JsonAdaptedAttraction attraction, String startTime, String endTime) {
+        this(null, attraction, startTime, endTime);
+    }
+
     /**
      * Converts a given {@code ItineraryAttraction} into this class for Jackson use.
      */
     public JsonAdaptedItineraryAttraction(ItineraryAttraction source) {
-        attraction = new JsonAdaptedAttraction(source.getAttraction());
+        this(source, AttractionReferences.none());
+    }
+
+    /**
+     * Converts a given {@code ItineraryAttraction} into this class for Jackson use, storing its attraction as a
+     * reference if it is in {@code references}.
+     */
+    public JsonAdaptedItineraryAttraction(ItineraryAttraction source, AttractionReferences references) {
+        attractionId = references.getReferenceId(source.getAttraction());
+        attraction = attractionId == null ? new JsonAdaptedAttraction(source.getAttraction()) : null;
         startTime = source.getStartTime().toString();
         endTime = source.getEndTime().toString();
     }
@@ -48,6 +73,16 @@ class JsonAdaptedItineraryAttraction {
      * @throws IllegalValueException if there were any data constraints violated in the adapted itinerary attraction.
      */
     public ItineraryAttraction toModelType() throws IllegalValueException {
+        return toModelType(AttractionReferences.none());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted itinerary attraction object into the model's {@code ItineraryAttraction}
+     * object, resolving its attraction against {@code references} if it is stored as a reference.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted itinerary attraction.
+     */
+    public ItineraryAttraction toModelType(AttractionReferences references) throws IllegalValueException {
         final Attraction modelAttraction;
         final ItineraryTime modelStartTime;
         final ItineraryTime modelEndTime;
@@ -73,11 +108,16 @@ class JsonAdaptedItineraryAttraction {
         }
 
         // Attraction is not optional
-        if (attraction == null) {
+        if (attractionId != null) {
+            modelAttraction = references.resolve(attractionId);
+            if (modelAttraction == null) {
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_ATTRACTION, attractionId));
+            }
+        } else if (attraction == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Attraction.class.getSimpleName()));
         } else {
-            modelAttraction = attraction.toModelType();
+            modelAttraction = references.noteReadInFull(attraction.toModelType());
         }
 
         return new ItineraryAttraction(modelAttraction, modelStartTime, modelEndTime);
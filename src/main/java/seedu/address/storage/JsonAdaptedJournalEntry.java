@@ -0,0 +1,255 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AttractionList;
+import seedu.address.model.ItineraryList;
+import seedu.address.model.attraction.Attraction;
+import seedu.address.model.itinerary.Day;
+import seedu.address.model.itinerary.Itinerary;
+
+/**
+ * Jackson-friendly record of a single modification to the attraction list or itinerary list.
+ * Every record describes the resulting state of the attraction, itinerary or day it modifies, so replaying a record
+ * onto data that already contains the modification leaves that data unchanged.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+
+    /**
+     * Represents the kind of modification recorded by a journal entry.
+     */
+    enum Type {
+        ADD_ATTRACTION, SET_ATTRACTION, DELETE_ATTRACTION, SET_ATTRACTIONS,
+        ADD_ITINERARY, SET_ITINERARY, DELETE_ITINERARY, SET_ITINERARIES,
+        SET_DAY
+    }
+
+    private final Type type;
+    private final JsonAdaptedAttraction target;
+    private final JsonAdaptedAttraction attraction;
+    private final List<JsonAdaptedAttraction> attractions;
+    private final JsonAdaptedItinerary targetItinerary;
+    private final JsonAdaptedItinerary itinerary;
+    private final List<JsonAdaptedItinerary> itineraries;
+    private final JsonAdaptedDay day;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given journal entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("type") Type type,
+                                   @JsonProperty("target") JsonAdaptedAttraction target,
+                                   @JsonProperty("attraction") JsonAdaptedAttraction attraction,
+                                   @JsonProperty("attractions") List<JsonAdaptedAttraction> attractions,
+                                   @JsonProperty("targetItinerary") JsonAdaptedItinerary targetItinerary,
+                                   @JsonProperty("itinerary") JsonAdaptedItinerary itinerary,
+                                   @JsonProperty("itineraries") List<JsonAdaptedItinerary> itineraries,
+                                   @JsonProperty("day") JsonAdaptedDay day) {
+        this.type = type;
+        this.target = target;
+        this.attraction = attraction;
+        this.attractions = attractions;
+        this.targetItinerary = targetItinerary;
+        this.itinerary = itinerary;
+        this.itineraries = itineraries;
+        this.day = day;
+    }
+
+    public static JsonAdaptedJournalEntry ofAttractionsSet(List<Attraction> attractions) {
+        return new JsonAdaptedJournalEntry(Type.SET_ATTRACTIONS, null, null,
+                attractions.stream().map(JsonAdaptedAttraction::new).collect(Collectors.toList()),
+                null, null, null, null);
+    }
+
+    public static JsonAdaptedJournalEntry ofAttractionAdded(Attraction attraction) {
+        return new JsonAdaptedJournalEntry(Type.ADD_ATTRACTION, null, new JsonAdaptedAttraction(attraction), null,
+                null, null, null, null);
+    }
+
+    public static JsonAdaptedJournalEntry ofAttractionSet(Attraction target, Attraction editedAttraction) {
+        return new JsonAdaptedJournalEntry(Type.SET_ATTRACTION, new JsonAdaptedAttraction(target),
+                new JsonAdaptedAttraction(editedAttraction), null, null, null, null, null);
+    }
+
+    public static JsonAdaptedJournalEntry ofAttractionDeleted(Attraction target) {
+        return new JsonAdaptedJournalEntry(Type.DELETE_ATTRACTION, new JsonAdaptedAttraction(target), null, null,
+                null, null, null, null);
+    }
+
+    public static JsonAdaptedJournalEntry ofItinerariesSet(List<Itinerary> itineraries) {
+        return new JsonAdaptedJournalEntry(Type.SET_ITINERARIES, null, null, null, null, null,
+                itineraries.stream().map(JsonAdaptedItinerary::new).collect(Collectors.toList()), null);
+    }
+
+    public static JsonAdaptedJournalEntry ofItineraryAdded(Itinerary itinerary) {
+        return new JsonAdaptedJournalEntry(Type.ADD_ITINERARY, null, null, null, null,
+                new JsonAdaptedItinerary(itinerary), null, null);
+    }
+
+    public static JsonAdaptedJournalEntry ofItinerarySet(Itinerary target, Itinerary editedItinerary) {
+        return new JsonAdaptedJournalEntry(Type.SET_ITINERARY, null, null, null, identityOf(target),
+                new JsonAdaptedItinerary(editedItinerary), null, null);
+    }
+
+    public static JsonAdaptedJournalEntry ofItineraryDeleted(Itinerary target) {
+        return new JsonAdaptedJournalEntry(Type.DELETE_ITINERARY, null, null, null, identityOf(target), null, null,
+                null);
+    }
+
+    public static JsonAdaptedJournalEntry ofDaySet(Itinerary itinerary, Day day) {
+        return new JsonAdaptedJournalEntry(Type.SET_DAY, null, null, null, identityOf(itinerary), null, null,
+                new JsonAdaptedDay(day));
+    }
+
+    /**
+     * Returns the fields of {@code itinerary} that are needed to identify it, leaving out its days.
+     */
+    private static JsonAdaptedItinerary identityOf(Itinerary itinerary) {
+        return new JsonAdaptedItinerary(itinerary.getName().toString(), itinerary.getDescription().value,
+                itinerary.getStartDate().toString(), itinerary.getEndDate().toString(),
+                itinerary.getBudget().getValue(), null);
+    }
+
+    /**
+     * Applies the modification recorded by this entry to {@code attractionList} and {@code itineraryList}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted journal entry.
+     */
+    public void applyTo(AttractionList attractionList, ItineraryList itineraryList) throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+
+        switch (type) {
+        case SET_ATTRACTIONS:
+            List<Attraction> modelAttractions = new ArrayList<>();
+            for (JsonAdaptedAttraction jsonAdaptedAttraction : requirePresent(attractions, "attractions")) {
+                modelAttractions.add(jsonAdaptedAttraction.toModelType());
+            }
+            attractionList.setAttractions(modelAttractions);
+            break;
+        case ADD_ATTRACTION:
+            putAttraction(attractionList, null, requirePresent(attraction, "attraction").toModelType());
+            break;
+        case SET_ATTRACTION:
+            putAttraction(attractionList, requirePresent(target, "target").toModelType(),
+                    requirePresent(attraction, "attraction").toModelType());
+            break;
+        case DELETE_ATTRACTION:
+            Attraction attractionToDelete = findAttraction(attractionList,
+                    requirePresent(target, "target").toModelType());
+            if (attractionToDelete != null) {
+                attractionList.removeAttraction(attractionToDelete);
+            }
+            break;
+        case SET_ITINERARIES:
+            List<Itinerary> modelItineraries = new ArrayList<>();
+            for (JsonAdaptedItinerary jsonAdaptedItinerary : requirePresent(itineraries, "itineraries")) {
+                modelItineraries.add(jsonAdaptedItinerary.toModelType());
+            }
+            itineraryList.setItineraries(modelItineraries);
+            break;
+        case ADD_ITINERARY:
+            putItinerary(itineraryList, null, requirePresent(itinerary, "itinerary").toModelType());
+            break;
+        case SET_ITINERARY:
+            putItinerary(itineraryList, requirePresent(targetItinerary, "targetItinerary").toModelType(),
+                    requirePresent(itinerary, "itinerary").toModelType());
+            break;
+        case DELETE_ITINERARY:
+            Itinerary itineraryToDelete = findItinerary(itineraryList,
+                    requirePresent(targetItinerary, "targetItinerary").toModelType());
+            if (itineraryToDelete != null) {
+                itineraryList.removeItinerary(itineraryToDelete);
+            }
+            break;
+        case SET_DAY:
+            setDay(itineraryList, requirePresent(targetItinerary, "targetItinerary").toModelType(),
+                    requirePresent(day, "day").toModelType());
+            break;
+        default:
+            throw new AssertionError("Unknown journal entry type: " + type);
+        }
+    }
+
+    private static <T> T requirePresent(T field, String fieldName) throws IllegalValueException {
+        if (field == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        return field;
+    }
+
+    /**
+     * Puts {@code editedAttraction} in place of {@code target}, or of the attraction with the same identity as
+     * {@code editedAttraction} if there is no such target, or at the end of {@code attractionList} otherwise.
+     */
+    private static void putAttraction(AttractionList attractionList, Attraction target, Attraction editedAttraction) {
+        Attraction existing = target == null ? null : findAttraction(attractionList, target);
+        Attraction sameAttraction = findAttraction(attractionList, editedAttraction);
+        if (existing == null) {
+            existing = sameAttraction;
+        } else if (sameAttraction != null && sameAttraction != existing) {
+            attractionList.removeAttraction(sameAttraction);
+        }
+
+        if (existing == null) {
+            attractionList.addAttraction(editedAttraction);
+        } else {
+            attractionList.setAttraction(existing, editedAttraction);
+        }
+    }
+
+    /**
+     * Puts {@code editedItinerary} in place of {@code target}, or of the itinerary with the same identity as
+     * {@code editedItinerary} if there is no such target, or at the end of {@code itineraryList} otherwise.
+     */
+    private static void putItinerary(ItineraryList itineraryList, Itinerary target, Itinerary editedItinerary) {
+        Itinerary existing = target == null ? null : findItinerary(itineraryList, target);
+        Itinerary sameItinerary = findItinerary(itineraryList, editedItinerary);
+        if (existing == null) {
+            existing = sameItinerary;
+        } else if (sameItinerary != null && sameItinerary != existing) {
+            itineraryList.removeItinerary(sameItinerary);
+        }
+
+        if (existing == null) {
+            itineraryList.addItinerary(editedItinerary);
+        } else {
+            itineraryList.setItinerary(existing, editedItinerary);
+        }
+    }
+
+    /**
+     * Replaces the day of the itinerary with the same identity as {@code target} that has the same day number as
+     * {@code day}, if both exist.
+     */
+    private static void setDay(ItineraryList itineraryList, Itinerary target, Day day) {
+        Itinerary existing = findItinerary(itineraryList, target);
+        if (existing == null || day.value > existing.getDays().size()) {
+            return;
+        }
+
+        List<Day> days = new ArrayList<>(existing.getDays());
+        days.set(day.value - 1, day);
+        itineraryList.setItinerary(existing, new Itinerary(existing.getName(), existing.getDescription(),
+                existing.getStartDate(), existing.getEndDate(), existing.getBudget(), days));
+    }
+
+    private static Attraction findAttraction(AttractionList attractionList, Attraction attraction) {
+        return attractionList.findAttraction(attraction).orElse(null);
+    }
+
+    private static Itinerary findItinerary(ItineraryList itineraryList, Itinerary itinerary) {
+        return itineraryList.findItinerary(itinerary).orElse(null);
+    }
+}
@@ -12,6 +12,7 @@ import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AttractionList;
 import seedu.address.model.ReadOnlyAttractionList;
 
 /**
@@ -45,14 +46,12 @@ public class JsonAttractionListStorage implements AttractionListStorage {
     public Optional<ReadOnlyAttractionList> readAttractionList(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAttractionList> jsonAttractionList = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAttractionList.class);
-        if (!jsonAttractionList.isPresent()) {
-            return Optional.empty();
-        }
-
+        AttractionList attractionList = new AttractionList();
         try {
-            return Optional.of(jsonAttractionList.get().toModelType());
+            boolean isFound = JsonUtil.readJsonArrayFile(filePath, JsonSerializableAttractionList.ATTRACTIONS_FIELD,
+                    JsonAdaptedAttraction.class, jsonAdaptedAttraction ->
+                            JsonSerializableAttractionList.addAttraction(attractionList, jsonAdaptedAttraction));
+            return isFound ? Optional.of(attractionList) : Optional.empty();
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -74,7 +73,8 @@ public class JsonAttractionListStorage implements AttractionListStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAttractionList(attractionList), filePath);
+        JsonUtil.saveJsonArrayFile(filePath, JsonSerializableAttractionList.ATTRACTIONS_FIELD,
+                attractionList.getAttractionList(), JsonAdaptedAttraction::new);
     }
 
 }
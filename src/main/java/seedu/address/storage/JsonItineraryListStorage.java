@@ -12,6 +12,7 @@ import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ItineraryList;
 import seedu.address.model.ReadOnlyItineraryList;
 
 /**
@@ -43,16 +44,21 @@ public class JsonItineraryListStorage implements ItineraryListStorage {
      * @throws DataConversionException if the file is not in the correct format.
      */
     public Optional<ReadOnlyItineraryList> readItineraryList(Path filePath) throws DataConversionException {
-        requireNonNull(filePath);
+        return readItineraryList(filePath, AttractionReferences.none());
+    }
 
-        Optional<JsonSerializableItineraryList> jsonItineraryList = JsonUtil.readJsonFile(
-                filePath, JsonSerializableItineraryList.class);
-        if (!jsonItineraryList.isPresent()) {
-            return Optional.empty();
-        }
+    @Override
+    public Optional<ReadOnlyItineraryList> readItineraryList(Path filePath, AttractionReferences references)
+            throws DataConversionException {
+        requireNonNull(filePath);
+        requireNonNull(references);
 
+        ItineraryList itineraryList = new ItineraryList();
         try {
-            return Optional.of(jsonItineraryList.get().toModelType());
+            boolean isFound = JsonUtil.readJsonArrayFile(filePath, JsonSerializableItineraryList.ITINERARIES_FIELD,
+                    JsonAdaptedItinerary.class, jsonAdaptedItinerary -> JsonSerializableItineraryList
+                            .addItinerary(itineraryList, jsonAdaptedItinerary, references));
+            return isFound ? Optional.of(itineraryList) : Optional.empty();
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -70,11 +76,19 @@ public class JsonItineraryListStorage implements ItineraryListStorage {
      * @param filePath location of the data. Cannot be null.
      */
     public void saveItineraryList(ReadOnlyItineraryList itineraryList, Path filePath) throws IOException {
+        saveItineraryList(itineraryList, filePath, AttractionReferences.none());
+    }
+
+    @Override
+    public void saveItineraryList(ReadOnlyItineraryList itineraryList, Path filePath,
+                                  AttractionReferences references) throws IOException {
         requireNonNull(itineraryList);
         requireNonNull(filePath);
+        requireNonNull(references);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableItineraryList(itineraryList), filePath);
+        JsonUtil.saveJsonArrayFile(filePath, JsonSerializableItineraryList.ITINERARIES_FIELD,
+                itineraryList.getItineraryList(), itinerary -> new JsonAdaptedItinerary(itinerary, references));
     }
 
 }
@@ -0,0 +1,92 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * A journal of modifications to TrackPad data, stored as a file with one JSON record per line.
+ */
+public class JsonJournalStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonJournalStorage.class);
+    private static final String LINE_SEPARATOR = "\n";
+
+    private Path filePath;
+
+    public JsonJournalStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getJournalFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns true if the journal file does not exist or has no content.
+     */
+    public boolean isJournalEmpty() throws IOException {
+        return !FileUtil.isFileExists(filePath) || Files.size(filePath) == 0;
+    }
+
+    /**
+     * Returns the entries in the journal file, in the order they were appended.
+     * An incomplete last line, left behind if the application stopped while appending to the journal, is ignored.
+     *
+     * @throws DataConversionException if a complete line is not a valid journal entry.
+     */
+    List<JsonAdaptedJournalEntry> readJournal() throws DataConversionException, IOException {
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        if (!FileUtil.isFileExists(filePath)) {
+            return entries;
+        }
+
+        String content = FileUtil.readFromFile(filePath);
+        int lineStart = 0;
+        int lineEnd = content.indexOf(LINE_SEPARATOR);
+        while (lineEnd != -1) {
+            try {
+                entries.add(JsonUtil.fromJsonString(content.substring(lineStart, lineEnd),
+                        JsonAdaptedJournalEntry.class));
+            } catch (IOException ioe) {
+                logger.warning("Error reading journal entry from " + filePath + ": " + ioe);
+                throw new DataConversionException(ioe);
+            }
+            lineStart = lineEnd + LINE_SEPARATOR.length();
+            lineEnd = content.indexOf(LINE_SEPARATOR, lineStart);
+        }
+
+        if (lineStart < content.length()) {
+            logger.warning("Ignoring incomplete last entry in journal " + filePath);
+        }
+        return entries;
+    }
+
+    /**
+     * Appends {@code entry} to the end of the journal file, creating the file if it is missing.
+     */
+    void appendToJournal(JsonAdaptedJournalEntry entry) throws IOException {
+        requireNonNull(entry);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.appendToFile(filePath, JsonUtil.toJsonLine(entry) + LINE_SEPARATOR);
+    }
+
+    /**
+     * Removes all entries from the journal file.
+     */
+    public void clearJournal() throws IOException {
+        Files.deleteIfExists(filePath);
+    }
+
+}
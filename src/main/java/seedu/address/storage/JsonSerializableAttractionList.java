@@ -19,6 +19,9 @@ import seedu.address.model.attraction.Attraction;
 @JsonRootName(value = "attractionlist")
 class JsonSerializableAttractionList {
 
+    /** Name of the field holding the attractions in the JSON object. */
+    public static final String ATTRACTIONS_FIELD = "attractions";
+
     public static final String MESSAGE_DUPLICATE_ATTRACTION = "Attraction list contains duplicate attraction(s).";
 
     private final List<JsonAdaptedAttraction> attractions = new ArrayList<>();
@@ -27,7 +30,7 @@ class JsonSerializableAttractionList {
      * Constructs a {@code JsonSerializableAttractionList} with the given attractions.
      */
     @JsonCreator
-    public JsonSerializableAttractionList(@JsonProperty("attractions") List<JsonAdaptedAttraction> attractions) {
+    public JsonSerializableAttractionList(@JsonProperty(ATTRACTIONS_FIELD) List<JsonAdaptedAttraction> attractions) {
         this.attractions.addAll(attractions);
     }
 
@@ -49,13 +52,25 @@ class JsonSerializableAttractionList {
     public AttractionList toModelType() throws IllegalValueException {
         AttractionList attractionList = new AttractionList();
         for (JsonAdaptedAttraction jsonAdaptedAttraction : attractions) {
-            Attraction attraction = jsonAdaptedAttraction.toModelType();
-            if (attractionList.hasAttraction(attraction)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_ATTRACTION);
-            }
-            attractionList.addAttraction(attraction);
+            addAttraction(attractionList, jsonAdaptedAttraction);
         }
         return attractionList;
     }
 
+    /**
+     * Converts {@code jsonAdaptedAttraction} into the model's {@code Attraction} object and adds it to
+     * {@code attractionList}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated, or {@code attractionList} already
+     *     contains the attraction.
+     */
+    static void addAttraction(AttractionList attractionList, JsonAdaptedAttraction jsonAdaptedAttraction)
+            throws IllegalValueException {
+        Attraction attraction = jsonAdaptedAttraction.toModelType();
+        if (attractionList.hasAttraction(attraction)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_ATTRACTION);
+        }
+        attractionList.addAttraction(attraction);
+    }
+
 }
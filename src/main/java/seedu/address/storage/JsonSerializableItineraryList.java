@@ -19,6 +19,9 @@ import seedu.address.model.itinerary.Itinerary;
 @JsonRootName(value = "itinerarylist")
 class JsonSerializableItineraryList {
 
+    /** Name of the field holding the itineraries in the JSON object. */
+    public static final String ITINERARIES_FIELD = "itineraries";
+
     public static final String MESSAGE_DUPLICATE_ITINERARY = "Itinerary list contains duplicate itineraries.";
 
     private final List<JsonAdaptedItinerary> itineraries = new ArrayList<>();
@@ -27,7 +30,7 @@ class JsonSerializableItineraryList {
      * Constructs a {@code JsonSerializableItineraryList} with the given itineraries.
      */
     @JsonCreator
-    public JsonSerializableItineraryList(@JsonProperty("itineraries") List<JsonAdaptedItinerary> itineraries) {
+    public JsonSerializableItineraryList(@JsonProperty(ITINERARIES_FIELD) List<JsonAdaptedItinerary> itineraries) {
         this.itineraries.addAll(itineraries);
     }
 
@@ -49,13 +52,42 @@ class JsonSerializableItineraryList {
     public ItineraryList toModelType() throws IllegalValueException {
         ItineraryList itineraryList = new ItineraryList();
         for (JsonAdaptedItinerary jsonAdaptedItinerary : itineraries) {
-            Itinerary itinerary = jsonAdaptedItinerary.toModelType();
-            if (itineraryList.hasItinerary(itinerary)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_ITINERARY);
-            }
-            itineraryList.addItinerary(itinerary);
+            addItinerary(itineraryList, jsonAdaptedItinerary);
         }
         return itineraryList;
     }
 
+    /**
+     * Converts {@code jsonAdaptedItinerary} into the model's {@code Itinerary} object and adds it to
+     * {@code itineraryList}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated, or {@code itineraryList} already
+     *     contains the itinerary.
+     */
+    static void addItinerary(ItineraryList itineraryList, JsonAdaptedItinerary jsonAdaptedItinerary)
+            throws IllegalValueException {
+        addItinerary(itineraryList, jsonAdaptedItinerary, AttractionReferences.none());
+    }
+
+    /**
+     * Similar to {@link #addItinerary(ItineraryList, JsonAdaptedItinerary)}, resolving the attractions stored as
+     * references against {@code references}.
+     */
+    static void addItinerary(ItineraryList itineraryList, JsonAdaptedItinerary jsonAdaptedItinerary,
+                             AttractionReferences references) throws IllegalValueException {
+        addItinerary(itineraryList, jsonAdaptedItinerary.toModelType(references));
+    }
+
+    /**
+     * Adds {@code itinerary} to {@code itineraryList}.
+     *
+     * @throws IllegalValueException if {@code itineraryList} already contains the itinerary.
+     */
+    static void addItinerary(ItineraryList itineraryList, Itinerary itinerary) throws IllegalValueException {
+        if (itineraryList.hasItinerary(itinerary)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_ITINERARY);
+        }
+        itineraryList.addItinerary(itinerary);
+    }
+
 }
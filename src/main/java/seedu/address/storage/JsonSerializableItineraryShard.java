@@ -0,0 +1,54 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.itinerary.Day;
+import seedu.address.model.itinerary.Itinerary;
+
+/**
+ * The days of an itinerary, stored in a file of their own, that are serializable to JSON format.
+ */
+@JsonRootName(value = "itineraryshard")
+class JsonSerializableItineraryShard {
+
+    private final List<JsonAdaptedDay> days = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableItineraryShard} with the given days.
+     */
+    @JsonCreator
+    public JsonSerializableItineraryShard(@JsonProperty("days") List<JsonAdaptedDay> days) {
+        if (days != null) {
+            this.days.addAll(days);
+        }
+    }
+
+    /**
+     * Converts the days of a given {@code Itinerary} into this class for Jackson use.
+     * The attractions of the itinerary attractions are stored in full.
+     */
+    public JsonSerializableItineraryShard(Itinerary source) {
+        days.addAll(source.getDays().stream().map(JsonAdaptedDay::new).collect(Collectors.toList()));
+    }
+
+    /**
+     * Converts these days into the model's {@code Day} objects.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public List<Day> toModelType() throws IllegalValueException {
+        List<Day> modelDays = new ArrayList<>();
+        for (JsonAdaptedDay day : days) {
+            modelDays.add(day.toModelType());
+        }
+        return modelDays;
+    }
+
+}
@@ -0,0 +1,108 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.function.IntFunction;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AttractionList;
+import seedu.address.model.ReadOnlyAttractionList;
+import seedu.address.model.attraction.Attraction;
+import seedu.address.model.attraction.LazyAttractionList;
+import seedu.address.model.attraction.UniqueAttractionList;
+
+/**
+ * A class to access AttractionList data stored as a binary file on the hard disk, which is memory-mapped instead of
+ * read into memory.
+ * Each attraction is decoded from the file only when it is accessed, through the record index of the file.
+ * Files are saved in the same way as by {@code BinaryAttractionListStorage}.
+ */
+public class MappedAttractionListStorage extends BinaryAttractionListStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(MappedAttractionListStorage.class);
+
+    public MappedAttractionListStorage(Path filePath) {
+        super(filePath);
+    }
+
+    /**
+     * Returns the attraction list in the file at {@code filePath}, whose attractions are decoded from the file on
+     * demand. The attractions are not checked for duplicates, as the file can only have been written from a list
+     * without duplicates.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAttractionList> readAttractionList(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        MappedByteBuffer content;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            content = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        try {
+            BinaryDataReader reader = new BinaryDataReader(content, false);
+            if (!reader.hasIndex()) {
+                logger.info("Binary file " + filePath + " has no index. Will be reading it into memory");
+                AttractionList attractionList = new AttractionList();
+                while (reader.nextRecord()) {
+                    JsonSerializableAttractionList.addAttraction(attractionList, readAttraction(reader));
+                }
+                return Optional.of(attractionList);
+            }
+
+            IntFunction<Attraction> decoder = recordNumber -> decodeAttraction(reader, recordNumber, filePath);
+            IntFunction<String> keyDecoder = recordNumber -> decodeIdentityKey(reader, recordNumber, filePath);
+            LazyAttractionList attractions = new LazyAttractionList(reader.getRecordCount(), decoder, keyDecoder);
+            return Optional.of(new AttractionList(new UniqueAttractionList(attractions)));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Decodes the attraction in the record of {@code reader} with the given {@code recordNumber}.
+     * As the checksum of the file is verified when it is opened, a record that cannot be decoded can only come from
+     * a file that was changed while it is mapped.
+     */
+    private static Attraction decodeAttraction(BinaryDataReader reader, int recordNumber, Path filePath) {
+        try {
+            return readAttraction(reader.readRecord(recordNumber)).toModelType();
+        } catch (IllegalValueException ive) {
+            throw new IllegalStateException("Attraction " + recordNumber + " in " + filePath
+                    + " cannot be decoded: " + ive.getMessage(), ive);
+        }
+    }
+
+    /**
+     * Decodes only the identity key of the attraction in the record of {@code reader} with the given
+     * {@code recordNumber}, like {@link #decodeAttraction}.
+     */
+    private static String decodeIdentityKey(BinaryDataReader reader, int recordNumber, Path filePath) {
+        try {
+            return readIdentityKey(reader.readRecord(recordNumber));
+        } catch (IllegalValueException ive) {
+            throw new IllegalStateException("Attraction " + recordNumber + " in " + filePath
+                    + " cannot be decoded: " + ive.getMessage(), ive);
+        }
+    }
+}
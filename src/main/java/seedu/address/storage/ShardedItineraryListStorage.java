@@ -0,0 +1,242 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ItineraryList;
+import seedu.address.model.ReadOnlyItineraryList;
+import seedu.address.model.itinerary.Day;
+import seedu.address.model.itinerary.Itinerary;
+
+/**
+ * A class to access ItineraryList data stored as json files on the hard disk, with the days of each itinerary in a
+ * shard file of its own.
+ * The index file holds the other details of each itinerary, and the shard files are kept in a directory next to it.
+ * The days of an itinerary are only read from its shard file when they are first needed, and a shard file is only
+ * written when the days of its itinerary have changed.
+ * The index file also holds the words and tag names of the itinerary attractions of each itinerary, so that
+ * itineraries can be found by keyword without reading their shard files.
+ * Attractions are stored in full in shard files, as a shard file that has not been read is not rewritten when the
+ * attraction list changes. Index files that still hold the days of each itinerary are read as well.
+ * A shard file that could not be read is never rewritten or deleted, so that its days are not lost to a read error.
+ */
+public class ShardedItineraryListStorage extends JsonItineraryListStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedItineraryListStorage.class);
+    private static final String SHARD_DIRECTORY_SUFFIX = "-days";
+    private static final String SHARD_FILE_EXTENSION = ".json";
+    private static final String SHARD_FILE_NAME_SEPARATOR = "-";
+    private static final String SHARD_FILE_HASH_ALGORITHM = "SHA-256";
+    private static final int SHARD_FILE_HASH_BYTES = 8;
+
+    // Shard files known to hold the days of an itinerary as they were read, and the last content read from or
+    // written to each shard file. Accessed by both the thread loading days and the thread saving them.
+    private final Set<Path> knownShardFiles = ConcurrentHashMap.newKeySet();
+    private final Map<Path, String> shardContents = new ConcurrentHashMap<>();
+    private final Set<Path> unreadableShardFiles = ConcurrentHashMap.newKeySet();
+
+    public ShardedItineraryListStorage(Path filePath) {
+        super(filePath);
+    }
+
+    /**
+     * Returns the directory of the shard files of the index file at {@code filePath}.
+     */
+    public static Path getShardDirectory(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return filePath.resolveSibling(baseName + SHARD_DIRECTORY_SUFFIX);
+    }
+
+    /**
+     * Returns the shard file in {@code shardDirectory} of {@code itinerary}.
+     * It is named after the case-folded identity key of the itinerary followed by a hash of the identity key itself,
+     * so that itineraries whose names differ only in case have different shard files on case-insensitive file
+     * systems too.
+     */
+    static Path getShardFile(Path shardDirectory, Itinerary itinerary) {
+        String identityKey = itinerary.getIdentityKey();
+        return shardDirectory.resolve(StringUtil.foldCase(identityKey) + SHARD_FILE_NAME_SEPARATOR
+                + hash(identityKey) + SHARD_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the first {@code SHARD_FILE_HASH_BYTES} bytes of the SHA-256 digest of {@code text} in lowercase hex.
+     */
+    private static String hash(String text) {
+        byte[] digest;
+        try {
+            digest = MessageDigest.getInstance(SHARD_FILE_HASH_ALGORITHM).digest(text.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new AssertionError(e);
+        }
+
+        StringBuilder hex = new StringBuilder();
+        for (int i = 0; i < SHARD_FILE_HASH_BYTES; i++) {
+            hex.append(String.format("%02x", digest[i]));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * Deletes the index file at {@code filePath} together with its shard files.
+     */
+    public static void deleteItineraryList(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        Path shardDirectory = getShardDirectory(filePath);
+        if (Files.isDirectory(shardDirectory)) {
+            try (Stream<Path> shardFiles = Files.list(shardDirectory)) {
+                for (Iterator<Path> iterator = shardFiles.iterator(); iterator.hasNext();) {
+                    Files.delete(iterator.next());
+                }
+            }
+            Files.delete(shardDirectory);
+        }
+        Files.deleteIfExists(filePath);
+    }
+
+    /**
+     * Returns the itineraries in the index file at {@code filePath}, whose days are read from their shard files
+     * when they are first needed.
+     * {@code references} is only used for index files that still hold the days of each itinerary.
+     *
+     * @throws DataConversionException if the index file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyItineraryList> readItineraryList(Path filePath, AttractionReferences references)
+            throws DataConversionException {
+        requireNonNull(filePath);
+        requireNonNull(references);
+
+        Path shardDirectory = getShardDirectory(filePath);
+        ItineraryList itineraryList = new ItineraryList();
+        try {
+            boolean isFound = JsonUtil.readJsonArrayFile(filePath, JsonSerializableItineraryList.ITINERARIES_FIELD,
+                    JsonAdaptedItinerary.class, jsonAdaptedItinerary -> addItinerary(itineraryList,
+                            jsonAdaptedItinerary, shardDirectory, references));
+            return isFound ? Optional.of(itineraryList) : Optional.empty();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Converts {@code jsonAdaptedItinerary} into the model's {@code Itinerary} object and adds it to
+     * {@code itineraryList}. Its days are read from its shard file in {@code shardDirectory} if they were left out.
+     */
+    private void addItinerary(ItineraryList itineraryList, JsonAdaptedItinerary jsonAdaptedItinerary,
+                              Path shardDirectory, AttractionReferences references) throws IllegalValueException {
+        if (!jsonAdaptedItinerary.isWithoutDays()) {
+            JsonSerializableItineraryList.addItinerary(itineraryList, jsonAdaptedItinerary, references);
+            return;
+        }
+
+        Itinerary itinerary = jsonAdaptedItinerary.toModelType(unloadedItinerary ->
+                readShard(getShardFile(shardDirectory, unloadedItinerary)));
+        JsonSerializableItineraryList.addItinerary(itineraryList, itinerary);
+        knownShardFiles.add(getShardFile(shardDirectory, itinerary));
+    }
+
+    /**
+     * Returns the days in {@code shardFile}.
+     * As the other details of the itinerary have already been read, an itinerary whose shard file cannot be read is
+     * given no itinerary attractions instead, and the shard file is left as it is.
+     */
+    private List<Day> readShard(Path shardFile) {
+        try {
+            String content = FileUtil.readFromFile(shardFile);
+            List<Day> days = JsonUtil.fromJsonString(content, JsonSerializableItineraryShard.class).toModelType();
+            shardContents.put(shardFile, content);
+            return days;
+        } catch (IOException | IllegalValueException e) {
+            unreadableShardFiles.add(shardFile);
+            logger.warning("Shard file " + shardFile + " could not be read. Will be starting with no itinerary "
+                    + "attractions, and changes to them will not be saved: " + e);
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Saves the index file of {@code itineraryList} to {@code filePath}, after writing the shard files of the
+     * itineraries whose days have changed since they were read or last saved.
+     * Shard files of itineraries that are no longer in {@code itineraryList} are then deleted.
+     * Shard files that could not be read are neither written nor deleted.
+     * Attractions are always stored in full, so {@code references} is not used.
+     */
+    @Override
+    public void saveItineraryList(ReadOnlyItineraryList itineraryList, Path filePath,
+                                  AttractionReferences references) throws IOException {
+        requireNonNull(itineraryList);
+        requireNonNull(filePath);
+        requireNonNull(references);
+
+        Path shardDirectory = getShardDirectory(filePath);
+        Set<Path> shardFiles = new HashSet<>();
+        for (Itinerary itinerary : itineraryList.getItineraryList()) {
+            Path shardFile = getShardFile(shardDirectory, itinerary);
+            shardFiles.add(shardFile);
+            if (unreadableShardFiles.contains(shardFile)) {
+                logger.warning("Not saving the days of " + itinerary.getName() + " as its shard file " + shardFile
+                        + " could not be read");
+            } else if (itinerary.isDaysLoaded() || !knownShardFiles.contains(shardFile)) {
+                saveShard(itinerary, shardFile);
+            }
+        }
+
+        FileUtil.createIfMissing(filePath);
+        JsonUtil.saveJsonArrayFile(filePath, JsonSerializableItineraryList.ITINERARIES_FIELD,
+                itineraryList.getItineraryList(), JsonAdaptedItinerary::withoutDays);
+
+        for (Iterator<Path> iterator = knownShardFiles.iterator(); iterator.hasNext();) {
+            Path shardFile = iterator.next();
+            if (shardFile.getParent().equals(shardDirectory) && !shardFiles.contains(shardFile)) {
+                if (!unreadableShardFiles.remove(shardFile)) {
+                    Files.deleteIfExists(shardFile);
+                }
+                shardContents.remove(shardFile);
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Writes the days of {@code itinerary} to {@code shardFile}, unless it already holds them.
+     */
+    private void saveShard(Itinerary itinerary, Path shardFile) throws IOException {
+        String content = JsonUtil.toJsonString(new JsonSerializableItineraryShard(itinerary));
+        if (content.equals(shardContents.get(shardFile))) {
+            return;
+        }
+
+        FileUtil.createParentDirsOfFile(shardFile);
+        FileUtil.writeToFile(shardFile, content);
+        shardContents.put(shardFile, content);
+        knownShardFiles.add(shardFile);
+    }
+
+}
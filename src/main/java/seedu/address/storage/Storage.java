@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyAttractionList;
@@ -45,4 +46,16 @@ public interface Storage extends AttractionListStorage, ItineraryListStorage, Us
     @Override
     void saveItineraryList(ReadOnlyItineraryList itineraryList) throws IOException;
 
+    //=========== Pending saves ================================================================================
+
+    /**
+     * Sets the handler to be notified when a save that is not performed on the caller's thread fails.
+     */
+    void setSaveErrorHandler(Consumer<IOException> saveErrorHandler);
+
+    /**
+     * Blocks until all saves requested so far have been written to the hard disk.
+     */
+    void flush();
+
 }
@@ -1,8 +1,12 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -22,6 +26,19 @@ public class StorageManager implements Storage {
     private ItineraryListStorage itineraryListStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    // Identity and version of the lists last written to their default file paths, used to skip redundant saves.
+    private ReadOnlyAttractionList lastSavedAttractionList;
+    private long lastSavedAttractionListVersion;
+    private ReadOnlyItineraryList lastSavedItineraryList;
+    private long lastSavedItineraryListVersion;
+
+    // The attraction list last read from or written to the default file path, which the itinerary list in its
+    // default file path refers to. Set by the thread reading the attraction list, which can differ from the thread
+    // reading the itinerary list.
+    private volatile ReadOnlyAttractionList referencedAttractionList;
+    // The references to the attraction list in the itinerary list last written to its default file path.
+    private AttractionReferences lastSavedItineraryListReferences;
+
     /**
      * Creates a {@code StorageManager} with the given {@code AttractionListStorage}, {@code ItineraryListStorage} and
      * {@code UserPrefStorage}.
@@ -61,7 +78,10 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyAttractionList> readAttractionList() throws DataConversionException, IOException {
-        return readAttractionList(attractionListStorage.getAttractionListFilePath());
+        Optional<ReadOnlyAttractionList> attractionList =
+                readAttractionList(attractionListStorage.getAttractionListFilePath());
+        attractionList.ifPresent(list -> referencedAttractionList = list);
+        return attractionList;
     }
 
     @Override
@@ -71,9 +91,15 @@ public class StorageManager implements Storage {
         return attractionListStorage.readAttractionList(filePath);
     }
 
+    /**
+     * Saves {@code attractionList} to the default attraction list file path.
+     * The save is skipped if the same {@code attractionList} has not been modified since it was last saved.
+     * Otherwise, if an attraction that the itinerary list file refers to was changed or removed, the next save of
+     * the itinerary list is not skipped, as its references to the attraction list have changed.
+     */
     @Override
     public void saveAttractionList(ReadOnlyAttractionList attractionList) throws IOException {
-        saveAttractionList(attractionList, attractionListStorage.getAttractionListFilePath());
+        saveAttractionListToDefaultPath(attractionList);
     }
 
     @Override
@@ -82,32 +108,177 @@ public class StorageManager implements Storage {
         attractionListStorage.saveAttractionList(attractionList, filePath);
     }
 
+    /**
+     * Implements {@link #saveAttractionList(ReadOnlyAttractionList)}, which subclasses override to save the list
+     * differently.
+     */
+    private void saveAttractionListToDefaultPath(ReadOnlyAttractionList attractionList) throws IOException {
+        if (attractionList == lastSavedAttractionList
+                && attractionList.getVersion() == lastSavedAttractionListVersion) {
+            logger.fine("Attraction list unchanged since last save, skipping write");
+            return;
+        }
+
+        long version = attractionList.getVersion();
+        saveAttractionList(attractionList, attractionListStorage.getAttractionListFilePath());
+        lastSavedAttractionList = attractionList;
+        lastSavedAttractionListVersion = version;
+        referencedAttractionList = attractionList;
+        if (lastSavedItineraryListReferences == null
+                || !lastSavedItineraryListReferences.isStillReferableIn(attractionList)) {
+            lastSavedItineraryList = null;
+        }
+    }
+
     // ================ ItineraryList methods ==============================
 
     public Path getItineraryListFilePath() {
         return itineraryListStorage.getItineraryListFilePath();
     }
 
+    /**
+     * Returns the itinerary list in the default itinerary list file path, resolving the attractions stored as
+     * references against the attraction list last read from or written to the default attraction list file path.
+     * Files in which attractions that are in the attraction list are stored in full, as they were before attractions
+     * were stored as references, are rewritten with references.
+     */
     public Optional<ReadOnlyItineraryList> readItineraryList() throws DataConversionException, IOException {
-        return readItineraryList(itineraryListStorage.getItineraryListFilePath());
+        return readItineraryList(() -> Optional.ofNullable(referencedAttractionList));
+    }
+
+    /**
+     * Similar to {@link #readItineraryList()}, but resolves the attractions stored as references against the
+     * attraction list supplied by {@code attractionListSupplier}, which should be the one in the default attraction
+     * list file path, if any.
+     * The attraction list is only asked for when the first reference is resolved, so the itinerary list file can be
+     * read while the attraction list file is still being read on another thread.
+     */
+    public Optional<ReadOnlyItineraryList> readItineraryList(
+            Supplier<Optional<ReadOnlyAttractionList>> attractionListSupplier)
+            throws DataConversionException, IOException {
+        Path filePath = itineraryListStorage.getItineraryListFilePath();
+        AttractionReferences references = AttractionReferences.deferred(attractionListSupplier);
+        Optional<ReadOnlyItineraryList> itineraryList = readItineraryList(filePath, references);
+        if (itineraryList.isPresent() && references.hasUnreferencedAttractions()) {
+            logger.info("Migrating " + filePath + " to store attractions as references to the attraction list");
+            saveItineraryList(itineraryList.get(), filePath, AttractionReferences.deferred(attractionListSupplier));
+        }
+        return itineraryList;
     }
 
     @Override
     public Optional<ReadOnlyItineraryList> readItineraryList(Path filePath)
             throws DataConversionException, IOException {
+        return readItineraryList(filePath, AttractionReferences.none());
+    }
+
+    @Override
+    public Optional<ReadOnlyItineraryList> readItineraryList(Path filePath, AttractionReferences references)
+            throws DataConversionException, IOException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return itineraryListStorage.readItineraryList(filePath);
+        return itineraryListStorage.readItineraryList(filePath, references);
     }
 
+    /**
+     * Saves {@code itineraryList} to the default itinerary list file path.
+     * The save is skipped if the same {@code itineraryList} has not been modified since it was last saved.
+     */
     @Override
     public void saveItineraryList(ReadOnlyItineraryList itineraryList) throws IOException {
-        saveItineraryList(itineraryList, itineraryListStorage.getItineraryListFilePath());
+        if (itineraryList == lastSavedItineraryList
+                && itineraryList.getVersion() == lastSavedItineraryListVersion) {
+            logger.fine("Itinerary list unchanged since last save, skipping write");
+            return;
+        }
+
+        long version = itineraryList.getVersion();
+        saveItineraryListToDefaultPath(itineraryList, getAttractionReferences());
+        lastSavedItineraryListVersion = version;
     }
 
     @Override
     public void saveItineraryList(ReadOnlyItineraryList itineraryList, Path filePath) throws IOException {
+        saveItineraryList(itineraryList, filePath, AttractionReferences.none());
+    }
+
+    @Override
+    public void saveItineraryList(ReadOnlyItineraryList itineraryList, Path filePath,
+                                  AttractionReferences references) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
-        itineraryListStorage.saveItineraryList(itineraryList, filePath);
+        itineraryListStorage.saveItineraryList(itineraryList, filePath, references);
+    }
+
+    /**
+     * Saves {@code itineraryList} to the default itinerary list file path, storing the attractions in
+     * {@code references} as references to them, and records what was saved.
+     */
+    private void saveItineraryListToDefaultPath(ReadOnlyItineraryList itineraryList,
+                                                AttractionReferences references) throws IOException {
+        lastSavedItineraryList = null;
+        saveItineraryList(itineraryList, itineraryListStorage.getItineraryListFilePath(), references);
+        lastSavedItineraryList = itineraryList;
+        lastSavedItineraryListReferences = references;
+    }
+
+    // ================ Paired saves methods ==============================
+
+    /**
+     * Saves {@code itineraryList} and then {@code attractionList} to their default file paths.
+     * The itinerary list only refers to the attractions that are the same in {@code attractionList} and in the
+     * attraction list file, and stores the others in full. Its references therefore resolve against the attraction
+     * list file whether the application stops before or after the attraction list is written, so no itinerary
+     * attraction is lost either way.
+     * The itinerary list is not written if it has not been modified since it was last saved, and the attractions
+     * it refers to are the same in {@code attractionList}.
+     * If the itinerary list fails to be written, the attraction list is not written either.
+     */
+    protected void saveItineraryListThenAttractionList(ReadOnlyItineraryList itineraryList,
+                                                       ReadOnlyAttractionList attractionList) throws IOException {
+        requireNonNull(itineraryList);
+        requireNonNull(attractionList);
+
+        boolean isItineraryListSaved = itineraryList == lastSavedItineraryList
+                && itineraryList.getVersion() == lastSavedItineraryListVersion
+                && lastSavedItineraryListReferences.isStillReferableIn(attractionList);
+        if (!isItineraryListSaved) {
+            AttractionReferences references = referencedAttractionList == null
+                    ? AttractionReferences.none()
+                    : AttractionReferences.common(referencedAttractionList, attractionList);
+            long itineraryListVersion = itineraryList.getVersion();
+            saveItineraryListToDefaultPath(itineraryList, references);
+            lastSavedItineraryListVersion = itineraryListVersion;
+        }
+
+        // the itinerary list only refers to attractions that are the same in the attraction list, so it is kept as
+        // the last saved one
+        saveAttractionListToDefaultPath(attractionList);
+    }
+
+    /**
+     * Returns references to the attraction list that the itinerary list in its default file path refers to.
+     */
+    private AttractionReferences getAttractionReferences() {
+        return referencedAttractionList == null
+                ? AttractionReferences.none()
+                : new AttractionReferences(referencedAttractionList);
+    }
+
+    // ================ Pending saves methods ==============================
+
+    /**
+     * Saves by this class are performed on the caller's thread and report failures by throwing
+     * {@code IOException}, so {@code saveErrorHandler} is never called.
+     */
+    @Override
+    public void setSaveErrorHandler(Consumer<IOException> saveErrorHandler) {
+        requireNonNull(saveErrorHandler);
+    }
+
+    /**
+     * Does nothing as saves by this class have completed by the time they return.
+     */
+    @Override
+    public void flush() {
     }
 
 }
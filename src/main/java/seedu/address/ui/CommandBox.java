@@ -1,7 +1,17 @@
 package seedu.address.ui;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
@@ -14,21 +24,39 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final int MAX_SUGGESTIONS = 8;
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final SuggestionFinder suggestionFinder;
+    // Finds suggestions off the JavaFX application thread, so that typing is not held up.
+    private final ExecutorService suggester = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-suggester");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ContextMenu suggestionMenu = new ContextMenu();
+    private Future<?> pendingSuggestions;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code SuggestionFinder}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, SuggestionFinder suggestionFinder) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.suggestionFinder = suggestionFinder;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        // calls #findSuggestions(String) whenever there is a change to the text of the command box.
+        commandTextField.textProperty().addListener((unused1, unused2, commandText) -> findSuggestions(commandText));
+        commandTextField.focusedProperty().addListener((unused1, unused2, isFocused) -> {
+            if (!isFocused) {
+                suggestionMenu.hide();
+            }
+        });
     }
 
     /**
@@ -44,6 +72,81 @@ public class CommandBox extends UiPart<Region> {
         }
     }
 
+    /**
+     * Finds the suggestions for completing the part of {@code commandText} being typed in the background, and shows
+     * them once found. The suggestions still being found for the previous text are cancelled, as the user has kept
+     * typing.
+     */
+    private void findSuggestions(String commandText) {
+        if (pendingSuggestions != null) {
+            pendingSuggestions.cancel(true);
+        }
+
+        int fragmentStart = getFragmentStart(commandText);
+        if (fragmentStart == -1 || fragmentStart == commandText.length()) {
+            suggestionMenu.hide();
+            return;
+        }
+
+        String fragment = commandText.substring(fragmentStart);
+        pendingSuggestions = suggester.submit(() -> {
+            List<String> suggestions = suggestionFinder.find(fragment, MAX_SUGGESTIONS);
+            if (!Thread.currentThread().isInterrupted()) {
+                Platform.runLater(() -> showSuggestions(commandText, fragmentStart, suggestions));
+            }
+        });
+    }
+
+    /**
+     * Shows {@code suggestions} for completing {@code commandText} from {@code fragmentStart}, unless the text in
+     * the command box has changed since they were found.
+     */
+    private void showSuggestions(String commandText, int fragmentStart, List<String> suggestions) {
+        if (!commandText.equals(commandTextField.getText())) {
+            return;
+        }
+
+        String fragment = commandText.substring(fragmentStart);
+        if (suggestions.isEmpty() || (suggestions.size() == 1 && suggestions.get(0).equalsIgnoreCase(fragment))) {
+            suggestionMenu.hide();
+            return;
+        }
+
+        List<MenuItem> menuItems = new ArrayList<>();
+        for (String suggestion : suggestions) {
+            MenuItem menuItem = new MenuItem(suggestion);
+            menuItem.setMnemonicParsing(false);
+            menuItem.setOnAction(unused -> {
+                commandTextField.setText(commandText.substring(0, fragmentStart) + suggestion);
+                commandTextField.positionCaret(commandTextField.getText().length());
+            });
+            menuItems.add(menuItem);
+        }
+        suggestionMenu.getItems().setAll(menuItems);
+        if (!suggestionMenu.isShowing()) {
+            suggestionMenu.show(commandTextField, Side.BOTTOM, 0, 0);
+        }
+    }
+
+    /**
+     * Returns the start of the part of {@code commandText} that is completed by suggestions, which is the value of
+     * the last prefix, or the arguments if there is no prefix, without leading whitespace.
+     * Returns -1 while the command word is being typed.
+     */
+    private static int getFragmentStart(String commandText) {
+        int commandWordStart = commandText.length() - commandText.stripLeading().length();
+        int argumentsStart = commandText.indexOf(' ', commandWordStart);
+        if (argumentsStart == -1) {
+            return -1;
+        }
+
+        int fragmentStart = Math.max(argumentsStart, commandText.lastIndexOf('/') + 1);
+        while (fragmentStart < commandText.length() && Character.isWhitespace(commandText.charAt(fragmentStart))) {
+            fragmentStart++;
+        }
+        return fragmentStart;
+    }
+
     /**
      * Sets the command box style to use the default style.
      */
@@ -77,4 +180,18 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that can find suggestions for completing a command.
+     */
+    @FunctionalInterface
+    public interface SuggestionFinder {
+        /**
+         * Returns at most {@code limit} suggestions that start with {@code prefix}.
+         * Called from a background thread.
+         *
+         * @see seedu.address.logic.Logic#getSuggestions(String, int)
+         */
+        List<String> find(String prefix, int limit);
+    }
+
 }
@@ -44,7 +44,7 @@ public class ItineraryAttractionCard extends UiPart<Region> {
         name.setText(itineraryAttraction.getName().fullName);
         name.setWrapText(true);
 
-        locale.setText("\uD83C\uDF0E " + itineraryAttraction.getLocation().value);
+        locale.setText("\uD83C\uDF0E " + itineraryAttraction.getAttraction().getLocation().value);
         locale.setWrapText(true);
 
         startEndTime.setText(itineraryAttraction.getStartTime().toString()
@@ -52,26 +52,26 @@ public class ItineraryAttractionCard extends UiPart<Region> {
                 + itineraryAttraction.getEndTime().toString());
         startEndTime.setWrapText(true);
 
-        if (itineraryAttraction.getPriceRange().toString() != "") {
-            Label priceRange = new Label(itineraryAttraction.getPriceRange().toString());
+        if (itineraryAttraction.getAttraction().getPriceRange().toString() != "") {
+            Label priceRange = new Label(itineraryAttraction.getAttraction().getPriceRange().toString());
             priceRange.setStyle("-fx-background-color: #800;");
             tags.getChildren().add(priceRange);
         }
 
-        if (itineraryAttraction.getRating().toString() != "") {
-            Label rating = new Label(itineraryAttraction.getRating().toString() + "\u2605");
+        if (itineraryAttraction.getAttraction().getRating().toString() != "") {
+            Label rating = new Label(itineraryAttraction.getAttraction().getRating().toString() + "\u2605");
             rating.setStyle("-fx-background-color: #080;");
             tags.getChildren().add(rating);
         }
 
-        if (itineraryAttraction.getVisited().toString() != "") {
-            Label visited = new Label(itineraryAttraction.getVisited().toString());
-            visited.setText(itineraryAttraction.getVisited().toString());
+        if (itineraryAttraction.getAttraction().getVisited().toString() != "") {
+            Label visited = new Label(itineraryAttraction.getAttraction().getVisited().toString());
+            visited.setText(itineraryAttraction.getAttraction().getVisited().toString());
             visited.setStyle("-fx-background-color: #9933ff;");
             tags.getChildren().add(visited);
         }
 
-        itineraryAttraction.getTags().stream()
+        itineraryAttraction.getAttraction().getTags().stream()
                 .sorted(Comparator.comparing(tag -> tag.tagName))
                 .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
     }
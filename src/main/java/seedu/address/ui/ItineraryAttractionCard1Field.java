@@ -18,24 +18,24 @@ public class ItineraryAttractionCard1Field extends ItineraryAttractionCard {
         super(itineraryAttraction, FXML);
 
         //optional fields
-        if (!itineraryAttraction.getDescription().value.isEmpty()) {
-            String description = itineraryAttraction.getDescription().value;
+        if (!itineraryAttraction.getAttraction().getDescription().value.isEmpty()) {
+            String description = itineraryAttraction.getAttraction().getDescription().value;
             field1.setText(description);
             field1.setWrapText(true);
-        } else if (!itineraryAttraction.getAddress().value.isEmpty()) {
-            String address = "\uD83C\uDFE0 " + itineraryAttraction.getAddress().value;
+        } else if (!itineraryAttraction.getAttraction().getAddress().value.isEmpty()) {
+            String address = "\uD83C\uDFE0 " + itineraryAttraction.getAttraction().getAddress().value;
             field1.setText(address);
             field1.setWrapText(true);
-        } else if (!itineraryAttraction.getPhone().value.isEmpty()) {
-            String phone = "📞 " + itineraryAttraction.getPhone().value;
+        } else if (!itineraryAttraction.getAttraction().getPhone().value.isEmpty()) {
+            String phone = "📞 " + itineraryAttraction.getAttraction().getPhone().value;
             field1.setText(phone);
             field1.setWrapText(true);
-        } else if (!itineraryAttraction.getEmail().value.isEmpty()) {
-            String email = "\uD83D\uDCE7 " + itineraryAttraction.getEmail().value;
+        } else if (!itineraryAttraction.getAttraction().getEmail().value.isEmpty()) {
+            String email = "\uD83D\uDCE7 " + itineraryAttraction.getAttraction().getEmail().value;
             field1.setText(email);
             field1.setWrapText(true);
-        } else if (!itineraryAttraction.getOpeningHours().value.isEmpty()) {
-            String openingHours = "\uD83D\uDD56 " + itineraryAttraction.getOpeningHours().value;
+        } else if (!itineraryAttraction.getAttraction().getOpeningHours().value.isEmpty()) {
+            String openingHours = "\uD83D\uDD56 " + itineraryAttraction.getAttraction().getOpeningHours().value;
             field1.setText(openingHours);
             field1.setWrapText(true);
         }
@@ -23,15 +23,15 @@ public class ItineraryAttractionCard2Field extends ItineraryAttractionCard {
 
         int fieldsFilled = 0;
 
-        if (!itineraryAttraction.getAddress().value.isEmpty()) {
-            String address = "\uD83C\uDFE0 " + itineraryAttraction.getAddress().value;
+        if (!itineraryAttraction.getAttraction().getAddress().value.isEmpty()) {
+            String address = "\uD83C\uDFE0 " + itineraryAttraction.getAttraction().getAddress().value;
             field1.setText(address);
 
             fieldsFilled++;
         }
 
-        if (!itineraryAttraction.getPhone().value.isEmpty()) {
-            String phone = "📞 " + itineraryAttraction.getPhone().value;
+        if (!itineraryAttraction.getAttraction().getPhone().value.isEmpty()) {
+            String phone = "📞 " + itineraryAttraction.getAttraction().getPhone().value;
             if (fieldsFilled == 0) {
                 field1.setText(phone);
             } else {
@@ -40,8 +40,8 @@ public class ItineraryAttractionCard2Field extends ItineraryAttractionCard {
             fieldsFilled++;
         }
 
-        if (!itineraryAttraction.getEmail().value.isEmpty()) {
-            String email = "\uD83D\uDCE7 " + itineraryAttraction.getEmail().value;
+        if (!itineraryAttraction.getAttraction().getEmail().value.isEmpty()) {
+            String email = "\uD83D\uDCE7 " + itineraryAttraction.getAttraction().getEmail().value;
             if (fieldsFilled == 0) {
                 field1.setText(email);
             } else if (fieldsFilled == 1) {
@@ -50,8 +50,8 @@ public class ItineraryAttractionCard2Field extends ItineraryAttractionCard {
             fieldsFilled++;
         }
 
-        if (!itineraryAttraction.getOpeningHours().value.isEmpty()) {
-            String openingHours = "\uD83D\uDD56 " + itineraryAttraction.getOpeningHours().value;
+        if (!itineraryAttraction.getAttraction().getOpeningHours().value.isEmpty()) {
+            String openingHours = "\uD83D\uDD56 " + itineraryAttraction.getAttraction().getOpeningHours().value;
             if (fieldsFilled == 0) {
                 field1.setText(openingHours);
             } else if (fieldsFilled == 1) {
@@ -60,8 +60,8 @@ public class ItineraryAttractionCard2Field extends ItineraryAttractionCard {
             fieldsFilled++;
         }
 
-        if (!itineraryAttraction.getDescription().value.isEmpty()) {
-            String description = itineraryAttraction.getDescription().value;
+        if (!itineraryAttraction.getAttraction().getDescription().value.isEmpty()) {
+            String description = itineraryAttraction.getAttraction().getDescription().value;
             if (fieldsFilled == 0) {
                 field1.setText(description);
             } else {
@@ -25,15 +25,15 @@ public class ItineraryAttractionCard3Field extends ItineraryAttractionCard {
 
         int fieldsFilled = 0;
 
-        if (!itineraryAttraction.getAddress().value.isEmpty()) {
-            String address = "\uD83C\uDFE0 " + itineraryAttraction.getAddress().value;
+        if (!itineraryAttraction.getAttraction().getAddress().value.isEmpty()) {
+            String address = "\uD83C\uDFE0 " + itineraryAttraction.getAttraction().getAddress().value;
             field1.setText(address);
             field1.setWrapText(true);
             fieldsFilled++;
         }
 
-        if (!itineraryAttraction.getPhone().value.isEmpty()) {
-            String phone = "📞 " + itineraryAttraction.getPhone().value;
+        if (!itineraryAttraction.getAttraction().getPhone().value.isEmpty()) {
+            String phone = "📞 " + itineraryAttraction.getAttraction().getPhone().value;
             if (fieldsFilled == 0) {
                 field1.setText(phone);
             } else {
@@ -43,8 +43,8 @@ public class ItineraryAttractionCard3Field extends ItineraryAttractionCard {
             fieldsFilled++;
         }
 
-        if (!itineraryAttraction.getEmail().value.isEmpty()) {
-            String email = "\uD83D\uDCE7 " + itineraryAttraction.getEmail().value;
+        if (!itineraryAttraction.getAttraction().getEmail().value.isEmpty()) {
+            String email = "\uD83D\uDCE7 " + itineraryAttraction.getAttraction().getEmail().value;
             if (fieldsFilled == 0) {
                 field1.setText(email);
             } else if (fieldsFilled == 1) {
@@ -55,8 +55,8 @@ public class ItineraryAttractionCard3Field extends ItineraryAttractionCard {
             fieldsFilled++;
         }
 
-        if (!itineraryAttraction.getOpeningHours().value.isEmpty()) {
-            String openingHours = "\uD83D\uDD56 " + itineraryAttraction.getOpeningHours().value;
+        if (!itineraryAttraction.getAttraction().getOpeningHours().value.isEmpty()) {
+            String openingHours = "\uD83D\uDD56 " + itineraryAttraction.getAttraction().getOpeningHours().value;
             if (fieldsFilled == 0) {
                 field1.setText(openingHours);
             } else if (fieldsFilled == 1) {
@@ -67,8 +67,8 @@ public class ItineraryAttractionCard3Field extends ItineraryAttractionCard {
             fieldsFilled++;
         }
 
-        if (!itineraryAttraction.getDescription().value.isEmpty()) {
-            String description = itineraryAttraction.getDescription().value;
+        if (!itineraryAttraction.getAttraction().getDescription().value.isEmpty()) {
+            String description = itineraryAttraction.getAttraction().getDescription().value;
             if (fieldsFilled == 0) {
                 field1.setText(description);
             } else if (fieldsFilled == 1) {
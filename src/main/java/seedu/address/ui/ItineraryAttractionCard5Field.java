@@ -27,28 +27,28 @@ public class ItineraryAttractionCard5Field extends ItineraryAttractionCard {
 
         //optional fields
 
-        if (!itineraryAttraction.getAddress().value.isEmpty()) {
-            String address = "\uD83C\uDFE0 " + itineraryAttraction.getAddress().value;
+        if (!itineraryAttraction.getAttraction().getAddress().value.isEmpty()) {
+            String address = "\uD83C\uDFE0 " + itineraryAttraction.getAttraction().getAddress().value;
             field1.setText(address);
         }
 
-        if (!itineraryAttraction.getPhone().value.isEmpty()) {
-            String phone = "📞 " + itineraryAttraction.getPhone().value;
+        if (!itineraryAttraction.getAttraction().getPhone().value.isEmpty()) {
+            String phone = "📞 " + itineraryAttraction.getAttraction().getPhone().value;
             field2.setText(phone);
         }
 
-        if (!itineraryAttraction.getEmail().value.isEmpty()) {
-            String email = "\uD83D\uDCE7 " + itineraryAttraction.getEmail().value;
+        if (!itineraryAttraction.getAttraction().getEmail().value.isEmpty()) {
+            String email = "\uD83D\uDCE7 " + itineraryAttraction.getAttraction().getEmail().value;
             field3.setText(email);
         }
 
-        if (!itineraryAttraction.getOpeningHours().value.isEmpty()) {
-            String openingHours = "\uD83D\uDD56 " + itineraryAttraction.getOpeningHours().value;
+        if (!itineraryAttraction.getAttraction().getOpeningHours().value.isEmpty()) {
+            String openingHours = "\uD83D\uDD56 " + itineraryAttraction.getAttraction().getOpeningHours().value;
             field4.setText(openingHours);
         }
 
-        if (!itineraryAttraction.getDescription().value.isEmpty()) {
-            String description = itineraryAttraction.getDescription().value;
+        if (!itineraryAttraction.getAttraction().getDescription().value.isEmpty()) {
+            String description = itineraryAttraction.getAttraction().getDescription().value;
             field5.setText(description);
         }
 
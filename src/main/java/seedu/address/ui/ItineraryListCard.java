@@ -31,9 +31,9 @@ public class ItineraryListCard extends UiPart<Region> {
         name.setText(itinerary.getName().fullName);
         name.setWrapText(true);
 
-        startEndDate.setText("\uD83D\uDCC6 " + itinerary.getStartDate().value
+        startEndDate.setText("\uD83D\uDCC6 " + itinerary.getStartDate()
                 + " to "
-                + itinerary.getEndDate().value);
+                + itinerary.getEndDate());
 
     }
 
@@ -20,7 +20,7 @@ public class ItineraryListCard1Field extends ItineraryListCard {
 
         if (!itinerary.getLocations().isEmpty()) {
             field1.setText("\uD83C\uDF0E " + itinerary.getLocations());
-        } else if (!itinerary.getBudget().value.isEmpty()) {
+        } else if (!itinerary.getBudget().isEmpty()) {
             field1.setText("\uD83D\uDCB5 " + itinerary.getBudget().toString());
         } else if (!itinerary.getDescription().value.isEmpty()) {
             field1.setText(itinerary.getDescription().value);
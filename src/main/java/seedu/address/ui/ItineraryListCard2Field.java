@@ -26,7 +26,7 @@ public class ItineraryListCard2Field extends ItineraryListCard {
             filledFields++;
         }
 
-        if (!itinerary.getBudget().value.isEmpty()) {
+        if (!itinerary.getBudget().isEmpty()) {
             if (filledFields == 0) {
                 field1.setText("\uD83D\uDCB5 " + itinerary.getBudget().toString());
             } else {
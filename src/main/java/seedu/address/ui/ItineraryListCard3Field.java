@@ -25,7 +25,7 @@ public class ItineraryListCard3Field extends ItineraryListCard {
             field1.setText("\uD83C\uDF0E " + itinerary.getLocations());
         }
 
-        if (!itinerary.getBudget().value.isEmpty()) {
+        if (!itinerary.getBudget().isEmpty()) {
             field2.setText("\uD83D\uDCB5 " + itinerary.getBudget().toString());
         }
 
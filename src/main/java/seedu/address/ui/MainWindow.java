@@ -2,6 +2,8 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
+import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -18,6 +20,7 @@ import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.itinerary.ItineraryAttraction;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -133,8 +136,9 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveErrorHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::getSuggestions);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
         attractionListTitle.setText("Attractions");
@@ -169,9 +173,15 @@ public class MainWindow extends UiPart<Stage> {
      */
     public void handleChangeToItineraryAttractionPanel() {
         listTitle.setText("Selected Itinerary");
-        itineraryAttractionListPanel = new ItineraryAttractionListPanel(logic.getFilteredItineraryAttractionList());
-        itineraryListPanelPlaceholder.getChildren().clear();
-        itineraryListPanelPlaceholder.getChildren().add(itineraryAttractionListPanel.getRoot());
+        // the panel is reused, as its list is updated in place when the selected itinerary changes
+        ObservableList<ItineraryAttraction> itineraryAttractions = logic.getFilteredItineraryAttractionList();
+        if (itineraryAttractionListPanel == null) {
+            itineraryAttractionListPanel = new ItineraryAttractionListPanel(itineraryAttractions);
+        }
+        if (!itineraryListPanelPlaceholder.getChildren().contains(itineraryAttractionListPanel.getRoot())) {
+            itineraryListPanelPlaceholder.getChildren().clear();
+            itineraryListPanelPlaceholder.getChildren().add(itineraryAttractionListPanel.getRoot());
+        }
     }
 
     /**
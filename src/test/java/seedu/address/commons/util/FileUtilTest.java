@@ -1,13 +1,23 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Durability;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +30,50 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_contentReplaced() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeToFile(file, "old content");
+        FileUtil.writeToFile(file, "new content");
+
+        assertEquals("new content", FileUtil.readFromFile(file));
+        assertEquals(1, Files.list(testFolder).count());
+    }
+
+    @Test
+    public void writeToFile_eachDurability_contentWritten() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        try {
+            for (Durability durability : Durability.values()) {
+                FileUtil.setDurability(durability, 10);
+                FileUtil.writeToFile(file, durability.toString());
+                FileUtil.syncPendingFiles();
+                assertEquals(durability.toString(), FileUtil.readFromFile(file));
+            }
+        } finally {
+            FileUtil.setDurability(Durability.PER_SAVE, 0);
+        }
+    }
+
+    @Test
+    public void setDurability_batchedWithNonPositiveInterval_defaultIntervalUsed() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        try {
+            FileUtil.setDurability(Durability.BATCHED, 0);
+            FileUtil.writeToFile(file, "content");
+            assertEquals("content", FileUtil.readFromFile(file));
+        } finally {
+            FileUtil.setDurability(Durability.PER_SAVE, 0);
+        }
+    }
+
+    @Test
+    public void appendToFile_existingFile_contentAppended() throws Exception {
+        Path file = testFolder.resolve("file.jsonl");
+        FileUtil.appendToFile(file, "first\n");
+        FileUtil.appendToFile(file, "second\n");
+
+        assertEquals("first\nsecond\n", FileUtil.readFromFile(file));
+    }
+
 }
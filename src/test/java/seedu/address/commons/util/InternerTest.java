@@ -0,0 +1,42 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.attraction.Location;
+import seedu.address.model.tag.Tag;
+
+public class InternerTest {
+
+    @Test
+    public void intern_nullValue_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Interner<String>().intern(null));
+    }
+
+    @Test
+    public void intern_equalValues_sameInstance() {
+        Interner<Location> interner = new Interner<>();
+        Location singapore = new Location("Singapore");
+        assertSame(singapore, interner.intern(singapore));
+        assertSame(singapore, interner.intern(new Location("Singapore")));
+    }
+
+    @Test
+    public void intern_differentValues_differentInstances() {
+        Interner<Location> interner = new Interner<>();
+        Location singapore = interner.intern(new Location("Singapore"));
+        Location paris = interner.intern(new Location("Paris"));
+        assertNotSame(singapore, paris);
+        assertEquals("Paris", paris.value);
+    }
+
+    @Test
+    public void of_equalValues_sameInstance() {
+        assertSame(Location.of("Singapore"), Location.of("Singapore"));
+        assertSame(Tag.of("friends"), Tag.of("friends"));
+    }
+}
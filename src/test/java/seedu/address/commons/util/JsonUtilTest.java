@@ -1,9 +1,14 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
 
@@ -39,6 +44,18 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void saveJsonArrayFile_thenReadJsonArrayFile_sameElements() throws Exception {
+        List<String> elements = List.of("first", "second");
+        JsonUtil.saveJsonArrayFile(SERIALIZATION_FILE, "elements", elements, Function.identity());
+
+        assertEquals(JsonUtil.toJsonString(Map.of("elements", elements)), FileUtil.readFromFile(SERIALIZATION_FILE));
+
+        List<String> readBack = new ArrayList<>();
+        assertTrue(JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "elements", String.class, readBack::add));
+        assertEquals(elements, readBack);
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
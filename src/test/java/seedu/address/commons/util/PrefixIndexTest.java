@@ -0,0 +1,66 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class PrefixIndexTest {
+
+    @Test
+    public void find_nullPrefix_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PrefixIndex().find(null, 1));
+    }
+
+    @Test
+    public void find_nonPositiveLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PrefixIndex().find("a", 0));
+    }
+
+    @Test
+    public void find_prefix_returnsTermsStartingWithPrefixIgnoringCase() {
+        PrefixIndex index = new PrefixIndex();
+        index.add("Singapore Zoo");
+        index.add("Night Safari");
+        index.add("singapore");
+        index.add("Sentosa");
+
+        assertEquals(List.of("singapore", "Singapore Zoo"), index.find("SING", 5));
+        assertEquals(List.of("Sentosa", "singapore", "Singapore Zoo"), index.find("s", 5));
+        assertEquals(List.of("Night Safari"), index.find("night safari", 5));
+        assertEquals(List.of(), index.find("zoo", 5));
+    }
+
+    @Test
+    public void find_moreMatchesThanLimit_returnsFirstMatches() {
+        PrefixIndex index = new PrefixIndex();
+        index.add("Sentosa");
+        index.add("Singapore");
+        index.add("Seoul");
+        assertEquals(List.of("Sentosa", "Seoul"), index.find("s", 2));
+    }
+
+    @Test
+    public void remove_termAddedTwice_keptUntilRemovedTwice() {
+        PrefixIndex index = new PrefixIndex();
+        index.add("Singapore");
+        index.add("SINGAPORE");
+        assertEquals(List.of("Singapore"), index.find("sin", 5));
+
+        index.remove("singapore");
+        assertEquals(List.of("Singapore"), index.find("sin", 5));
+
+        index.remove("Singapore");
+        assertEquals(List.of(), index.find("sin", 5));
+    }
+
+    @Test
+    public void clear_addedTerms_noTermsFound() {
+        PrefixIndex index = new PrefixIndex();
+        index.add("Singapore");
+        index.clear();
+        assertEquals(List.of(), index.find("", 5));
+    }
+}
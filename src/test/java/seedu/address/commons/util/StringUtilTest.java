@@ -1,10 +1,12 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -123,6 +125,24 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for foldCase and getCaseFoldedWords --------------------------------------
+
+    @Test
+    public void foldCase() {
+        assertEquals(StringUtil.foldCase("aBc@1"), StringUtil.foldCase("AbC@1"));
+        assertFalse(StringUtil.foldCase("abc").equals(StringUtil.foldCase("ab")));
+
+        // equal ignoring case only through their upper case forms
+        assertTrue("\u0130".equalsIgnoreCase("i"));
+        assertEquals(StringUtil.foldCase("\u0130"), StringUtil.foldCase("i"));
+    }
+
+    @Test
+    public void getCaseFoldedWords() {
+        assertEquals(List.of(), StringUtil.getCaseFoldedWords(""));
+        assertEquals(List.of("aaa", "bbb", "ccc@1"), StringUtil.getCaseFoldedWords("  AAA   bBb\tccc@1  "));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
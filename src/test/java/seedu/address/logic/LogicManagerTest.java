@@ -15,9 +15,12 @@ import static seedu.address.logic.commands.CommandTestUtil.RATING_DESC_EIFFEL;
 import static seedu.address.logic.commands.CommandTestUtil.VISITED_DESC_EIFFEL;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalAttractions.EIFFEL_TOWER;
+import static seedu.address.testutil.TypicalAttractions.NIGHT_SAFARI;
+import static seedu.address.testutil.TypicalAttractions.NOTRE_DAME;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,17 +31,20 @@ import seedu.address.logic.commands.attraction.AddAttractionCommand;
 import seedu.address.logic.commands.attraction.ListAttractionCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AttractionList;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAttractionList;
 import seedu.address.model.ReadOnlyItineraryList;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.attraction.Attraction;
+import seedu.address.storage.AttractionReferences;
 import seedu.address.storage.JsonAttractionListStorage;
 import seedu.address.storage.JsonItineraryListStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
 import seedu.address.testutil.AttractionBuilder;
+import seedu.address.testutil.ItineraryBuilder;
 
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
@@ -102,6 +108,35 @@ public class LogicManagerTest {
         assertCommandFailure(addAttractionCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void getSuggestions_modelModified_suggestionsUpdated() {
+        // modified before the suggestions are first needed
+        model.addAttraction(NIGHT_SAFARI);
+        assertEquals(List.of("night", "Night Safari"), logic.getSuggestions("nIGHT", 8));
+
+        // modified after the suggestions are first needed
+        model.addAttraction(NOTRE_DAME);
+        model.addItinerary(new ItineraryBuilder().withName("Paris Trip").build());
+        assertEquals(List.of("Paris Trip", "Paris, France"), logic.getSuggestions("par", 8));
+        assertEquals(List.of("Paris Trip"), logic.getSuggestions("par", 1));
+
+        model.deleteAttraction(NIGHT_SAFARI);
+        assertEquals(List.of(), logic.getSuggestions("night", 8));
+
+        model.setAttractionList(new AttractionList());
+        assertEquals(List.of("Paris Trip"), logic.getSuggestions("par", 8));
+    }
+
+    @Test
+    public void getSuggestions_manyModificationsBeforeFirstNeeded_suggestionsUpdated() {
+        for (int i = 0; i <= SuggestionIndex.MAX_PENDING_UPDATES; i++) {
+            model.addAttraction(new AttractionBuilder().withName("Attraction " + i).build());
+        }
+        model.addAttraction(NIGHT_SAFARI);
+        assertEquals(List.of("night", "Night Safari"), logic.getSuggestions("nIGHT", 8));
+        assertEquals(List.of("Attraction 0", "Attraction 1"), logic.getSuggestions("attraction", 2));
+    }
+
     @Test
     public void getFilteredAttractionList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredAttractionList().remove(0));
@@ -188,7 +223,8 @@ public class LogicManagerTest {
         }
 
         @Override
-        public void saveItineraryList(ReadOnlyItineraryList itineraryList, Path filePath) throws IOException {
+        public void saveItineraryList(ReadOnlyItineraryList itineraryList, Path filePath,
+                                      AttractionReferences references) throws IOException {
             throw DUMMY_IO_EXCEPTION;
         }
     }
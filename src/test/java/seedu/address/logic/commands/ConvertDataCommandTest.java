@@ -0,0 +1,62 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.DataFormat;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class ConvertDataCommandTest {
+    private Model model = new ModelManager();
+    private Model expectedModel = new ModelManager();
+
+    @Test
+    public void execute_differentFormat_userPrefsUpdated() {
+        UserPrefs expectedUserPrefs = new UserPrefs();
+        expectedUserPrefs.setDataFormat(DataFormat.BINARY);
+        expectedUserPrefs.setAttractionListFilePath(Paths.get("data", "attractionlist.bin"));
+        expectedUserPrefs.setItineraryListFilePath(Paths.get("data", "itinerarylist.bin"));
+        expectedModel.setUserPrefs(expectedUserPrefs);
+
+        assertCommandSuccess(new ConvertDataCommand(DataFormat.BINARY), model,
+                String.format(ConvertDataCommand.MESSAGE_SUCCESS, "binary"), expectedModel);
+    }
+
+    @Test
+    public void execute_sameFormat_throwsCommandException() {
+        assertCommandFailure(new ConvertDataCommand(DataFormat.JSON), model,
+                String.format(ConvertDataCommand.MESSAGE_SAME_FORMAT, "json"));
+    }
+
+    @Test
+    public void equals() {
+        ConvertDataCommand convertToBinaryCommand = new ConvertDataCommand(DataFormat.BINARY);
+
+        // same object -> returns true
+        assertTrue(convertToBinaryCommand.equals(convertToBinaryCommand));
+
+        // same values -> returns true
+        assertTrue(convertToBinaryCommand.equals(new ConvertDataCommand(DataFormat.BINARY)));
+
+        // null -> returns false
+        assertFalse(convertToBinaryCommand.equals(null));
+
+        // different format -> returns false
+        assertFalse(convertToBinaryCommand.equals(new ConvertDataCommand(DataFormat.JSON)));
+    }
+
+    @Test
+    public void hashCode_sameFormat_sameHashCode() {
+        assertEquals(new ConvertDataCommand(DataFormat.BINARY).hashCode(),
+                new ConvertDataCommand(DataFormat.BINARY).hashCode());
+    }
+}
@@ -4,8 +4,10 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_ATTRACTIONS_LISTED_OVERVIEW;
+import static seedu.address.commons.core.Messages.MESSAGE_ATTRACTION_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalAttractions.BOTANIC_GARDENS;
+import static seedu.address.testutil.TypicalAttractions.NIGHT_SAFARI;
 import static seedu.address.testutil.TypicalAttractions.ORCHARD_ROAD;
 import static seedu.address.testutil.TypicalAttractions.RIVER_SAFARI;
 import static seedu.address.testutil.TypicalAttractions.SINGAPORE_ZOO;
@@ -55,6 +57,13 @@ public class FindAttractionCommandTest {
 
         // different attraction -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // ranked -> returns false
+        assertFalse(findFirstCommand.equals(new FindAttractionCommand(firstPredicate, 5)));
+        assertTrue(new FindAttractionCommand(firstPredicate, 5).equals(new FindAttractionCommand(firstPredicate, 5)));
+
+        // fuzzy -> returns false
+        assertFalse(findFirstCommand.equals(new FindAttractionCommand(firstPredicate, true)));
     }
 
     @Test
@@ -78,6 +87,28 @@ public class FindAttractionCommandTest {
                 model.getFilteredAttractionList());
     }
 
+    @Test
+    public void execute_rankedKeyword_mostRelevantAttractionFound() {
+        String expectedMessage = String.format(MESSAGE_ATTRACTION_LISTED_OVERVIEW, 1);
+        AttractionContainsKeywordsPredicate predicate = preparePredicate("Zoo");
+        FindAttractionCommand command = new FindAttractionCommand(predicate, 1);
+        expectedModel.rankFilteredAttractionList(predicate.getKeywords(), 1);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+
+        // matched by name rather than by description
+        assertEquals(Collections.singletonList(SINGAPORE_ZOO), model.getFilteredAttractionList());
+    }
+
+    @Test
+    public void execute_fuzzyKeyword_attractionsWithTypingMistakeFound() {
+        String expectedMessage = String.format(MESSAGE_ATTRACTIONS_LISTED_OVERVIEW, 2);
+        AttractionContainsKeywordsPredicate predicate = preparePredicate("Safaari");
+        FindAttractionCommand command = new FindAttractionCommand(predicate, true);
+        expectedModel.updateFilteredAttractionList(preparePredicate("Safari"));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(NIGHT_SAFARI, RIVER_SAFARI), model.getFilteredAttractionList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code AttractionContainsKeywordsPredicate}.
      */
@@ -9,16 +9,19 @@ import static seedu.address.testutil.Assert.assertThrows;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.ItineraryList;
 import seedu.address.model.Model;
+import seedu.address.model.ModelChangeListener;
 import seedu.address.model.ReadOnlyAttractionList;
 import seedu.address.model.ReadOnlyItineraryAttractionList;
 import seedu.address.model.ReadOnlyItineraryList;
@@ -84,6 +87,11 @@ class AddItineraryCommandTest {
      * A default model stub that have all of the methods failing.
      */
     private class ModelStub implements Model {
+        @Override
+        public void addChangeListener(ModelChangeListener listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
             throw new AssertionError("This method should not be called.");
@@ -169,6 +177,21 @@ class AddItineraryCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Predicate<Attraction> getAttractionKeywordMatcher(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Attraction> getAttractionFuzzyKeywordMatcher(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rankFilteredAttractionList(List<String> keywords, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addItinerary(Itinerary itinerary) {
             throw new AssertionError("This method should not be called.");
@@ -209,6 +232,11 @@ class AddItineraryCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Predicate<Itinerary> getItineraryKeywordMatcher(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setCurrentItinerary(Itinerary itinerary) {
 
@@ -219,6 +247,22 @@ class AddItineraryCommandTest {
             throw new AssertionError("This methods should not be called.");
         }
 
+        @Override
+        public void addItineraryAttraction(ItineraryAttraction itineraryAttraction, Index day) {
+            throw new AssertionError("This methods should not be called.");
+        }
+
+        @Override
+        public void deleteItineraryAttraction(Index index, Index day) {
+            throw new AssertionError("This methods should not be called.");
+        }
+
+        @Override
+        public void setItineraryAttraction(ItineraryAttraction target, ItineraryAttraction editedItineraryAttraction,
+                                           Index day) {
+            throw new AssertionError("This methods should not be called.");
+        }
+
         @Override
         public ReadOnlyItineraryAttractionList getItineraryAttractionList() {
             throw new AssertionError("This methods should not be called.");
@@ -14,6 +14,7 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD;
 
 import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -25,6 +26,7 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.ModelChangeListener;
 import seedu.address.model.ReadOnlyAttractionList;
 import seedu.address.model.ReadOnlyItineraryAttractionList;
 import seedu.address.model.ReadOnlyItineraryList;
@@ -198,6 +200,11 @@ public class AddItineraryAttractionCommandTest {
      * A default model stub that throws exception for all method calls.
      */
     private class ModelStub implements Model {
+        @Override
+        public void addChangeListener(ModelChangeListener listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
             throw new AssertionError("This method should not be called.");
@@ -283,6 +290,21 @@ public class AddItineraryAttractionCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Predicate<Attraction> getAttractionKeywordMatcher(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Attraction> getAttractionFuzzyKeywordMatcher(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rankFilteredAttractionList(List<String> keywords, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addItinerary(Itinerary itinerary) {
             throw new AssertionError("This method should not be called.");
@@ -323,6 +345,11 @@ public class AddItineraryAttractionCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Predicate<Itinerary> getItineraryKeywordMatcher(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setCurrentItinerary(Itinerary itinerary) {
             throw new AssertionError("This method should not be called.");
@@ -333,6 +360,22 @@ public class AddItineraryAttractionCommandTest {
             throw new AssertionError("This methods should not be called.");
         }
 
+        @Override
+        public void addItineraryAttraction(ItineraryAttraction itineraryAttraction, Index day) {
+            throw new AssertionError("This methods should not be called.");
+        }
+
+        @Override
+        public void deleteItineraryAttraction(Index index, Index day) {
+            throw new AssertionError("This methods should not be called.");
+        }
+
+        @Override
+        public void setItineraryAttraction(ItineraryAttraction target, ItineraryAttraction editedItineraryAttraction,
+                                           Index day) {
+            throw new AssertionError("This methods should not be called.");
+        }
+
         @Override
         public ReadOnlyItineraryAttractionList getItineraryAttractionList() {
             throw new AssertionError("This methods should not be called.");
@@ -397,6 +440,11 @@ public class AddItineraryAttractionCommandTest {
             return itinerary;
         }
 
+        @Override
+        public void addItineraryAttraction(ItineraryAttraction itineraryAttraction, Index day) {
+            itinerary.addItineraryAttraction(itineraryAttraction, day);
+        }
+
         private Day getDay(Index index) {
             return itinerary.getDay(index);
         }
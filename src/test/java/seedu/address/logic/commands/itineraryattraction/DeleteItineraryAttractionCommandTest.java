@@ -14,6 +14,7 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD;
 import static seedu.address.testutil.TypicalItineraries.getTypicalItineraryList;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -24,6 +25,7 @@ import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.ModelChangeListener;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAttractionList;
 import seedu.address.model.ReadOnlyItineraryAttractionList;
@@ -145,6 +147,11 @@ public class DeleteItineraryAttractionCommandTest {
      * A default model stub that throws exception for all method calls.
      */
     private class ModelStub implements Model {
+        @Override
+        public void addChangeListener(ModelChangeListener listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
             throw new AssertionError("This method should not be called.");
@@ -230,6 +237,21 @@ public class DeleteItineraryAttractionCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Predicate<Attraction> getAttractionKeywordMatcher(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Attraction> getAttractionFuzzyKeywordMatcher(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rankFilteredAttractionList(List<String> keywords, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addItinerary(Itinerary itinerary) {
             throw new AssertionError("This method should not be called.");
@@ -270,6 +292,11 @@ public class DeleteItineraryAttractionCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Predicate<Itinerary> getItineraryKeywordMatcher(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setCurrentItinerary(Itinerary itinerary) {
             throw new AssertionError("This method should not be called.");
@@ -280,6 +307,22 @@ public class DeleteItineraryAttractionCommandTest {
             throw new AssertionError("This methods should not be called.");
         }
 
+        @Override
+        public void addItineraryAttraction(ItineraryAttraction itineraryAttraction, Index day) {
+            throw new AssertionError("This methods should not be called.");
+        }
+
+        @Override
+        public void deleteItineraryAttraction(Index index, Index day) {
+            throw new AssertionError("This methods should not be called.");
+        }
+
+        @Override
+        public void setItineraryAttraction(ItineraryAttraction target, ItineraryAttraction editedItineraryAttraction,
+                                           Index day) {
+            throw new AssertionError("This methods should not be called.");
+        }
+
         @Override
         public ReadOnlyItineraryAttractionList getItineraryAttractionList() {
             throw new AssertionError("This methods should not be called.");
@@ -17,7 +17,9 @@ import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.DataFormat;
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.ConvertDataCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.attraction.AddAttractionCommand;
@@ -88,6 +90,14 @@ public class TrackPadParserTest {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD + " 3") instanceof ExitCommand);
     }
 
+    @Test
+    public void parseCommand_convertData() throws Exception {
+        assertEquals(new ConvertDataCommand(DataFormat.BINARY),
+                parser.parseCommand(ConvertDataCommand.COMMAND_WORD + " Binary"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ConvertDataCommand.MESSAGE_USAGE), () -> parser.parseCommand(ConvertDataCommand.COMMAND_WORD + " xml"));
+    }
+
     // =========== Attraction Commands =================================================================================
 
     @Test
@@ -9,6 +9,7 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.attraction.FindAttractionCommand;
+import seedu.address.logic.parser.ParserUtil;
 import seedu.address.model.attraction.AttractionContainsKeywordsPredicate;
 
 public class FindAttractionCommandParserTest {
@@ -32,4 +33,32 @@ public class FindAttractionCommandParserTest {
         assertParseSuccess(parser, " \n Zoo \n \t MBS  \t", expectedFindAttractionCommand);
     }
 
+    @Test
+    public void parse_validArgsWithCount_returnsRankedFindCommand() {
+        FindAttractionCommand expectedFindAttractionCommand = new FindAttractionCommand(
+                new AttractionContainsKeywordsPredicate(Arrays.asList("Zoo", "MBS")), 3);
+        assertParseSuccess(parser, " Zoo MBS top/3", expectedFindAttractionCommand);
+    }
+
+    @Test
+    public void parse_validArgsWithFuzzy_returnsFuzzyFindCommand() {
+        FindAttractionCommand expectedFindAttractionCommand = new FindAttractionCommand(
+                new AttractionContainsKeywordsPredicate(Arrays.asList("Marina", "Bya")), true);
+        assertParseSuccess(parser, " Marina Bya fuzzy/", expectedFindAttractionCommand);
+    }
+
+    @Test
+    public void parse_fuzzyWithValueOrCount_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindAttractionCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " Marina fuzzy/2", expectedMessage);
+        assertParseFailure(parser, " Marina fuzzy/ top/3", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidCount_throwsParseException() {
+        assertParseFailure(parser, " Zoo top/0", ParserUtil.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, " top/3", String.format(
+                MESSAGE_INVALID_COMMAND_FORMAT, FindAttractionCommand.MESSAGE_USAGE));
+    }
+
 }
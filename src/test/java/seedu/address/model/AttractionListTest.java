@@ -13,6 +13,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -78,6 +79,29 @@ public class AttractionListTest {
         assertTrue(attractionList.hasAttraction(editedMbs));
     }
 
+    @Test
+    public void findAttraction_attractionWithSameIdentityFieldsInTrackPad_returnsAttractionInTrackPad() {
+        attractionList.addAttraction(MBS);
+        Attraction editedMbs = new AttractionBuilder(MBS).withAddress(VALID_ADDRESS_MBS).withTags(VALID_TAG_SIGHTSEEING)
+                .build();
+        assertEquals(Optional.of(MBS), attractionList.findAttraction(editedMbs));
+        attractionList.removeAttraction(MBS);
+        assertEquals(Optional.empty(), attractionList.findAttraction(editedMbs));
+    }
+
+    @Test
+    public void snapshot_attractionListModifiedAfterwards_snapshotUnchanged() {
+        AttractionList typicalAttractionList = getTypicalAttractionList();
+        ReadOnlyAttractionList unreadSnapshot = typicalAttractionList.snapshot();
+        ReadOnlyAttractionList readSnapshot = typicalAttractionList.snapshot();
+        assertEquals(getTypicalAttractionList().getAttractionList(), readSnapshot.getAttractionList());
+
+        typicalAttractionList.addAttraction(MBS);
+        assertEquals(getTypicalAttractionList().getAttractionList(), unreadSnapshot.getAttractionList());
+        assertEquals(getTypicalAttractionList().getAttractionList(), readSnapshot.getAttractionList());
+        assertEquals(typicalAttractionList.getVersion() - 1, readSnapshot.getVersion());
+    }
+
     @Test
     public void getAttractionList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> attractionList.getAttractionList().remove(0));
@@ -97,6 +121,11 @@ public class AttractionListTest {
         public ObservableList<Attraction> getAttractionList() {
             return attractions;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 
 }
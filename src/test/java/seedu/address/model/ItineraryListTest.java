@@ -1,5 +1,47 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.TypicalAttractions.MBS;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+import static seedu.address.testutil.TypicalItineraries.JAPAN_TRIP;
+import static seedu.address.testutil.TypicalItineraries.PARIS_TRIP;
+import static seedu.address.testutil.TypicalItineraries.SG_ZOOS_TOUR;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.itinerary.Itinerary;
+import seedu.address.testutil.ItineraryAttractionBuilder;
+import seedu.address.testutil.ItineraryBuilder;
+
 public class ItineraryListTest {
-    //todo add stuff
+
+    private final ItineraryList itineraryList = new ItineraryList();
+
+    @Test
+    public void snapshot_itineraryListModifiedAfterwards_snapshotUnchanged() {
+        Itinerary zoosTour = new ItineraryBuilder(SG_ZOOS_TOUR).build();
+        itineraryList.addItinerary(zoosTour);
+        itineraryList.addItinerary(PARIS_TRIP);
+        ReadOnlyItineraryList firstSnapshot = itineraryList.snapshot();
+
+        // modified in place before the first snapshot is read
+        zoosTour.addItineraryAttraction(new ItineraryAttractionBuilder().withAttraction(MBS)
+                .withStartTime("0700").withEndTime("0800").build(), INDEX_FIRST);
+        itineraryList.indicateModified(zoosTour);
+        ReadOnlyItineraryList secondSnapshot = itineraryList.snapshot();
+        itineraryList.removeItinerary(PARIS_TRIP);
+        itineraryList.addItinerary(JAPAN_TRIP);
+
+        assertEquals(List.of(SG_ZOOS_TOUR, PARIS_TRIP), firstSnapshot.getItineraryList());
+        assertEquals(List.of(zoosTour, PARIS_TRIP), secondSnapshot.getItineraryList());
+        assertNotEquals(SG_ZOOS_TOUR, zoosTour);
+        assertEquals(secondSnapshot.getVersion() + 2, itineraryList.getVersion());
+
+        // unmodified itineraries are not copied again for a later snapshot
+        assertSame(firstSnapshot.getItineraryList().get(1), secondSnapshot.getItineraryList().get(1));
+    }
 }
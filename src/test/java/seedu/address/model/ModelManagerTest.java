@@ -8,19 +8,26 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_ITINERARIES;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalAttractions.MBS;
 import static seedu.address.testutil.TypicalAttractions.SUNTEC;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
 import static seedu.address.testutil.TypicalItineraries.PARIS_TRIP;
 import static seedu.address.testutil.TypicalItineraries.SG_ZOOS_TOUR;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.attraction.Attraction;
 import seedu.address.model.attraction.AttractionContainsKeywordsPredicate;
+import seedu.address.model.itinerary.Itinerary;
 import seedu.address.model.itinerary.ItineraryContainsKeywordsPredicate;
+import seedu.address.testutil.AttractionBuilder;
 import seedu.address.testutil.AttractionListBuilder;
+import seedu.address.testutil.ItineraryAttractionBuilder;
+import seedu.address.testutil.ItineraryBuilder;
 import seedu.address.testutil.ItineraryListBuilder;
 
 public class ModelManagerTest {
@@ -101,6 +108,19 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredAttractionList().remove(0));
     }
 
+    @Test
+    public void rankFilteredAttractionList_rankedAttractionEdited_editedAttractionShown() {
+        modelManager.addAttraction(MBS);
+        modelManager.addAttraction(SUNTEC);
+        List<String> keywords = Arrays.asList(MBS.getName().fullName.split("\\s+"));
+        modelManager.rankFilteredAttractionList(keywords, 1);
+        assertEquals(List.of(MBS), modelManager.getFilteredAttractionList());
+
+        Attraction editedMbs = new AttractionBuilder(MBS).withDescription("Edited").build();
+        modelManager.setAttraction(MBS, editedMbs);
+        assertEquals(List.of(editedMbs), modelManager.getFilteredAttractionList());
+    }
+
     @Test
     public void setItineraryListFilePath_nullPath_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.setItineraryListFilePath(null));
@@ -134,6 +154,42 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredItineraryList().remove(0));
     }
 
+    @Test
+    public void addItineraryAttraction_currentItinerarySelected_incrementsItineraryListVersion() {
+        Itinerary itinerary = new ItineraryBuilder().build();
+        modelManager.addItinerary(itinerary);
+        modelManager.setCurrentItinerary(itinerary);
+        long version = modelManager.getItineraryList().getVersion();
+
+        modelManager.addItineraryAttraction(new ItineraryAttractionBuilder().build(), INDEX_FIRST);
+        assertTrue(modelManager.getItineraryList().getVersion() > version);
+    }
+
+    @Test
+    public void setAttraction_attractionVisitedByItinerary_itineraryAttractionVisitsEditedAttraction() {
+        Itinerary itinerary = new ItineraryBuilder().build();
+        modelManager.addAttraction(MBS);
+        modelManager.addItinerary(itinerary);
+        modelManager.setCurrentItinerary(itinerary);
+        modelManager.addItineraryAttraction(new ItineraryAttractionBuilder().withAttraction(MBS).build(), INDEX_FIRST);
+        long version = modelManager.getItineraryList().getVersion();
+
+        Attraction editedMbs = new AttractionBuilder(MBS).withDescription("Edited").build();
+        modelManager.setAttraction(MBS, editedMbs);
+        assertEquals(editedMbs, itinerary.getItineraryAttractions().get(0).getAttraction());
+        assertEquals(editedMbs, modelManager.getFilteredItineraryAttractionList().get(1).getAttraction());
+        assertTrue(modelManager.getItineraryList().getVersion() > version);
+    }
+
+    @Test
+    public void setCurrentItinerary_doesNotIncrementItineraryListVersion() {
+        modelManager.addItinerary(PARIS_TRIP);
+        long version = modelManager.getItineraryList().getVersion();
+
+        modelManager.setCurrentItinerary(PARIS_TRIP);
+        assertEquals(version, modelManager.getItineraryList().getVersion());
+    }
+
     @Test
     public void equals() {
         AttractionList attractionList = new AttractionListBuilder().withAttraction(MBS).withAttraction(SUNTEC).build();
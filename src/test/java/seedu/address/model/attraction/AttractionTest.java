@@ -2,6 +2,7 @@ package seedu.address.model.attraction;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_EIFFEL;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_DESCRIPTION_EIFFEL;
@@ -128,6 +129,26 @@ public class AttractionTest {
         assertFalse(SUNTEC.equals(editedSuntec));
     }
 
+    @Test
+    public void getIdentityKey() {
+        // same identity, different data fields -> same key
+        Attraction editedMbs = new AttractionBuilder(MBS).withPhone(VALID_PHONE_EIFFEL).withTags().build();
+        assertEquals(MBS.getIdentityKey(), editedMbs.getIdentityKey());
+
+        // different name or location -> different key
+        assertNotEquals(MBS.getIdentityKey(), new AttractionBuilder(MBS).withName(VALID_NAME_EIFFEL).build()
+                .getIdentityKey());
+        assertNotEquals(MBS.getIdentityKey(), new AttractionBuilder(MBS).withLocation(VALID_LOCATION_EIFFEL).build()
+                .getIdentityKey());
+    }
+
+    @Test
+    public void hashCode_equalAttractions_sameHashCode() {
+        Attraction mbsCopy = new AttractionBuilder(MBS).build();
+        assertEquals(MBS.hashCode(), mbsCopy.hashCode());
+        assertEquals(MBS, mbsCopy);
+    }
+
     @Test
     public void getNumOfFilledFieldsTest() {
         //O fields test
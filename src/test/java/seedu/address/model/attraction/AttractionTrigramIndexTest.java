@@ -0,0 +1,107 @@
+package seedu.address.model.attraction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.AttractionBuilder;
+
+public class AttractionTrigramIndexTest {
+
+    private final Attraction marinaBay = new AttractionBuilder().withName("Marina Bay Sands")
+            .withLocation("Singapore").build();
+    private final Attraction sentosa = new AttractionBuilder().withName("Sentosa").withLocation("Singapore").build();
+
+    @Test
+    public void isWithinMistakes() {
+        assertTrue(AttractionTrigramIndex.isWithinMistakes("sentosa", "sentosa", 0));
+        assertTrue(AttractionTrigramIndex.isWithinMistakes("sentosaa", "sentosa", 1)); // insertion
+        assertTrue(AttractionTrigramIndex.isWithinMistakes("sntosa", "sentosa", 1)); // deletion
+        assertTrue(AttractionTrigramIndex.isWithinMistakes("sentoza", "sentosa", 1)); // substitution
+        assertTrue(AttractionTrigramIndex.isWithinMistakes("bya", "bay", 1)); // swap of adjacent characters
+        assertFalse(AttractionTrigramIndex.isWithinMistakes("bya", "bay", 0));
+        assertFalse(AttractionTrigramIndex.isWithinMistakes("seantoza", "sentosa", 1));
+        assertFalse(AttractionTrigramIndex.isWithinMistakes("sentosa", "sen", 2));
+    }
+
+    @Test
+    public void find_typingMistakes_attractionsFound() {
+        AttractionTrigramIndex index = new AttractionTrigramIndex();
+        index.add(marinaBay);
+        index.add(sentosa);
+
+        assertEquals(Set.of(marinaBay), index.find(List.of("Bya")));
+        assertEquals(Set.of(sentosa), index.find(List.of("SENTOSAA")));
+        assertEquals(Set.of(marinaBay, sentosa), index.find(List.of("Singapoer")));
+
+        // short keywords must match exactly
+        assertEquals(Set.of(), index.find(List.of("ba")));
+
+        index.remove(sentosa);
+        assertEquals(Set.of(), index.find(List.of("Sentosaa")));
+        assertEquals(Set.of(marinaBay), index.find(List.of("Singapoer")));
+    }
+
+    @Test
+    public void find_mistakesChangeEveryTrigram_attractionFound() {
+        AttractionTrigramIndex index = new AttractionTrigramIndex();
+        Attraction abcdef = new AttractionBuilder().withName("abcdef").withLocation("Singapore").build();
+        index.add(abcdef);
+        index.add(sentosa);
+
+        // the two swaps leave no trigram of the keyword in the name
+        assertEquals(Set.of(abcdef), index.find(List.of("bacdfe")));
+
+        index.remove(abcdef);
+        assertEquals(Set.of(), index.find(List.of("bacdfe")));
+    }
+
+    @Test
+    public void find_randomWords_sameAsComparingEveryWord() {
+        Random random = new Random(0);
+        AttractionTrigramIndex index = new AttractionTrigramIndex();
+        Map<String, Attraction> attractionsByName = new HashMap<>();
+        for (int i = 0; i < 300; i++) {
+            String name = getRandomWord(random);
+            if (!attractionsByName.containsKey(name)) {
+                Attraction attraction = new AttractionBuilder().withName(name).withLocation("Singapore").build();
+                attractionsByName.put(name, attraction);
+                index.add(attraction);
+            }
+        }
+
+        for (int i = 0; i < 300; i++) {
+            String keyword = getRandomWord(random);
+            int maxMistakes = AttractionTrigramIndex.getMaxMistakes(keyword);
+            Set<Attraction> expected = new HashSet<>();
+            attractionsByName.forEach((name, attraction) -> {
+                if (AttractionTrigramIndex.isWithinMistakes(keyword, name, maxMistakes)
+                        || AttractionTrigramIndex.isWithinMistakes(keyword, "singapore", maxMistakes)) {
+                    expected.add(attraction);
+                }
+            });
+            assertEquals(expected, index.find(List.of(keyword)), keyword);
+        }
+    }
+
+    /**
+     * Returns a word of 1 to 10 characters from a small alphabet, so that many words are close to each other.
+     */
+    private static String getRandomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = 1 + random.nextInt(10);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(3)));
+        }
+        return word.toString();
+    }
+}
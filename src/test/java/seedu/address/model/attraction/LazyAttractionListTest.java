@@ -0,0 +1,80 @@
+package seedu.address.model.attraction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAttractions.EIFFEL_TOWER;
+import static seedu.address.testutil.TypicalAttractions.MBS;
+import static seedu.address.testutil.TypicalAttractions.getTypicalAttractions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class LazyAttractionListTest {
+
+    private final List<Attraction> records = getTypicalAttractions();
+    private final List<Integer> decodedRecords = new ArrayList<>();
+
+    private LazyAttractionList createLazyList() {
+        return new LazyAttractionList(records.size(), recordNumber -> {
+            decodedRecords.add(recordNumber);
+            return records.get(recordNumber);
+        });
+    }
+
+    @Test
+    public void get_sameIndexTwice_decodedOnce() {
+        LazyAttractionList lazyList = createLazyList();
+        assertEquals(records.size(), lazyList.size());
+        assertEquals(records.get(2), lazyList.get(2));
+        assertEquals(records.get(2), lazyList.get(2));
+        assertEquals(List.of(2), decodedRecords);
+    }
+
+    @Test
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        LazyAttractionList lazyList = createLazyList();
+        assertThrows(IndexOutOfBoundsException.class, () -> lazyList.get(records.size()));
+        assertThrows(IndexOutOfBoundsException.class, () -> lazyList.get(-1));
+    }
+
+    @Test
+    public void modifications_sameAsArrayList() {
+        LazyAttractionList lazyList = createLazyList();
+        List<Attraction> expected = new ArrayList<>(records);
+
+        lazyList.add(MBS);
+        expected.add(MBS);
+        lazyList.add(1, EIFFEL_TOWER);
+        expected.add(1, EIFFEL_TOWER);
+        lazyList.remove(3);
+        expected.remove(3);
+        lazyList.set(0, records.get(3));
+        expected.set(0, records.get(3));
+        lazyList.set(1, MBS);
+        expected.set(1, MBS);
+        assertEquals(expected, lazyList);
+
+        lazyList.clear();
+        assertEquals(new ArrayList<>(), lazyList);
+    }
+
+    @Test
+    public void copy_modifiedIndependently() {
+        LazyAttractionList lazyList = createLazyList();
+        LazyAttractionList copy = lazyList.copy();
+
+        copy.remove(0);
+        copy.add(MBS);
+        assertEquals(records, lazyList);
+        List<Attraction> expected = new ArrayList<>(records.subList(1, records.size()));
+        expected.add(MBS);
+        assertEquals(expected, copy);
+
+        // records decoded by either list are cached for both
+        decodedRecords.clear();
+        assertEquals(records.get(1), lazyList.get(1));
+        assertEquals(List.of(), decodedRecords);
+    }
+}
@@ -7,14 +7,20 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_MBS;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_SIGHTSEEING;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalAttractions.BOTANIC_GARDENS;
+import static seedu.address.testutil.TypicalAttractions.JURONG_LAKE;
+import static seedu.address.testutil.TypicalAttractions.NIGHT_SAFARI;
 import static seedu.address.testutil.TypicalAttractions.SUNTEC;
+import static seedu.address.testutil.TypicalAttractions.getTypicalAttractions;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.transformation.FilteredList;
 import seedu.address.model.attraction.exceptions.AttractionNotFoundException;
 import seedu.address.model.attraction.exceptions.DuplicateAttractionException;
 import seedu.address.testutil.AttractionBuilder;
@@ -131,6 +137,60 @@ public class UniqueAttractionListTest {
         assertEquals(expectedUniquePersonList, uniqueAttractionList);
     }
 
+    @Test
+    public void remove_attractionWithSameIdentityButDifferentFields_throwsAttractionNotFoundException() {
+        uniqueAttractionList.add(BOTANIC_GARDENS);
+        Attraction editedBotanicGardens = new AttractionBuilder(BOTANIC_GARDENS).withAddress(VALID_ADDRESS_MBS)
+                .build();
+        assertThrows(AttractionNotFoundException.class, () -> uniqueAttractionList.remove(editedBotanicGardens));
+    }
+
+    @Test
+    public void remove_attractionBeforeOthers_othersStillFound() {
+        uniqueAttractionList.add(BOTANIC_GARDENS);
+        uniqueAttractionList.add(SUNTEC);
+        uniqueAttractionList.add(JURONG_LAKE);
+        uniqueAttractionList.remove(BOTANIC_GARDENS);
+
+        assertFalse(uniqueAttractionList.contains(BOTANIC_GARDENS));
+        uniqueAttractionList.setAttraction(JURONG_LAKE, BOTANIC_GARDENS);
+        uniqueAttractionList.remove(SUNTEC);
+        assertEquals(Collections.singletonList(BOTANIC_GARDENS), uniqueAttractionList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void remove_lazyBackingList_onlyRemovedAttractionDecoded() {
+        List<Attraction> records = getTypicalAttractions();
+        List<Integer> decodedRecords = new ArrayList<>();
+        UniqueAttractionList lazyUniqueList = new UniqueAttractionList(new LazyAttractionList(records.size(),
+            recordNumber -> {
+                decodedRecords.add(recordNumber);
+                return records.get(recordNumber);
+            }, recordNumber -> records.get(recordNumber).getIdentityKey()));
+
+        assertTrue(lazyUniqueList.contains(records.get(2)));
+        lazyUniqueList.remove(records.get(0));
+        lazyUniqueList.add(SUNTEC);
+        assertTrue(lazyUniqueList.contains(records.get(1)));
+        assertFalse(lazyUniqueList.contains(records.get(0)));
+        assertEquals(List.of(0), decodedRecords);
+
+        // attractions after the removed attraction are still found at their new positions
+        lazyUniqueList.remove(records.get(records.size() - 1));
+        List<Attraction> expected = new ArrayList<>(records.subList(1, records.size() - 1));
+        expected.add(SUNTEC);
+        assertEquals(expected, lazyUniqueList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setAttraction_editedAttractionHasDifferentIdentity_onlyNewIdentityFound() {
+        uniqueAttractionList.add(BOTANIC_GARDENS);
+        uniqueAttractionList.setAttraction(BOTANIC_GARDENS, SUNTEC);
+        assertFalse(uniqueAttractionList.contains(BOTANIC_GARDENS));
+        assertTrue(uniqueAttractionList.contains(SUNTEC));
+        uniqueAttractionList.add(BOTANIC_GARDENS);
+    }
+
     @Test
     public void setAttractions_nullUniqueAttractionList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, ()
@@ -173,4 +233,73 @@ public class UniqueAttractionListTest {
         assertThrows(UnsupportedOperationException.class, ()
             -> uniqueAttractionList.asUnmodifiableObservableList().remove(0));
     }
+
+    @Test
+    public void getKeywordMatcher_sameMatchesAsPredicate() {
+        uniqueAttractionList.setAttractions(getTypicalAttractions());
+        List<List<String>> keywordLists = List.of(List.of("zoo"), List.of("SAFARI", "gardens"), List.of("animals"),
+                List.of("Animals"), List.of("singapore,"), List.of("unknown"));
+        for (List<String> keywords : keywordLists) {
+            Predicate<Attraction> matcher = uniqueAttractionList.getKeywordMatcher(keywords);
+            AttractionContainsKeywordsPredicate predicate = new AttractionContainsKeywordsPredicate(keywords);
+            for (Attraction attraction : uniqueAttractionList) {
+                assertEquals(predicate.test(attraction), matcher.test(attraction), keywords + " " + attraction);
+            }
+        }
+    }
+
+    @Test
+    public void getKeywordMatcher_listModified_matchesUpdated() {
+        uniqueAttractionList.add(BOTANIC_GARDENS);
+        FilteredList<Attraction> filteredList = new FilteredList<>(uniqueAttractionList.asUnmodifiableObservableList(),
+                uniqueAttractionList.getKeywordMatcher(List.of("safari")));
+        assertTrue(filteredList.isEmpty());
+
+        uniqueAttractionList.add(NIGHT_SAFARI);
+        assertEquals(List.of(NIGHT_SAFARI), filteredList);
+
+        Attraction editedNightSafari = new AttractionBuilder(NIGHT_SAFARI).withName("Night Tour").build();
+        uniqueAttractionList.setAttraction(NIGHT_SAFARI, editedNightSafari);
+        assertTrue(filteredList.isEmpty());
+
+        uniqueAttractionList.setAttractions(List.of(BOTANIC_GARDENS, NIGHT_SAFARI));
+        assertEquals(List.of(NIGHT_SAFARI), filteredList);
+
+        uniqueAttractionList.remove(NIGHT_SAFARI);
+        assertTrue(filteredList.isEmpty());
+    }
+
+    @Test
+    public void rank_fieldsOfSameLength_rankedByFieldWeight() {
+        Attraction inName = new AttractionBuilder().withName("Zoo One").withTags("alpha").build();
+        Attraction inTags = new AttractionBuilder().withName("Park Two").withTags("zoo").build();
+        Attraction inDescription = new AttractionBuilder().withName("Park Three").withTags("beta")
+                .withDescription("The first Zoo park to be built outside the United States.").build();
+        Attraction inAddress = new AttractionBuilder().withName("Park Four").withTags("gamma")
+                .withAddress("1-1 Zoo Urayasu, Chiba 279-0031").build();
+        uniqueAttractionList.setAttractions(List.of(inAddress, inDescription, inTags, inName, SUNTEC));
+
+        assertEquals(List.of(inName, inTags, inDescription, inAddress),
+                uniqueAttractionList.rank(List.of("zoo"), 10));
+        assertEquals(List.of(inName, inTags), uniqueAttractionList.rank(List.of("zoo"), 2));
+    }
+
+    @Test
+    public void rank_equalScores_inListOrder() {
+        Attraction first = new AttractionBuilder().withName("Zoo One").build();
+        Attraction second = new AttractionBuilder().withName("Zoo Two").build();
+        uniqueAttractionList.setAttractions(List.of(second, first));
+        assertEquals(List.of(second, first), uniqueAttractionList.rank(List.of("zoo"), 2));
+    }
+
+    @Test
+    public void getFuzzyKeywordMatcher_typingMistake_exactAndFuzzyMatches() {
+        uniqueAttractionList.setAttractions(getTypicalAttractions());
+        Predicate<Attraction> matcher = uniqueAttractionList.getFuzzyKeywordMatcher(List.of("Safaari", "animals"));
+        Predicate<Attraction> exactMatcher = uniqueAttractionList.getKeywordMatcher(List.of("Safari", "animals"));
+        for (Attraction attraction : uniqueAttractionList) {
+            assertEquals(exactMatcher.test(attraction), matcher.test(attraction), attraction.toString());
+        }
+        assertTrue(matcher.test(NIGHT_SAFARI));
+    }
 }
@@ -1,5 +1,6 @@
 package seedu.address.model.itinerary;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -31,6 +32,7 @@ public class BudgetTest {
         assertFalse(Budget.isValidBudget("2E.34")); // non-numeric value
         assertFalse(Budget.isValidBudget("$23")); // non-numeric value
         assertFalse(Budget.isValidBudget("23.345")); // too many decimal places
+        assertFalse(Budget.isValidBudget("1000000000000000")); // too many digits
 
         // valid budget
         assertTrue(Budget.isValidBudget("")); // empty string
@@ -38,5 +40,21 @@ public class BudgetTest {
         assertTrue(Budget.isValidBudget("1660")); // non-decimal value
         assertTrue(Budget.isValidBudget("2000.57")); // decimal value
         assertTrue(Budget.isValidBudget("23.5")); // decimal value can be converted to 2 decimal places
+        assertTrue(Budget.isValidBudget("000999999999999999.99")); // leading zeros are not counted
+    }
+
+    @Test
+    public void getCents() {
+        assertEquals(166000, new Budget("1660").getCents());
+        assertEquals(2350, new Budget("23.5").getCents());
+        assertEquals(5, new Budget("0.05").getCents());
+    }
+
+    @Test
+    public void getValue() {
+        assertEquals("", new Budget().getValue());
+        assertEquals("1660.00", new Budget("1660").getValue());
+        assertEquals("23.50", new Budget("023.5").getValue());
+        assertEquals("0.05", new Budget("0.05").getValue());
     }
 }
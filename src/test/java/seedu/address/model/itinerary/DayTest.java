@@ -1,13 +1,29 @@
 package seedu.address.model.itinerary;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAttractions.BOTANIC_GARDENS;
+import static seedu.address.testutil.TypicalAttractions.JURONG_LAKE;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.attraction.Attraction;
+import seedu.address.testutil.AttractionBuilder;
+
 class DayTest {
 
+    private final ItineraryAttraction morningVisit = new ItineraryAttraction(BOTANIC_GARDENS,
+            new ItineraryTime("0900"), new ItineraryTime("1100"));
+    private final ItineraryAttraction afternoonVisit = new ItineraryAttraction(JURONG_LAKE,
+            new ItineraryTime("1300"), new ItineraryTime("1500"));
+
     @Test
     public void constructor_nullDayNumber_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> new Day(null));
@@ -31,4 +47,106 @@ class DayTest {
         // valid day number
         assertTrue(Day.isValidDayNumber(2));
     }
+
+    @Test
+    public void constructor_itineraryAttractionsOutOfOrder_sortedByStartTime() {
+        Day day = new Day(1, Arrays.asList(afternoonVisit, morningVisit));
+        assertEquals(List.of(morningVisit, afternoonVisit), day.getItineraryAttractions());
+    }
+
+    @Test
+    public void copy_eitherDayModified_otherDayUnchanged() {
+        Day day = new Day(1, List.of(morningVisit));
+        Day copy = day.copy();
+        assertEquals(day, copy);
+
+        day.addItineraryAttraction(afternoonVisit);
+        assertEquals(List.of(morningVisit), copy.getItineraryAttractions());
+        assertEquals(List.of(morningVisit, afternoonVisit), day.getItineraryAttractions());
+
+        copy.deleteItineraryAttraction(Index.fromOneBased(1));
+        assertEquals(List.of(), copy.getItineraryAttractions());
+        assertEquals(List.of(morningVisit, afternoonVisit), day.getItineraryAttractions());
+    }
+
+    @Test
+    public void addItineraryAttraction_earlierStartTime_addedInOrder() {
+        Day day = new Day(1);
+        day.addItineraryAttraction(afternoonVisit);
+        day.addItineraryAttraction(morningVisit);
+        assertEquals(List.of(morningVisit, afternoonVisit), day.getItineraryAttractions());
+    }
+
+    @Test
+    public void addItineraryAttraction_timingClash_throwsIllegalArgumentException() {
+        Day day = new Day(1, List.of(morningVisit, afternoonVisit));
+        assertThrows(IllegalArgumentException.class, () -> day.addItineraryAttraction(
+                new ItineraryAttraction(JURONG_LAKE, new ItineraryTime("1030"), new ItineraryTime("1200"))));
+    }
+
+    @Test
+    public void hasTimingClash() {
+        Day day = new Day(1, List.of(morningVisit, afternoonVisit));
+
+        // ends when another starts -> returns false
+        assertFalse(day.hasTimingClash(new ItineraryAttraction(JURONG_LAKE,
+                new ItineraryTime("1100"), new ItineraryTime("1300"))));
+
+        // overlaps the end of one -> returns true
+        assertTrue(day.hasTimingClash(new ItineraryAttraction(JURONG_LAKE,
+                new ItineraryTime("1000"), new ItineraryTime("1200"))));
+
+        // covers both -> returns true
+        assertTrue(day.hasTimingClash(new ItineraryAttraction(JURONG_LAKE,
+                new ItineraryTime("0800"), new ItineraryTime("1600"))));
+
+        // only overlaps the itinerary attraction it replaces -> returns false
+        assertFalse(day.hasTimingClash(new ItineraryAttraction(JURONG_LAKE,
+                new ItineraryTime("1400"), new ItineraryTime("1600")), afternoonVisit));
+    }
+
+    @Test
+    public void editItineraryAttraction_laterStartTime_movedInOrder() {
+        Day day = new Day(1, List.of(morningVisit, afternoonVisit));
+        ItineraryAttraction eveningVisit = new ItineraryAttraction(BOTANIC_GARDENS,
+                new ItineraryTime("1800"), new ItineraryTime("2000"));
+        day.editItineraryAttraction(morningVisit, eveningVisit);
+        assertEquals(List.of(afternoonVisit, eveningVisit), day.getItineraryAttractions());
+    }
+
+    @Test
+    public void getNextFreeSlot() {
+        Day day = new Day(1, List.of(morningVisit, afternoonVisit));
+
+        // free at the given time
+        assertEquals(Optional.of(new ItineraryTime("0700")), day.getNextFreeSlot(new ItineraryTime("0700"), 120));
+
+        // given time during an itinerary attraction
+        assertEquals(Optional.of(new ItineraryTime("1100")), day.getNextFreeSlot(new ItineraryTime("1000"), 60));
+
+        // gap too short
+        assertEquals(Optional.of(new ItineraryTime("1500")), day.getNextFreeSlot(new ItineraryTime("0800"), 180));
+
+        // no slot before the end of the day
+        assertEquals(Optional.empty(), day.getNextFreeSlot(new ItineraryTime("2300"), 60));
+    }
+
+    @Test
+    public void getEstimatedCost_itineraryAttractionsAddedAndRemoved_updated() {
+        Attraction cheapAttraction = new AttractionBuilder().withPriceRange("LOW").build();
+        Attraction expensiveAttraction = new AttractionBuilder().withName("Marina Bay Sands")
+                .withPriceRange("HIGH").build();
+        Day day = new Day(1, List.of(morningVisit));
+        assertEquals(0, day.getEstimatedCost());
+
+        day.addItineraryAttraction(new ItineraryAttraction(cheapAttraction,
+                new ItineraryTime("1200"), new ItineraryTime("1300")));
+        day.addItineraryAttraction(new ItineraryAttraction(expensiveAttraction,
+                new ItineraryTime("1400"), new ItineraryTime("1500")));
+        assertEquals(cheapAttraction.getPriceRange().getCostEstimate()
+                + expensiveAttraction.getPriceRange().getCostEstimate(), day.getEstimatedCost());
+
+        day.deleteItineraryAttraction(Index.fromOneBased(2));
+        assertEquals(expensiveAttraction.getPriceRange().getCostEstimate(), day.getEstimatedCost());
+    }
 }
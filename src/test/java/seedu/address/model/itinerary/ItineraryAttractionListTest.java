@@ -0,0 +1,93 @@
+package seedu.address.model.itinerary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAttractions.BOTANIC_GARDENS;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+import static seedu.address.testutil.TypicalItineraries.PARIS_TRIP;
+import static seedu.address.testutil.TypicalItineraries.SG_ZOOS_TOUR;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.testutil.ItineraryBuilder;
+
+public class ItineraryAttractionListTest {
+
+    @Test
+    public void setItineraryAttractionList_itinerary_daysFollowedByItineraryAttractions() {
+        List<ItineraryAttraction> entries = new ItineraryAttractionList(SG_ZOOS_TOUR).getItineraryAttractionList();
+        assertEquals(5, entries.size());
+        assertEquals(1, ((ItineraryAttractionDayCounter) entries.get(0)).getDay());
+        assertEquals(2, entries.get(2).getIndex());
+        assertEquals(2, ((ItineraryAttractionDayCounter) entries.get(3)).getDay());
+        assertEquals(1, entries.get(4).getIndex());
+    }
+
+    @Test
+    public void setItineraryAttractionList_sameItinerary_listNotChanged() {
+        ItineraryAttractionList itineraryAttractionList = new ItineraryAttractionList(SG_ZOOS_TOUR);
+        List<ListChangeListener.Change<? extends ItineraryAttraction>> changes = recordChanges(itineraryAttractionList);
+        itineraryAttractionList.setItineraryAttractionList(SG_ZOOS_TOUR);
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void setItineraryAttractionList_sameItineraryModified_modifiedDaysShown() {
+        Itinerary itinerary = new ItineraryBuilder(SG_ZOOS_TOUR).build();
+        ItineraryAttractionList itineraryAttractionList = new ItineraryAttractionList(itinerary);
+
+        itinerary.addItineraryAttraction(new ItineraryAttraction(BOTANIC_GARDENS,
+                new ItineraryTime("1800"), new ItineraryTime("1830")), INDEX_FIRST);
+        itineraryAttractionList.setItineraryAttractionList(itinerary);
+        assertEquals(new ItineraryAttractionList(itinerary).getItineraryAttractionList(),
+                itineraryAttractionList.getItineraryAttractionList());
+    }
+
+    @Test
+    public void refreshDay_itineraryAttractionAdded_onlyThatDayChanged() {
+        Itinerary itinerary = new ItineraryBuilder(SG_ZOOS_TOUR).build();
+        ItineraryAttractionList itineraryAttractionList = new ItineraryAttractionList(itinerary);
+        List<ListChangeListener.Change<? extends ItineraryAttraction>> changes = recordChanges(itineraryAttractionList);
+
+        itinerary.addItineraryAttraction(new ItineraryAttraction(BOTANIC_GARDENS,
+                new ItineraryTime("1800"), new ItineraryTime("1830")), INDEX_FIRST);
+        itineraryAttractionList.refreshDay(itinerary, INDEX_FIRST);
+
+        // the entries of day 2 and the entries of day 1 before the new one are left as they are
+        for (ListChangeListener.Change<? extends ItineraryAttraction> change : changes) {
+            while (change.next()) {
+                assertTrue(change.getFrom() >= 2 && change.getTo() <= 4);
+            }
+        }
+        assertEquals(new ItineraryAttractionList(itinerary).getItineraryAttractionList(),
+                itineraryAttractionList.getItineraryAttractionList());
+    }
+
+    @Test
+    public void refreshDay_differentItinerary_itineraryShown() {
+        ItineraryAttractionList itineraryAttractionList = new ItineraryAttractionList(SG_ZOOS_TOUR);
+        itineraryAttractionList.refreshDay(PARIS_TRIP, INDEX_FIRST);
+        assertEquals(new ItineraryAttractionList(PARIS_TRIP).getItineraryAttractionList(),
+                itineraryAttractionList.getItineraryAttractionList());
+    }
+
+    @Test
+    public void getItineraryAttractionList_modifyList_throwsUnsupportedOperationException() {
+        ItineraryAttractionList itineraryAttractionList = new ItineraryAttractionList(SG_ZOOS_TOUR);
+        assertThrows(UnsupportedOperationException.class, () ->
+                itineraryAttractionList.getItineraryAttractionList().remove(0));
+    }
+
+    private static List<ListChangeListener.Change<? extends ItineraryAttraction>> recordChanges(
+            ItineraryAttractionList itineraryAttractionList) {
+        List<ListChangeListener.Change<? extends ItineraryAttraction>> changes = new ArrayList<>();
+        ListChangeListener<ItineraryAttraction> listener = changes::add;
+        itineraryAttractionList.getItineraryAttractionList().addListener(listener);
+        return changes;
+    }
+}
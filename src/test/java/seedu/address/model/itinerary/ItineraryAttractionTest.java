@@ -0,0 +1,57 @@
+package seedu.address.model.itinerary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAttractions.BOTANIC_GARDENS;
+import static seedu.address.testutil.TypicalAttractions.JURONG_LAKE;
+
+import org.junit.jupiter.api.Test;
+
+class ItineraryAttractionTest {
+
+    private final ItineraryAttraction morningVisit = new ItineraryAttraction(BOTANIC_GARDENS,
+            new ItineraryTime("0900"), new ItineraryTime("1100"));
+    private final ItineraryAttraction afternoonVisit = new ItineraryAttraction(BOTANIC_GARDENS,
+            new ItineraryTime("1300"), new ItineraryTime("1500"));
+
+    @Test
+    void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new ItineraryAttraction(null, new ItineraryTime("0900"), new ItineraryTime("1100")));
+    }
+
+    @Test
+    void getAttraction_returnsAttractionVisited() {
+        assertSame(BOTANIC_GARDENS, morningVisit.getAttraction());
+        assertSame(morningVisit.getAttraction(), afternoonVisit.getAttraction());
+    }
+
+    @Test
+    void isTimingClash() {
+        assertFalse(morningVisit.isTimingClash(afternoonVisit));
+        assertTrue(morningVisit.isTimingClash(new ItineraryAttraction(JURONG_LAKE,
+                new ItineraryTime("1000"), new ItineraryTime("1200"))));
+    }
+
+    @Test
+    void testEquals() {
+        ItineraryAttraction morningVisitCopy = new ItineraryAttraction(BOTANIC_GARDENS,
+                new ItineraryTime("0900"), new ItineraryTime("1100"));
+        assertEquals(morningVisit, morningVisitCopy);
+        assertEquals(morningVisit.hashCode(), morningVisitCopy.hashCode());
+
+        // different timing -> returns false
+        assertNotEquals(morningVisit, afternoonVisit);
+
+        // different attraction -> returns false
+        assertNotEquals(morningVisit, new ItineraryAttraction(JURONG_LAKE,
+                new ItineraryTime("0900"), new ItineraryTime("1100")));
+
+        // attraction instead of itinerary attraction -> returns false
+        assertNotEquals(morningVisit, BOTANIC_GARDENS);
+    }
+}
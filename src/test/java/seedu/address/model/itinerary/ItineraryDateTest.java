@@ -87,4 +87,14 @@ class ItineraryDateTest {
         assertEquals(ItineraryDate.daysBetween(firstDate, secondDate), 8);
     }
 
+    @Test
+    public void toString_validInput_sameAsInput() {
+        assertEquals("01-03-2024", new ItineraryDate("01-03-2024").toString());
+    }
+
+    @Test
+    public void daysBetweenItineraryDates_acrossYears_correctResult() {
+        assertEquals(ItineraryDate.daysBetween(new ItineraryDate("30-12-2023"), new ItineraryDate("02-01-2024")), 4);
+    }
+
 }
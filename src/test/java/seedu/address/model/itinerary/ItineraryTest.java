@@ -1,5 +1,6 @@
 package seedu.address.model.itinerary;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_BUDGET_JAPAN_TRIP;
@@ -11,11 +12,18 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_JAPAN_TRIP
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_PARIS_TRIP;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_START_DATE_JAPAN_TRIP;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
 import static seedu.address.testutil.TypicalItineraries.JAPAN_TRIP;
 import static seedu.address.testutil.TypicalItineraries.PARIS_TRIP;
 
+import java.util.HashSet;
+import java.util.OptionalLong;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.attraction.Attraction;
+import seedu.address.testutil.AttractionBuilder;
 import seedu.address.testutil.ItineraryBuilder;
 
 class ItineraryTest {
@@ -84,4 +92,55 @@ class ItineraryTest {
         editedJapan = new ItineraryBuilder(JAPAN_TRIP).withBudget(VALID_BUDGET_PARIS_TRIP).build();
         assertFalse(JAPAN_TRIP.equals(editedJapan));
     }
+
+    @Test
+    public void getRemainingBudget() {
+        Attraction attraction = new AttractionBuilder().withPriceRange("HIGH").build();
+        ItineraryAttraction itineraryAttraction = new ItineraryAttraction(attraction,
+                new ItineraryTime("1000"), new ItineraryTime("1200"));
+        long costEstimate = attraction.getPriceRange().getCostEstimate();
+
+        // no budget -> returns empty
+        assertEquals(OptionalLong.empty(), new ItineraryBuilder().withBudget().build().getRemainingBudget());
+
+        // budget less cost estimates of itinerary attractions
+        Itinerary itinerary = new ItineraryBuilder().withBudget("500")
+                .withItineraryAttraction(itineraryAttraction, INDEX_FIRST).build();
+        assertEquals(costEstimate, itinerary.getEstimatedCost());
+        assertEquals(OptionalLong.of(500_00 - costEstimate), itinerary.getRemainingBudget());
+    }
+
+    @Test
+    public void hashCode_itineraryAttractionAdded_stillFoundInHashSet() {
+        Itinerary itinerary = new ItineraryBuilder(PARIS_TRIP).build();
+        Set<Itinerary> itineraries = new HashSet<>(Set.of(itinerary));
+        itinerary.addItineraryAttraction(new ItineraryAttraction(new AttractionBuilder().build(),
+                new ItineraryTime("0600"), new ItineraryTime("0700")), INDEX_FIRST);
+        assertTrue(itineraries.contains(itinerary));
+        assertFalse(itineraries.contains(new ItineraryBuilder(PARIS_TRIP).build()));
+    }
+
+    @Test
+    public void getLocations_itineraryAttractionsModified_distinctLocationsInOrder() {
+        Itinerary itinerary = new ItineraryBuilder().build();
+        assertEquals("", itinerary.getLocations());
+
+        itinerary.addItineraryAttraction(new ItineraryAttraction(new AttractionBuilder().withLocation("Paris").build(),
+                new ItineraryTime("1300"), new ItineraryTime("1400")), INDEX_FIRST);
+        itinerary.addItineraryAttraction(new ItineraryAttraction(new AttractionBuilder().withLocation("Lyon").build(),
+                new ItineraryTime("0900"), new ItineraryTime("1000")), INDEX_FIRST);
+        itinerary.addItineraryAttraction(new ItineraryAttraction(new AttractionBuilder().withName("Louvre")
+                .withLocation("Paris").build(), new ItineraryTime("1500"), new ItineraryTime("1600")), INDEX_FIRST);
+        assertEquals("Lyon -> Paris", itinerary.getLocations());
+        assertEquals(3, itinerary.getNumberOfItineraryAttractions());
+        Itinerary copy = itinerary.copy();
+
+        itinerary.deleteItineraryAttraction(INDEX_FIRST, INDEX_FIRST);
+        assertEquals("Paris", itinerary.getLocations());
+        assertEquals(2, itinerary.getNumberOfItineraryAttractions());
+
+        // the summary of a copy is not affected by changes to the days of the original
+        assertEquals("Lyon -> Paris", copy.getLocations());
+        assertEquals(3, copy.getNumberOfItineraryAttractions());
+    }
 }
@@ -6,15 +6,21 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_BUDGET_JAPAN_TRIP;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_DESCRIPTION_JAPAN_TRIP;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAttractions.BOTANIC_GARDENS;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
 import static seedu.address.testutil.TypicalItineraries.JAPAN_TRIP;
 import static seedu.address.testutil.TypicalItineraries.PARIS_TRIP;
+import static seedu.address.testutil.TypicalItineraries.SG_ZOOS_TOUR;
+import static seedu.address.testutil.TypicalItineraries.getTypicalItineraries;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
 import seedu.address.model.itinerary.exceptions.DuplicateItineraryException;
 import seedu.address.model.itinerary.exceptions.ItineraryNotFoundException;
 import seedu.address.testutil.ItineraryBuilder;
@@ -127,6 +133,27 @@ public class UniqueItineraryListTest {
         assertEquals(expectedUniquePersonList, uniqueItineraryList);
     }
 
+    @Test
+    public void remove_itineraryBeforeOthers_othersStillFound() {
+        uniqueItineraryList.add(PARIS_TRIP);
+        uniqueItineraryList.add(JAPAN_TRIP);
+        uniqueItineraryList.add(SG_ZOOS_TOUR);
+        uniqueItineraryList.remove(PARIS_TRIP);
+
+        assertFalse(uniqueItineraryList.contains(PARIS_TRIP));
+        uniqueItineraryList.setItinerary(SG_ZOOS_TOUR, PARIS_TRIP);
+        uniqueItineraryList.remove(JAPAN_TRIP);
+        assertEquals(Collections.singletonList(PARIS_TRIP), uniqueItineraryList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setItinerary_editedItineraryHasDifferentIdentity_onlyNewIdentityFound() {
+        uniqueItineraryList.add(PARIS_TRIP);
+        uniqueItineraryList.setItinerary(PARIS_TRIP, JAPAN_TRIP);
+        assertFalse(uniqueItineraryList.contains(PARIS_TRIP));
+        assertTrue(uniqueItineraryList.contains(JAPAN_TRIP));
+    }
+
     @Test
     public void setItineraries_nullUniqueItineraryList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueItineraryList.setItineraries((UniqueItineraryList) null));
@@ -168,4 +195,36 @@ public class UniqueItineraryListTest {
         assertThrows(UnsupportedOperationException.class, ()
             -> uniqueItineraryList.asUnmodifiableObservableList().remove(0));
     }
+
+    @Test
+    public void getKeywordMatcher_sameMatchesAsPredicate() {
+        uniqueItineraryList.setItineraries(getTypicalItineraries());
+        uniqueItineraryList.add(JAPAN_TRIP);
+        List<List<String>> keywordLists = List.of(List.of("paris"), List.of("WILDLIFE", "1800"), List.of("animals"),
+                List.of("06-07-2019"), List.of("$50"), List.of("louvre"), List.of("unknown"));
+        for (List<String> keywords : keywordLists) {
+            Predicate<Itinerary> matcher = uniqueItineraryList.getKeywordMatcher(keywords);
+            ItineraryContainsKeywordsPredicate predicate = new ItineraryContainsKeywordsPredicate(keywords);
+            for (Itinerary itinerary : uniqueItineraryList) {
+                assertEquals(predicate.test(itinerary), matcher.test(itinerary), keywords + " " + itinerary);
+            }
+        }
+    }
+
+    @Test
+    public void getKeywordMatcher_itineraryModifiedInPlace_matchesUpdated() {
+        Itinerary itinerary = new ItineraryBuilder(PARIS_TRIP).build();
+        uniqueItineraryList.add(itinerary);
+        Predicate<Itinerary> matcher = uniqueItineraryList.getKeywordMatcher(List.of("gardens"));
+        assertFalse(matcher.test(itinerary));
+
+        itinerary.addItineraryAttraction(new ItineraryAttraction(BOTANIC_GARDENS,
+                new ItineraryTime("1600"), new ItineraryTime("1700")), INDEX_FIRST);
+        uniqueItineraryList.indicateModified(itinerary);
+        assertTrue(matcher.test(itinerary));
+
+        itinerary.deleteItineraryAttraction(Index.fromOneBased(2), INDEX_FIRST);
+        uniqueItineraryList.indicateModified(itinerary);
+        assertFalse(matcher.test(itinerary));
+    }
 }
@@ -0,0 +1,145 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalAttractions.getTypicalAttractionList;
+import static seedu.address.testutil.TypicalItineraries.getTypicalItineraryList;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AttractionList;
+import seedu.address.model.ItineraryList;
+import seedu.address.model.ReadOnlyAttractionList;
+import seedu.address.model.attraction.Attraction;
+
+public class AsyncStorageManagerTest {
+
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+
+    @TempDir
+    public Path testFolder;
+
+    private AsyncStorageManager createStorageManager(JsonAttractionListStorage attractionListStorage) {
+        JsonItineraryListStorage itineraryListStorage = new JsonItineraryListStorage(testFolder.resolve("il"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(testFolder.resolve("prefs"));
+        return new AsyncStorageManager(attractionListStorage, itineraryListStorage, userPrefsStorage);
+    }
+
+    @Test
+    public void saveAttractionList_thenFlush_writesLatestData() throws Exception {
+        AsyncStorageManager storageManager = createStorageManager(
+                new JsonAttractionListStorage(testFolder.resolve("al")));
+        AttractionList attractionList = getTypicalAttractionList();
+        storageManager.saveAttractionList(attractionList);
+        attractionList.removeAttraction(attractionList.getAttractionList().get(0));
+        storageManager.saveAttractionList(attractionList);
+
+        storageManager.flush();
+        assertEquals(attractionList, new AttractionList(storageManager.readAttractionList().get()));
+    }
+
+    @Test
+    public void saveItineraryList_modifiedAfterSave_writesDataAtTimeOfSave() throws Exception {
+        AsyncStorageManager storageManager = createStorageManager(
+                new JsonAttractionListStorage(testFolder.resolve("al")));
+        ItineraryList itineraryList = getTypicalItineraryList();
+        ItineraryList expected = getTypicalItineraryList();
+        storageManager.saveItineraryList(itineraryList);
+        itineraryList.removeItinerary(itineraryList.getItineraryList().get(0));
+
+        storageManager.flush();
+        assertEquals(expected, new ItineraryList(storageManager.readItineraryList().get()));
+    }
+
+    @Test
+    public void saveAttractionList_unchangedSinceLastSave_skipsWrite() throws Exception {
+        AsyncStorageManager storageManager = createStorageManager(
+                new JsonAttractionListStorage(testFolder.resolve("al")));
+        AttractionList attractionList = getTypicalAttractionList();
+        storageManager.saveAttractionList(attractionList);
+        storageManager.flush();
+        Files.delete(storageManager.getAttractionListFilePath());
+
+        storageManager.saveAttractionList(attractionList);
+        storageManager.flush();
+        assertFalse(Files.exists(storageManager.getAttractionListFilePath()));
+    }
+
+    @Test
+    public void saveAttractionList_storageThrowsIoException_reportsToSaveErrorHandler() {
+        AsyncStorageManager storageManager = createStorageManager(
+                new JsonAttractionListIoExceptionThrowingStub(testFolder.resolve("al")));
+        List<IOException> errors = new ArrayList<>();
+        storageManager.setSaveErrorHandler(errors::add);
+
+        storageManager.saveAttractionList(getTypicalAttractionList());
+        storageManager.flush();
+        assertTrue(errors.contains(DUMMY_IO_EXCEPTION));
+    }
+
+    @Test
+    public void saveBothLists_attractionListWriteFails_itineraryAttractionsKept() throws Exception {
+        FailingJsonAttractionListStorage attractionListStorage =
+                new FailingJsonAttractionListStorage(testFolder.resolve("al"));
+        AsyncStorageManager storageManager = createStorageManager(attractionListStorage);
+        AttractionList attractionList = getTypicalAttractionList();
+        ItineraryList itineraryList = getTypicalItineraryList();
+        storageManager.saveAttractionList(attractionList);
+        storageManager.saveItineraryList(itineraryList);
+        storageManager.flush();
+
+        // the attraction of a visit is deleted, but the application stops before the attraction list is written
+        Attraction visitedAttraction = itineraryList.getItineraryList().get(0).getItineraryAttractions().get(0)
+                .getAttraction();
+        attractionList.removeAttraction(visitedAttraction);
+        attractionListStorage.isFailing = true;
+        storageManager.saveAttractionList(attractionList);
+        storageManager.saveItineraryList(itineraryList);
+        storageManager.flush();
+
+        StorageManager restarted = createStorageManager(new JsonAttractionListStorage(testFolder.resolve("al")));
+        restarted.readAttractionList();
+        assertEquals(itineraryList, new ItineraryList(restarted.readItineraryList().get()));
+    }
+
+    /**
+     * A stub class to throw an {@code IOException} when the save method is called.
+     */
+    private static class JsonAttractionListIoExceptionThrowingStub extends JsonAttractionListStorage {
+        private JsonAttractionListIoExceptionThrowingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAttractionList(ReadOnlyAttractionList attractionList, Path filePath) throws IOException {
+            throw DUMMY_IO_EXCEPTION;
+        }
+    }
+
+    /**
+     * A stub class to throw an {@code IOException} when the save method is called after {@code isFailing} is set.
+     */
+    private static class FailingJsonAttractionListStorage extends JsonAttractionListStorage {
+        private boolean isFailing;
+
+        private FailingJsonAttractionListStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAttractionList(ReadOnlyAttractionList attractionList, Path filePath) throws IOException {
+            if (isFailing) {
+                throw DUMMY_IO_EXCEPTION;
+            }
+            super.saveAttractionList(attractionList, filePath);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAttractions.JURONG_BIRD_PARK;
+import static seedu.address.testutil.TypicalAttractions.MBS;
+import static seedu.address.testutil.TypicalAttractions.getTypicalAttractionList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AttractionList;
+import seedu.address.model.ReadOnlyAttractionList;
+
+public class BinaryAttractionListStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAttractionList_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAttractionListStorage(testFolder.resolve("al.bin")).readAttractionList(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAttractionListStorage(testFolder.resolve("NonExistentFile.bin"))
+                .readAttractionList().isPresent());
+    }
+
+    @Test
+    public void read_notBinaryFormat_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("notBinaryFormat.bin");
+        Files.writeString(filePath, "{ \"attractions\": [] }");
+        assertThrows(DataConversionException.class, () ->
+                new BinaryAttractionListStorage(filePath).readAttractionList());
+    }
+
+    @Test
+    public void read_corruptedFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("corrupted.bin");
+        BinaryAttractionListStorage storage = new BinaryAttractionListStorage(filePath);
+        storage.saveAttractionList(getTypicalAttractionList());
+
+        byte[] content = Files.readAllBytes(filePath);
+        content[content.length - 1] ^= 1;
+        Files.write(filePath, content);
+        assertThrows(DataConversionException.class, storage::readAttractionList);
+    }
+
+    @Test
+    public void readAndSaveAttractionList_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAttractionList.bin");
+        AttractionList original = getTypicalAttractionList();
+        BinaryAttractionListStorage binaryAttractionListStorage = new BinaryAttractionListStorage(filePath);
+
+        // Save in new file and read back
+        binaryAttractionListStorage.saveAttractionList(original);
+        ReadOnlyAttractionList readBack = binaryAttractionListStorage.readAttractionList().get();
+        assertEquals(original, new AttractionList(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addAttraction(MBS);
+        original.removeAttraction(JURONG_BIRD_PARK);
+        binaryAttractionListStorage.saveAttractionList(original);
+        readBack = binaryAttractionListStorage.readAttractionList().get();
+        assertEquals(original, new AttractionList(readBack));
+    }
+
+    @Test
+    public void saveAttractionList_nullAttractionList_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAttractionListStorage(testFolder.resolve("al.bin")).saveAttractionList(null));
+    }
+}
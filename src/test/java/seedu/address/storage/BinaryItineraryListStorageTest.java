@@ -0,0 +1,67 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalItineraries.JAPAN_TRIP;
+import static seedu.address.testutil.TypicalItineraries.PARIS_TRIP;
+import static seedu.address.testutil.TypicalItineraries.getTypicalItineraryList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ItineraryList;
+import seedu.address.model.ReadOnlyItineraryList;
+
+public class BinaryItineraryListStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryItineraryListStorage(testFolder.resolve("NonExistentFile.bin"))
+                .readItineraryList().isPresent());
+    }
+
+    @Test
+    public void read_corruptedFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("corrupted.bin");
+        BinaryItineraryListStorage storage = new BinaryItineraryListStorage(filePath);
+        storage.saveItineraryList(getTypicalItineraryList());
+
+        byte[] content = Files.readAllBytes(filePath);
+        content[content.length / 2] ^= 1;
+        Files.write(filePath, content);
+        assertThrows(DataConversionException.class, storage::readItineraryList);
+    }
+
+    @Test
+    public void readAndSaveItineraryList_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempItineraryList.bin");
+        ItineraryList original = getTypicalItineraryList();
+        BinaryItineraryListStorage binaryItineraryListStorage = new BinaryItineraryListStorage(filePath);
+
+        // Save in new file and read back
+        binaryItineraryListStorage.saveItineraryList(original);
+        ReadOnlyItineraryList readBack = binaryItineraryListStorage.readItineraryList().get();
+        assertEquals(original, new ItineraryList(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addItinerary(JAPAN_TRIP);
+        original.removeItinerary(PARIS_TRIP);
+        binaryItineraryListStorage.saveItineraryList(original);
+        readBack = binaryItineraryListStorage.readItineraryList().get();
+        assertEquals(original, new ItineraryList(readBack));
+    }
+
+    @Test
+    public void saveItineraryList_nullItineraryList_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryItineraryListStorage(testFolder.resolve("il.bin")).saveItineraryList(null));
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalAttractions.getTypicalAttractionList;
+import static seedu.address.testutil.TypicalItineraries.getTypicalItineraryList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.DataFormat;
+import seedu.address.model.AttractionList;
+import seedu.address.model.ItineraryList;
+import seedu.address.model.UserPrefs;
+
+public class DataFormatConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void convertDataFiles_jsonFilesToBinary_filesConverted() throws Exception {
+        AttractionList attractionList = getTypicalAttractionList();
+        ItineraryList itineraryList = getTypicalItineraryList();
+        Path jsonAttractionListFilePath = testFolder.resolve("attractionlist.json");
+        Path jsonItineraryListFilePath = testFolder.resolve("itinerarylist.json");
+        new JsonAttractionListStorage(jsonAttractionListFilePath).saveAttractionList(attractionList);
+        new JsonItineraryListStorage(jsonItineraryListFilePath).saveItineraryList(itineraryList);
+
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setDataFormat(DataFormat.BINARY);
+        userPrefs.setAttractionListFilePath(testFolder.resolve("attractionlist.bin"));
+        userPrefs.setItineraryListFilePath(testFolder.resolve("itinerarylist.bin"));
+        DataFormatConverter.convertDataFiles(userPrefs);
+
+        assertFalse(Files.exists(jsonAttractionListFilePath));
+        assertFalse(Files.exists(jsonItineraryListFilePath));
+        assertEquals(attractionList, new AttractionList(
+                new BinaryAttractionListStorage(userPrefs.getAttractionListFilePath()).readAttractionList().get()));
+        assertEquals(itineraryList, new ItineraryList(new BinaryItineraryListStorage(
+                userPrefs.getItineraryListFilePath()).readItineraryList(userPrefs.getItineraryListFilePath(),
+                new AttractionReferences(attractionList)).get()));
+    }
+
+    @Test
+    public void convertDataFiles_targetFileExists_fileNotConverted() throws Exception {
+        Path jsonAttractionListFilePath = testFolder.resolve("attractionlist.json");
+        Path binaryAttractionListFilePath = testFolder.resolve("attractionlist.bin");
+        new JsonAttractionListStorage(jsonAttractionListFilePath).saveAttractionList(getTypicalAttractionList());
+        new BinaryAttractionListStorage(binaryAttractionListFilePath).saveAttractionList(new AttractionList());
+
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setDataFormat(DataFormat.BINARY);
+        userPrefs.setAttractionListFilePath(binaryAttractionListFilePath);
+        userPrefs.setItineraryListFilePath(testFolder.resolve("itinerarylist.bin"));
+        DataFormatConverter.convertDataFiles(userPrefs);
+
+        assertEquals(new AttractionList(), new AttractionList(
+                new BinaryAttractionListStorage(binaryAttractionListFilePath).readAttractionList().get()));
+        assertFalse(Files.exists(userPrefs.getItineraryListFilePath()));
+    }
+}
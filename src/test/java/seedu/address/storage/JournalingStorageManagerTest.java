@@ -0,0 +1,125 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalAttractions.BOTANIC_GARDENS;
+import static seedu.address.testutil.TypicalAttractions.getTypicalAttractionList;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AttractionList;
+import seedu.address.model.ItineraryList;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.itinerary.Itinerary;
+import seedu.address.testutil.ItineraryAttractionBuilder;
+import seedu.address.testutil.ItineraryBuilder;
+
+public class JournalingStorageManagerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private JournalingStorageManager createStorageManager(int compactionThreshold) {
+        return new JournalingStorageManager(new JsonAttractionListStorage(testFolder.resolve("al")),
+                new JsonItineraryListStorage(testFolder.resolve("il")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")),
+                new JsonJournalStorage(testFolder.resolve("journal")), compactionThreshold);
+    }
+
+    private ModelManager createJournaledModel(JournalingStorageManager storageManager) {
+        ModelManager model = new ModelManager(getTypicalAttractionList(), new ItineraryList(), new UserPrefs());
+        storageManager.startJournaling(model.getAttractionList(), model.getItineraryList());
+        model.addChangeListener(storageManager);
+        return model;
+    }
+
+    /**
+     * Makes a modification of each kind that is recorded in the journal to {@code model}.
+     */
+    private void modify(ModelManager model) {
+        model.deleteAttraction(model.getAttractionList().getAttractionList().get(0));
+        model.markVisitedAttraction(model.getAttractionList().getAttractionList().get(0));
+        Itinerary itinerary = new ItineraryBuilder().build();
+        model.addItinerary(itinerary);
+        model.setCurrentItinerary(itinerary);
+        model.addItineraryAttraction(new ItineraryAttractionBuilder().withAttraction(BOTANIC_GARDENS).build(),
+                INDEX_FIRST);
+    }
+
+    /**
+     * Asserts that reading the lists from the files of {@code storageManager} and replaying its journal onto them
+     * {@code replayCount} times restores the lists of {@code model}.
+     */
+    private void assertRestoresModel(JournalingStorageManager storageManager, ModelManager model, int replayCount)
+            throws Exception {
+        AttractionList attractionList = new AttractionList(storageManager.readAttractionList().get());
+        ItineraryList itineraryList = new ItineraryList(storageManager.readItineraryList().get());
+        for (int i = 0; i < replayCount; i++) {
+            storageManager.replayJournal(attractionList, itineraryList);
+        }
+
+        assertEquals(model.getAttractionList(), attractionList);
+        assertEquals(model.getItineraryList().getItineraryList(), itineraryList.getItineraryList());
+    }
+
+    @Test
+    public void modifications_belowCompactionThreshold_recordedInJournalOnly() throws Exception {
+        JournalingStorageManager storageManager = createStorageManager(100);
+        ModelManager model = createJournaledModel(storageManager);
+        storageManager.flush();
+
+        modify(model);
+        storageManager.saveAttractionList(model.getAttractionList());
+        storageManager.saveItineraryList(model.getItineraryList());
+        storageManager.flush();
+
+        assertEquals(getTypicalAttractionList(), new AttractionList(storageManager.readAttractionList().get()));
+        assertRestoresModel(storageManager, model, 1);
+    }
+
+    @Test
+    public void replayJournal_replayedTwice_restoresData() throws Exception {
+        JournalingStorageManager storageManager = createStorageManager(100);
+        ModelManager model = createJournaledModel(storageManager);
+
+        modify(model);
+        storageManager.flush();
+
+        assertRestoresModel(storageManager, model, 2);
+    }
+
+    @Test
+    public void saveAttractionList_compactionThresholdReached_writesListsAndClearsJournal() throws Exception {
+        JournalingStorageManager storageManager = createStorageManager(1);
+        ModelManager model = createJournaledModel(storageManager);
+
+        modify(model);
+        storageManager.saveAttractionList(model.getAttractionList());
+        storageManager.flush();
+
+        assertFalse(FileUtil.isFileExists(testFolder.resolve("journal")));
+        assertRestoresModel(storageManager, model, 0);
+    }
+
+    @Test
+    public void replayJournal_incompleteLastEntry_ignored() throws Exception {
+        JournalingStorageManager storageManager = createStorageManager(100);
+        ModelManager model = createJournaledModel(storageManager);
+
+        modify(model);
+        storageManager.flush();
+        Files.writeString(testFolder.resolve("journal"), "{\"type\":\"DELETE_ATTR", StandardOpenOption.APPEND);
+
+        assertRestoresModel(storageManager, model, 1);
+        assertTrue(Files.size(testFolder.resolve("journal")) > 0);
+    }
+}
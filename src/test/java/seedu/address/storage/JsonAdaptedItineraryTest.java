@@ -25,7 +25,7 @@ public class JsonAdaptedItineraryTest {
     private static final String VALID_DESCRIPTION = PARIS_TRIP.getDescription().toString();
     private static final String VALID_START_DATE = PARIS_TRIP.getStartDate().toString();
     private static final String VALID_END_DATE = PARIS_TRIP.getEndDate().toString();
-    private static final String VALID_BUDGET = PARIS_TRIP.getBudget().value;
+    private static final String VALID_BUDGET = PARIS_TRIP.getBudget().getValue();
     private static final List<JsonAdaptedDay> VALID_DAYS = PARIS_TRIP.getDays().stream()
             .map(JsonAdaptedDay::new)
             .collect(Collectors.toList());
@@ -0,0 +1,65 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAttractions.JURONG_BIRD_PARK;
+import static seedu.address.testutil.TypicalAttractions.MBS;
+import static seedu.address.testutil.TypicalAttractions.getTypicalAttractionList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AttractionList;
+
+public class MappedAttractionListStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new MappedAttractionListStorage(testFolder.resolve("NonExistentFile.bin"))
+                .readAttractionList().isPresent());
+    }
+
+    @Test
+    public void read_corruptedFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("corrupted.bin");
+        MappedAttractionListStorage storage = new MappedAttractionListStorage(filePath);
+        storage.saveAttractionList(getTypicalAttractionList());
+
+        byte[] content = Files.readAllBytes(filePath);
+        content[content.length / 2] ^= 1;
+        Files.write(filePath, content);
+        assertThrows(DataConversionException.class, storage::readAttractionList);
+    }
+
+    @Test
+    public void readAttractionList_modifiedAndSaved_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAttractionList.bin");
+        AttractionList original = getTypicalAttractionList();
+        MappedAttractionListStorage mappedAttractionListStorage = new MappedAttractionListStorage(filePath);
+        mappedAttractionListStorage.saveAttractionList(original);
+
+        // Read lazily and compare
+        AttractionList readBack = (AttractionList) mappedAttractionListStorage.readAttractionList().get();
+        assertEquals(original, readBack);
+
+        // Modify the lazily read list, overwrite the mapped file, and read back
+        readBack.addAttraction(MBS);
+        readBack.removeAttraction(JURONG_BIRD_PARK);
+        original.addAttraction(MBS);
+        original.removeAttraction(JURONG_BIRD_PARK);
+        mappedAttractionListStorage.saveAttractionList(readBack);
+        assertEquals(original, mappedAttractionListStorage.readAttractionList().get());
+
+        // Files written by the binary storage are read lazily too
+        new BinaryAttractionListStorage(filePath).saveAttractionList(getTypicalAttractionList());
+        assertEquals(getTypicalAttractionList(), mappedAttractionListStorage.readAttractionList().get());
+    }
+}
@@ -0,0 +1,189 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+import static seedu.address.testutil.TypicalItineraries.JAPAN_TRIP;
+import static seedu.address.testutil.TypicalItineraries.PARIS_TRIP;
+import static seedu.address.testutil.TypicalItineraries.getTypicalItineraryList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ItineraryList;
+import seedu.address.model.ReadOnlyItineraryList;
+import seedu.address.model.itinerary.Itinerary;
+import seedu.address.testutil.ItineraryAttractionBuilder;
+import seedu.address.testutil.ItineraryBuilder;
+
+public class ShardedItineraryListStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new ShardedItineraryListStorage(testFolder.resolve("NonExistentFile.json"))
+                .readItineraryList().isPresent());
+    }
+
+    @Test
+    public void readAndSaveItineraryList_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempItineraryList.json");
+        ItineraryList original = getTypicalItineraryList();
+        ShardedItineraryListStorage storage = new ShardedItineraryListStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveItineraryList(original);
+        ReadOnlyItineraryList readBack = storage.readItineraryList().get();
+        assertEquals(original, new ItineraryList(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addItinerary(JAPAN_TRIP);
+        original.removeItinerary(PARIS_TRIP);
+        storage.saveItineraryList(original);
+        readBack = storage.readItineraryList().get();
+        assertEquals(original, new ItineraryList(readBack));
+    }
+
+    @Test
+    public void readItineraryList_daysInShardFiles_loadedWhenFirstNeeded() throws Exception {
+        Path filePath = testFolder.resolve("il.json");
+        new ShardedItineraryListStorage(filePath).saveItineraryList(getTypicalItineraryList());
+        assertFalse(Files.readString(filePath).contains("\"days\""));
+
+        Itinerary parisTrip = new ShardedItineraryListStorage(filePath).readItineraryList().get()
+                .getItineraryList().get(1);
+        assertFalse(parisTrip.isDaysLoaded());
+        assertEquals(PARIS_TRIP.getLocations(), parisTrip.getLocations());
+        assertFalse(parisTrip.isDaysLoaded());
+
+        assertEquals(PARIS_TRIP.getItineraryAttractions(), parisTrip.getItineraryAttractions());
+        assertTrue(parisTrip.isDaysLoaded());
+    }
+
+    @Test
+    public void saveItineraryList_daysNotLoaded_shardFileNotWritten() throws Exception {
+        Path filePath = testFolder.resolve("il.json");
+        ShardedItineraryListStorage storage = new ShardedItineraryListStorage(filePath);
+        storage.saveItineraryList(getTypicalItineraryList());
+        Path parisTripShardFile = ShardedItineraryListStorage.getShardFile(
+                ShardedItineraryListStorage.getShardDirectory(filePath), PARIS_TRIP);
+        assertTrue(Files.exists(parisTripShardFile));
+
+        ReadOnlyItineraryList readBack = storage.readItineraryList().get();
+        Files.delete(parisTripShardFile);
+        storage.saveItineraryList(readBack);
+        assertFalse(Files.exists(parisTripShardFile));
+    }
+
+    @Test
+    public void saveItineraryList_itineraryRemoved_shardFileDeleted() throws Exception {
+        Path filePath = testFolder.resolve("il.json");
+        ShardedItineraryListStorage storage = new ShardedItineraryListStorage(filePath);
+        ItineraryList original = getTypicalItineraryList();
+        storage.saveItineraryList(original);
+        Path shardDirectory = ShardedItineraryListStorage.getShardDirectory(filePath);
+        assertEquals(2, Files.list(shardDirectory).count());
+
+        original.removeItinerary(PARIS_TRIP);
+        storage.saveItineraryList(original);
+        assertEquals(1, Files.list(shardDirectory).count());
+    }
+
+    @Test
+    public void saveItineraryList_namesDifferOnlyInCase_differentShardFiles() throws Exception {
+        Path filePath = testFolder.resolve("il.json");
+        ItineraryList original = new ItineraryList();
+        original.addItinerary(JAPAN_TRIP);
+        original.addItinerary(new ItineraryBuilder(JAPAN_TRIP).withName("japan trip").build());
+        new ShardedItineraryListStorage(filePath).saveItineraryList(original);
+
+        Path shardDirectory = ShardedItineraryListStorage.getShardDirectory(filePath);
+        Set<String> foldedShardFileNames = Files.list(shardDirectory)
+                .map(shardFile -> StringUtil.foldCase(shardFile.getFileName().toString()))
+                .collect(Collectors.toSet());
+        assertEquals(2, foldedShardFileNames.size());
+
+        ReadOnlyItineraryList readBack = new ShardedItineraryListStorage(filePath).readItineraryList().get();
+        assertEquals(original, new ItineraryList(readBack));
+    }
+
+    @Test
+    public void readItineraryList_daysInIndexFile_success() throws Exception {
+        Path filePath = testFolder.resolve("il.json");
+        ItineraryList original = getTypicalItineraryList();
+        new JsonItineraryListStorage(filePath).saveItineraryList(original);
+
+        ReadOnlyItineraryList readBack = new ShardedItineraryListStorage(filePath).readItineraryList().get();
+        assertEquals(original, new ItineraryList(readBack));
+    }
+
+    @Test
+    public void readItineraryList_unreadableShardFile_noItineraryAttractions() throws Exception {
+        Path filePath = testFolder.resolve("il.json");
+        new ShardedItineraryListStorage(filePath).saveItineraryList(getTypicalItineraryList());
+        Files.writeString(ShardedItineraryListStorage.getShardFile(
+                ShardedItineraryListStorage.getShardDirectory(filePath), PARIS_TRIP), "not json");
+
+        Itinerary parisTrip = new ShardedItineraryListStorage(filePath).readItineraryList().get()
+                .getItineraryList().get(1);
+        assertTrue(parisTrip.getItineraryAttractions().isEmpty());
+        assertEquals(PARIS_TRIP.getNumberOfDays(), parisTrip.getDays().size());
+    }
+
+    @Test
+    public void saveItineraryList_unreadableShardFile_shardFileKept() throws Exception {
+        Path filePath = testFolder.resolve("il.json");
+        ShardedItineraryListStorage storage = new ShardedItineraryListStorage(filePath);
+        storage.saveItineraryList(getTypicalItineraryList());
+        Path parisTripShardFile = ShardedItineraryListStorage.getShardFile(
+                ShardedItineraryListStorage.getShardDirectory(filePath), PARIS_TRIP);
+        Files.writeString(parisTripShardFile, "not json");
+
+        ReadOnlyItineraryList readBack = storage.readItineraryList().get();
+        Itinerary parisTrip = readBack.getItineraryList().get(1);
+        parisTrip.addItineraryAttraction(new ItineraryAttractionBuilder().build(), INDEX_FIRST);
+        storage.saveItineraryList(readBack);
+        assertEquals("not json", Files.readString(parisTripShardFile));
+    }
+
+    @Test
+    public void readItineraryList_findByAttractionKeyword_daysNotLoaded() throws Exception {
+        Path filePath = testFolder.resolve("il.json");
+        new ShardedItineraryListStorage(filePath).saveItineraryList(getTypicalItineraryList());
+
+        ItineraryList readBack = (ItineraryList) new ShardedItineraryListStorage(filePath).readItineraryList().get();
+        Predicate<Itinerary> matcher = readBack.getKeywordMatcher(List.of("eiffel"));
+        List<Itinerary> itineraries = readBack.getItineraryList();
+        assertFalse(matcher.test(itineraries.get(0)));
+        assertTrue(matcher.test(itineraries.get(1)));
+        assertTrue(itineraries.stream().noneMatch(Itinerary::isDaysLoaded));
+    }
+
+    @Test
+    public void deleteItineraryList_withShardFiles_allDeleted() throws Exception {
+        Path filePath = testFolder.resolve("il.json");
+        new ShardedItineraryListStorage(filePath).saveItineraryList(getTypicalItineraryList());
+
+        ShardedItineraryListStorage.deleteItineraryList(filePath);
+        assertFalse(Files.exists(filePath));
+        assertFalse(Files.exists(ShardedItineraryListStorage.getShardDirectory(filePath)));
+    }
+
+    @Test
+    public void saveItineraryList_nullItineraryList_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new ShardedItineraryListStorage(testFolder.resolve("il.json")).saveItineraryList(null));
+    }
+}
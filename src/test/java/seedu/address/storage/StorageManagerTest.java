@@ -1,19 +1,32 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAttractions.BOTANIC_GARDENS;
+import static seedu.address.testutil.TypicalAttractions.JURONG_LAKE;
 import static seedu.address.testutil.TypicalAttractions.getTypicalAttractionList;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+import static seedu.address.testutil.TypicalItineraries.getTypicalItineraryList;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.AttractionList;
+import seedu.address.model.ItineraryList;
 import seedu.address.model.ReadOnlyAttractionList;
 import seedu.address.model.UserPrefs;
+import seedu.address.testutil.ItineraryAttractionBuilder;
+import seedu.address.testutil.ItineraryBuilder;
 
 public class StorageManagerTest {
 
@@ -61,6 +74,127 @@ public class StorageManagerTest {
         assertEquals(original, new AttractionList(retrieved));
     }
 
+    @Test
+    public void saveAttractionList_unchangedSinceLastSave_skipsWrite() throws Exception {
+        AttractionList original = getTypicalAttractionList();
+        storageManager.saveAttractionList(original);
+        Files.delete(storageManager.getAttractionListFilePath());
+
+        // not modified since last save -> file not rewritten
+        storageManager.saveAttractionList(original);
+        assertFalse(Files.exists(storageManager.getAttractionListFilePath()));
+
+        // modified since last save -> file rewritten
+        original.removeAttraction(original.getAttractionList().get(0));
+        storageManager.saveAttractionList(original);
+        assertEquals(original, new AttractionList(storageManager.readAttractionList().get()));
+    }
+
+    @Test
+    public void saveItineraryList_unchangedSinceLastSave_skipsWrite() throws Exception {
+        ItineraryList original = getTypicalItineraryList();
+        storageManager.saveItineraryList(original);
+        Files.delete(storageManager.getItineraryListFilePath());
+
+        // not modified since last save -> file not rewritten
+        storageManager.saveItineraryList(original);
+        assertFalse(Files.exists(storageManager.getItineraryListFilePath()));
+
+        // modified in place since last save -> file rewritten
+        original.indicateModified(original.getItineraryList().get(0));
+        storageManager.saveItineraryList(original);
+        assertTrue(Files.exists(storageManager.getItineraryListFilePath()));
+    }
+
+    @Test
+    public void saveItineraryList_attractionInAttractionList_savedAsReference() throws Exception {
+        storageManager.saveAttractionList(getTypicalAttractionList());
+        ItineraryList original = getItineraryListReferencingBotanicGardens();
+        storageManager.saveItineraryList(original);
+
+        String content = Files.readString(storageManager.getItineraryListFilePath());
+        assertTrue(content.contains("\"attractionId\""));
+        assertFalse(content.contains(BOTANIC_GARDENS.getPhone().value));
+        // attraction not in the attraction list -> stored in full
+        assertTrue(content.contains(ItineraryAttractionBuilder.DEFAULT_PHONE));
+        assertEquals(original, new ItineraryList(storageManager.readItineraryList().get()));
+    }
+
+    @Test
+    public void readItineraryList_attractionsStoredInFull_migratedToReferences() throws Exception {
+        storageManager.saveAttractionList(getTypicalAttractionList());
+        ItineraryList original = getItineraryListReferencingBotanicGardens();
+        new JsonItineraryListStorage(storageManager.getItineraryListFilePath()).saveItineraryList(original);
+        assertFalse(Files.readString(storageManager.getItineraryListFilePath()).contains("\"attractionId\""));
+
+        storageManager.readAttractionList();
+        assertEquals(original, new ItineraryList(storageManager.readItineraryList().get()));
+        assertTrue(Files.readString(storageManager.getItineraryListFilePath()).contains("\"attractionId\""));
+    }
+
+    @Test
+    public void saveAttractionList_changed_itineraryListRewritten() throws Exception {
+        AttractionList attractionList = getTypicalAttractionList();
+        storageManager.saveAttractionList(attractionList);
+        ItineraryList itineraryList = getItineraryListReferencingBotanicGardens();
+        storageManager.saveItineraryList(itineraryList);
+        Files.delete(storageManager.getItineraryListFilePath());
+
+        // attraction list changed -> references may change, so unchanged itinerary list rewritten
+        attractionList.removeAttraction(BOTANIC_GARDENS);
+        storageManager.saveAttractionList(attractionList);
+        storageManager.saveItineraryList(itineraryList);
+        assertTrue(Files.readString(storageManager.getItineraryListFilePath())
+                .contains(BOTANIC_GARDENS.getPhone().value));
+    }
+
+    @Test
+    public void saveAttractionList_unreferencedAttractionChanged_itineraryListNotRewritten() throws Exception {
+        AttractionList attractionList = getTypicalAttractionList();
+        storageManager.saveAttractionList(attractionList);
+        ItineraryList itineraryList = getItineraryListReferencingBotanicGardens();
+        storageManager.saveItineraryList(itineraryList);
+        Files.delete(storageManager.getItineraryListFilePath());
+
+        attractionList.removeAttraction(JURONG_LAKE);
+        storageManager.saveAttractionList(attractionList);
+        storageManager.saveItineraryList(itineraryList);
+        assertFalse(Files.exists(storageManager.getItineraryListFilePath()));
+    }
+
+    @Test
+    public void readItineraryList_referencedAttractionMissing_throwsDataConversionException() throws Exception {
+        storageManager.saveAttractionList(getTypicalAttractionList());
+        storageManager.saveItineraryList(getItineraryListReferencingBotanicGardens());
+
+        setUp();
+        assertThrows(DataConversionException.class, () ->
+                storageManager.readItineraryList(() -> Optional.of(new AttractionList())));
+    }
+
+    @Test
+    public void readItineraryList_attractionListSupplied_referencesResolved() throws Exception {
+        AttractionList attractionList = getTypicalAttractionList();
+        storageManager.saveAttractionList(attractionList);
+        ItineraryList original = getItineraryListReferencingBotanicGardens();
+        storageManager.saveItineraryList(original);
+
+        setUp();
+        assertEquals(original, new ItineraryList(
+                storageManager.readItineraryList(() -> Optional.of(attractionList)).get()));
+    }
+
+    private ItineraryList getItineraryListReferencingBotanicGardens() {
+        ItineraryList itineraryList = new ItineraryList();
+        itineraryList.addItinerary(new ItineraryBuilder()
+                .withItineraryAttraction(new ItineraryAttractionBuilder().withAttraction(BOTANIC_GARDENS).build(),
+                        INDEX_FIRST)
+                .withItineraryAttraction(new ItineraryAttractionBuilder().withStartTime("1500").withEndTime("1600")
+                        .build(), INDEX_FIRST)
+                .build());
+        return itineraryList;
+    }
+
     @Test
     public void getTrackPadFilePath() {
         assertNotNull(storageManager.getAttractionListFilePath());
@@ -41,16 +41,16 @@ public class EditItineraryAttractionDescriptorBuilder {
     public EditItineraryAttractionDescriptorBuilder(ItineraryAttraction attraction) {
         descriptor = new EditItineraryAttractionDescriptor();
         descriptor.setName(attraction.getName());
-        descriptor.setPhone(attraction.getPhone());
-        descriptor.setEmail(attraction.getEmail());
-        descriptor.setAddress(attraction.getAddress());
-        descriptor.setDescription(attraction.getDescription());
-        descriptor.setLocation(attraction.getLocation());
-        descriptor.setOpeningHours(attraction.getOpeningHours());
-        descriptor.setPriceRange(attraction.getPriceRange());
-        descriptor.setRating(attraction.getRating());
-        descriptor.setVisited(attraction.getVisited());
-        descriptor.setTags(attraction.getTags());
+        descriptor.setPhone(attraction.getAttraction().getPhone());
+        descriptor.setEmail(attraction.getAttraction().getEmail());
+        descriptor.setAddress(attraction.getAttraction().getAddress());
+        descriptor.setDescription(attraction.getAttraction().getDescription());
+        descriptor.setLocation(attraction.getAttraction().getLocation());
+        descriptor.setOpeningHours(attraction.getAttraction().getOpeningHours());
+        descriptor.setPriceRange(attraction.getAttraction().getPriceRange());
+        descriptor.setRating(attraction.getAttraction().getRating());
+        descriptor.setVisited(attraction.getAttraction().getVisited());
+        descriptor.setTags(attraction.getAttraction().getTags());
         descriptor.setStartTime(attraction.getStartTime());
         descriptor.setEndTime(attraction.getEndTime());
     }
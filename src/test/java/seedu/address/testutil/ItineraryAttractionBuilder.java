@@ -76,16 +76,16 @@ public class ItineraryAttractionBuilder {
      */
     public ItineraryAttractionBuilder(ItineraryAttraction iaToCopy) {
         name = iaToCopy.getName();
-        phone = iaToCopy.getPhone();
-        email = iaToCopy.getEmail();
-        address = iaToCopy.getAddress();
-        description = iaToCopy.getDescription();
-        location = iaToCopy.getLocation();
-        openingHours = iaToCopy.getOpeningHours();
-        priceRange = iaToCopy.getPriceRange();
-        rating = iaToCopy.getRating();
-        visited = iaToCopy.getVisited();
-        tags = new HashSet<>(iaToCopy.getTags());
+        phone = iaToCopy.getAttraction().getPhone();
+        email = iaToCopy.getAttraction().getEmail();
+        address = iaToCopy.getAttraction().getAddress();
+        description = iaToCopy.getAttraction().getDescription();
+        location = iaToCopy.getAttraction().getLocation();
+        openingHours = iaToCopy.getAttraction().getOpeningHours();
+        priceRange = iaToCopy.getAttraction().getPriceRange();
+        rating = iaToCopy.getAttraction().getRating();
+        visited = iaToCopy.getAttraction().getVisited();
+        tags = new HashSet<>(iaToCopy.getAttraction().getTags());
         startTime = iaToCopy.getStartTime();
         endTime = iaToCopy.getEndTime();
     }
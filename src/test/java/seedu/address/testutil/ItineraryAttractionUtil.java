@@ -43,18 +43,18 @@ public class ItineraryAttractionUtil {
     private static String getItineraryAttractionDetails(ItineraryAttraction attraction) {
         StringBuilder sb = new StringBuilder();
         sb.append(PREFIX_NAME + attraction.getName().fullName + " ");
-        sb.append(PREFIX_PHONE + attraction.getPhone().value + " ");
-        sb.append(PREFIX_EMAIL + attraction.getEmail().value + " ");
-        sb.append(PREFIX_ADDRESS + attraction.getAddress().value + " ");
-        sb.append(PREFIX_DESCRIPTION + attraction.getDescription().value + " ");
-        sb.append(PREFIX_LOCATION + attraction.getLocation().value + " ");
-        sb.append(PREFIX_OPENING_HOURS + attraction.getOpeningHours().value + " ");
-        sb.append(PREFIX_PRICE_RANGE + attraction.getPriceRange().value + " ");
-        sb.append(PREFIX_RATING + attraction.getRating().value + " ");
-        sb.append(PREFIX_VISITED + attraction.getVisited().value + " ");
+        sb.append(PREFIX_PHONE + attraction.getAttraction().getPhone().value + " ");
+        sb.append(PREFIX_EMAIL + attraction.getAttraction().getEmail().value + " ");
+        sb.append(PREFIX_ADDRESS + attraction.getAttraction().getAddress().value + " ");
+        sb.append(PREFIX_DESCRIPTION + attraction.getAttraction().getDescription().value + " ");
+        sb.append(PREFIX_LOCATION + attraction.getAttraction().getLocation().value + " ");
+        sb.append(PREFIX_OPENING_HOURS + attraction.getAttraction().getOpeningHours().value + " ");
+        sb.append(PREFIX_PRICE_RANGE + attraction.getAttraction().getPriceRange().value + " ");
+        sb.append(PREFIX_RATING + attraction.getAttraction().getRating().value + " ");
+        sb.append(PREFIX_VISITED + attraction.getAttraction().getVisited().value + " ");
         sb.append(PREFIX_START_TIME + attraction.getStartTime().toString() + " ");
         sb.append(PREFIX_END_TIME + attraction.getEndTime().toString() + " ");
-        attraction.getTags().stream().forEach(s -> sb.append(PREFIX_TAG + s.tagName + " "));
+        attraction.getAttraction().getTags().stream().forEach(s -> sb.append(PREFIX_TAG + s.tagName + " "));
         return sb.toString();
     }
 
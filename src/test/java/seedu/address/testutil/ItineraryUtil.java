@@ -31,7 +31,7 @@ public class ItineraryUtil {
         sb.append(PREFIX_DESCRIPTION + itinerary.getDescription().value + " ");
         sb.append(PREFIX_START_DATE + itinerary.getStartDate().toString() + " ");
         sb.append(PREFIX_END_DATE + itinerary.getEndDate().toString() + " ");
-        sb.append(PREFIX_BUDGET + itinerary.getBudget().value + " ");
+        sb.append(PREFIX_BUDGET + itinerary.getBudget().getValue() + " ");
         return sb.toString();
     }
 
@@ -48,7 +48,7 @@ public class ItineraryUtil {
         descriptor.getEndDate().ifPresent(endDate ->
                 sb.append(PREFIX_END_DATE).append(endDate.toString()).append(" "));
         descriptor.getBudget().ifPresent(budget ->
-                sb.append(PREFIX_BUDGET).append(budget.value).append(" "));
+                sb.append(PREFIX_BUDGET).append(budget.getValue()).append(" "));
         return sb.toString();
     }
 }